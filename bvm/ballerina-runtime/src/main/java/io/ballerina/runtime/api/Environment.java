@@ -21,6 +21,8 @@ import io.ballerina.runtime.api.async.StrandMetadata;
 import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -119,4 +121,14 @@ public class Environment {
     public Object getStrandLocal(String key) {
         return strand.getProperty(key);
     }
+
+    /**
+     * Gets a copy of the values stored in the strand, which can be passed as the properties of the strands started
+     * on behalf of the current strand.
+     *
+     * @return values stored in the strand.
+     */
+    public Map<String, Object> getStrandLocals() {
+        return new HashMap<>(strand.getGlobalProperties());
+    }
 }
@@ -51,8 +51,6 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.STRING_LANG_LIB;
@@ -117,25 +115,23 @@ public class StringUtils {
         if (s == null) {
             return null;
         }
-        List<Integer> highSurrogates = null;
+        int highSurrogateCount = 0;
         for (int i = 0; i < s.length(); i++) {
-            char c = s.charAt(i);
-            if (Character.isHighSurrogate(c)) {
-                if (highSurrogates == null) {
-                    highSurrogates = new ArrayList<>();
-                }
-                highSurrogates.add(i - highSurrogates.size());
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                highSurrogateCount++;
             }
         }
-        if (highSurrogates == null) {
+        if (highSurrogateCount == 0) {
             return new BmpStringValue(s);
         }
 
-        int[] highSurrogatesArr = new int[highSurrogates.size()];
-
-        for (int i = 0; i < highSurrogates.size(); i++) {
-            Integer highSurrogate = highSurrogates.get(i);
-            highSurrogatesArr[i] = highSurrogate;
+        int[] highSurrogatesArr = new int[highSurrogateCount];
+        int count = 0;
+        for (int i = 0; count < highSurrogateCount; i++) {
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                highSurrogatesArr[count] = i - count;
+                count++;
+            }
         }
         return new NonBmpStringValue(s, highSurrogatesArr);
     }
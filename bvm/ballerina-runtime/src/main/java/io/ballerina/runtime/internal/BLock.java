@@ -33,14 +33,22 @@ public class BLock {
 
     private ArrayDeque<Strand> waitingForLock;
 
+    private final BLockStore lockStore;
+
     public BLock() {
+        this(null);
+    }
+
+    public BLock(BLockStore lockStore) {
         this.current = new ArrayDeque<>();
         this.waitingForLock = new ArrayDeque<>();
+        this.lockStore = lockStore;
     }
 
     public synchronized boolean lock(Strand strand) {
         if (isLockFree() || lockedBySameContext(strand)) {
             this.current.offerLast(strand);
+            strand.addAcquiredLock(this);
             return true;
         }
 
@@ -54,13 +62,23 @@ public class BLock {
 
     public synchronized void unlock() {
         //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
+        Strand strand = this.current.removeLast();
+        strand.removeAcquiredLock(this);
         if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+            Strand waitingStrand = this.waitingForLock.removeFirst();
+            waitingStrand.scheduler.unblockStrand(waitingStrand);
         }
     }
 
+    /**
+     * Returns the lock store this lock belongs to.
+     *
+     * @return the lock store, or null if the lock does not belong to a lock store
+     */
+    public BLockStore getLockStore() {
+        return this.lockStore;
+    }
+
     public boolean isLockFree() {
         return this.current.isEmpty();
     }
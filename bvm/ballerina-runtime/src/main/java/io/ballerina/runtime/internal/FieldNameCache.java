@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of the field names read by a JSON parser.
+ * <p>
+ * The objects in a JSON document mostly repeat the same few field names, as in an array of records. The cache makes
+ * the maps created for them share one {@link BString} per field name, instead of creating a new one for each field.
+ * Long field names are not cached, and once the cache is full new field names are created without being added, so a
+ * document with many distinct field names does not grow it without bound.
+ * <p>
+ * This is not thread safe; it is owned by a single parser.
+ *
+ * @since 2201.2.0
+ */
+class FieldNameCache {
+
+    private static final int MAX_ENTRIES = 1024;
+    private static final int MAX_FIELD_NAME_LENGTH = 64;
+
+    private final Map<String, BString> fieldNames = new HashMap<>();
+
+    BString get(String fieldName) {
+        if (fieldName.length() > MAX_FIELD_NAME_LENGTH) {
+            return StringUtils.fromString(fieldName);
+        }
+        BString value = this.fieldNames.get(fieldName);
+        if (value == null) {
+            value = StringUtils.fromString(fieldName);
+            if (this.fieldNames.size() < MAX_ENTRIES) {
+                this.fieldNames.put(fieldName, value);
+            }
+        }
+        return value;
+    }
+}
@@ -40,6 +40,7 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.Deque;
 
@@ -82,6 +83,9 @@ public class JsonParser {
      * @throws BError for any parsing error
      */
     public static Object parse(InputStream in, String charsetName) throws BError {
+        if (isUtf8(charsetName)) {
+            return new JsonPullParser(in).parse(JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        }
         try {
             Object jsonObj = parse(new InputStreamReader(new BufferedInputStream(in), charsetName),
                                    JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
@@ -92,6 +96,15 @@ public class JsonParser {
         }
     }
 
+    private static boolean isUtf8(String charsetName) {
+        try {
+            return StandardCharsets.UTF_8.equals(Charset.forName(charsetName));
+        } catch (IllegalArgumentException e) {
+            // unknown charsets are reported by the reader based parser
+            return false;
+        }
+    }
+
     /**
      * Parses the contents in the given string and returns a json.
      *
@@ -115,6 +128,34 @@ public class JsonParser {
         return parse(new StringReader(jsonStr), mode);
     }
 
+    /**
+     * Converts a numeric JSON literal to the value it represents in the given mode.
+     *
+     * @param str  the numeric literal
+     * @param mode the mode to use when processing numeric values
+     * @return the numeric value
+     * @throws NumberFormatException if the literal is not a valid number
+     */
+    static Object toNumericValue(String str, JsonUtils.NonStringValueProcessingMode mode) {
+        switch (mode) {
+            case FROM_JSON_FLOAT_STRING:
+                return Double.parseDouble(str);
+            case FROM_JSON_DECIMAL_STRING:
+                return new DecimalValue(str);
+            default:
+                if (isNegativeZero(str)) {
+                    return Double.parseDouble(str);
+                } else if (str.indexOf('.') >= 0) {
+                    return new DecimalValue(str);
+                }
+                return ValueCache.valueOf(Long.parseLong(str));
+        }
+    }
+
+    private static boolean isNegativeZero(String str) {
+        return '-' == str.charAt(0) && 0 == Double.parseDouble(str);
+    }
+
     private static Object changeForBString(Object jsonObj) {
         if (jsonObj instanceof String) {
             return StringUtils.fromString((String) jsonObj);
@@ -210,7 +251,8 @@ public class JsonParser {
 
         private Object currentJsonNode;
         private Deque<Object> nodesStack;
-        private Deque<String> fieldNames;
+        private Deque<BString> fieldNames;
+        private final FieldNameCache fieldNameCache = new FieldNameCache();
 
         private StringBuilder hexBuilder = new StringBuilder(4);
         private char[] charBuff = new char[1024];
@@ -311,8 +353,7 @@ public class JsonParser {
 
             Object parentNode = this.nodesStack.pop();
             if (TypeChecker.getType(parentNode).getTag() == TypeTags.MAP_TAG) {
-                ((MapValueImpl<BString, Object>) parentNode).put(StringUtils.fromString(fieldNames.pop()),
-                                                                 currentJsonNode);
+                ((MapValueImpl<BString, Object>) parentNode).put(fieldNames.pop(), currentJsonNode);
                 currentJsonNode = parentNode;
                 return FIELD_END_STATE;
             }
@@ -561,7 +602,7 @@ public class JsonParser {
         }
 
         private void processFieldName() {
-            this.fieldNames.push(this.value());
+            this.fieldNames.push(this.fieldNameCache.get(this.value()));
         }
 
         /**
@@ -675,7 +716,7 @@ public class JsonParser {
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
                         ((MapValueImpl<BString, Object>) sm.currentJsonNode).put(
-                                StringUtils.fromString(sm.fieldNames.pop()), StringUtils.fromString(sm.value()));
+                                sm.fieldNames.pop(), StringUtils.fromString(sm.value()));
                         state = FIELD_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_FIELD_ESC_CHAR_PROCESSING_STATE;
@@ -846,21 +887,7 @@ public class JsonParser {
             String str = value();
             if (str.indexOf('.') >= 0) {
                 try {
-                    switch (mode) {
-                        case FROM_JSON_FLOAT_STRING:
-                            setValueToJsonType(type, Double.parseDouble(str));
-                            break;
-                        case FROM_JSON_DECIMAL_STRING:
-                            setValueToJsonType(type, new DecimalValue(str));
-                            break;
-                        default:
-                            if (isNegativeZero(str)) {
-                                setValueToJsonType(type, Double.parseDouble(str));
-                            } else {
-                                setValueToJsonType(type, new DecimalValue(str));
-                            }
-                            break;
-                    }
+                    setValueToJsonType(type, toNumericValue(str, mode));
                 } catch (NumberFormatException ignore) {
                     throw new JsonParserException("unrecognized token '" + str + "'");
                 }
@@ -873,7 +900,7 @@ public class JsonParser {
                             break;
                         case FIELD:
                             ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.TRUE);
+                                    this.fieldNames.pop(), Boolean.TRUE);
                             break;
                         case VALUE:
                             currentJsonNode = Boolean.TRUE;
@@ -888,7 +915,7 @@ public class JsonParser {
                             break;
                         case FIELD:
                             ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.FALSE);
+                                    this.fieldNames.pop(), Boolean.FALSE);
                             break;
                         case VALUE:
                             currentJsonNode = Boolean.FALSE;
@@ -903,7 +930,7 @@ public class JsonParser {
                             break;
                         case FIELD:
                             ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), null);
+                                    this.fieldNames.pop(), null);
                             break;
                         case VALUE:
                             currentJsonNode = null;
@@ -913,21 +940,7 @@ public class JsonParser {
                     }
                 } else {
                     try {
-                        switch (mode) {
-                            case FROM_JSON_FLOAT_STRING:
-                                setValueToJsonType(type, Double.parseDouble(str));
-                                break;
-                            case FROM_JSON_DECIMAL_STRING:
-                                setValueToJsonType(type, new DecimalValue(str));
-                                break;
-                            default:
-                                if (isNegativeZero(str)) {
-                                    setValueToJsonType(type, Double.parseDouble(str));
-                                } else {
-                                    setValueToJsonType(type, Long.parseLong(str));
-                                }
-                                break;
-                        }
+                        setValueToJsonType(type, toNumericValue(str, mode));
                     } catch (NumberFormatException ignore) {
                         throw new JsonParserException("unrecognized token '" + str + "'");
                     }
@@ -942,7 +955,7 @@ public class JsonParser {
                     break;
                 case FIELD:
                     ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                            StringUtils.fromString(this.fieldNames.pop()), value);
+                            this.fieldNames.pop(), value);
                     break;
                 default:
                     currentJsonNode = value;
@@ -950,10 +963,6 @@ public class JsonParser {
             }
         }
 
-        private boolean isNegativeZero(String str) {
-            return '-' == str.charAt(0) && 0 == Double.parseDouble(str);
-        }
-
         /**
          * Represents the state during a non-string value is defined.
          */
@@ -0,0 +1,624 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING;
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING;
+
+/**
+ * A pull parser which reads JSON directly from UTF-8 encoded bytes.
+ * <p>
+ * The document is read on demand through {@link #next()}, so callers can walk or skip parts of a document without
+ * materializing it. Strings are scanned eight bytes at a time, and strings which are plain ASCII within the read
+ * buffer are created without decoding them character by character.
+ *
+ * @since 2201.2.0
+ */
+public class JsonPullParser {
+
+    /**
+     * Events produced while reading a JSON document.
+     */
+    public enum Event {
+        START_OBJECT, END_OBJECT, START_ARRAY, END_ARRAY, FIELD_NAME, STRING, NUMBER, TRUE, FALSE, NULL, END_DOCUMENT
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int EOF = -1;
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class,
+                                                                                    ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long QUOTES = ONES * '"';
+    private static final long REV_SOLS = ONES * '\\';
+    private static final long SPACES = ONES * ' ';
+
+    private static final char REPLACEMENT_CHAR = (char) 0xFFFD;
+
+    // States deciding what is expected by the next call to next()
+    private static final int DOCUMENT_START = 0;
+    private static final int VALUE = 1;
+    private static final int FIRST_ELEMENT = 2;
+    private static final int FIRST_FIELD = 3;
+    private static final int NON_FIRST_FIELD = 4;
+    private static final int FIELD_VALUE = 5;
+    private static final int VALUE_END = 6;
+    private static final int DOCUMENT_END = 7;
+
+    private final InputStream in;
+    private final FieldNameCache fieldNameCache = new FieldNameCache();
+    private final byte[] buff = new byte[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+    private long consumed;
+
+    private char[] charBuff = new char[256];
+    private int charBuffIndex;
+
+    private boolean[] objectStack = new boolean[32];
+    private int depth;
+    private int state = DOCUMENT_START;
+    private String text;
+
+    private int line = 1;
+    private long lineStart;
+
+    public JsonPullParser(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Parses the whole document and returns it as a json value.
+     *
+     * @param mode the mode to use when processing numeric values
+     * @return JSON value
+     * @throws BError for any parsing error
+     */
+    public Object parse(JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        Object value = readValue(next(), mode);
+        if (next() != Event.END_DOCUMENT) {
+            throw error("JSON document has already ended");
+        }
+        return value;
+    }
+
+    /**
+     * Reads the next event of the document.
+     *
+     * @return the next event
+     * @throws BError for any parsing error
+     */
+    public Event next() throws BError {
+        try {
+            return readEvent();
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Returns the text of the current field name, string or number event.
+     *
+     * @return text of the current event
+     */
+    public String getText() {
+        return this.text;
+    }
+
+    /**
+     * Returns the value of the current number event.
+     *
+     * @param mode the mode to use when processing numeric values
+     * @return the numeric value
+     * @throws BError if the number is not valid
+     */
+    public Object getNumber(JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        try {
+            return JsonParser.toNumericValue(this.text, mode);
+        } catch (NumberFormatException e) {
+            throw error("unrecognized token '" + this.text + "'");
+        }
+    }
+
+    /**
+     * Builds the json value starting at the given event, which must be the event last returned by {@link #next()}.
+     * Once this returns, the parser is positioned at the end of the value.
+     *
+     * @param startEvent the event the value starts with
+     * @param mode       the mode to use when processing numeric values
+     * @return JSON value
+     * @throws BError for any parsing error
+     */
+    @SuppressWarnings("unchecked")
+    public Object readValue(Event startEvent, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        Type jsonType = getJsonType(mode);
+        BMapType mapType = null;
+        BArrayType arrayType = null;
+
+        List<Object> parents = new ArrayList<>();
+        List<BString> parentFieldNames = new ArrayList<>();
+        Object current = null;
+        BString fieldName = null;
+        Event currentEvent = startEvent;
+        while (true) {
+            Object value;
+            switch (currentEvent) {
+                case START_OBJECT:
+                case START_ARRAY:
+                    if (current != null) {
+                        parents.add(current);
+                        parentFieldNames.add(fieldName);
+                    }
+                    if (currentEvent == Event.START_OBJECT) {
+                        if (mapType == null) {
+                            mapType = new BMapType(jsonType);
+                        }
+                        current = new MapValueImpl<>(mapType);
+                    } else {
+                        if (arrayType == null) {
+                            arrayType = new BArrayType(jsonType);
+                        }
+                        current = new ArrayValueImpl(arrayType);
+                    }
+                    fieldName = null;
+                    currentEvent = next();
+                    continue;
+                case FIELD_NAME:
+                    fieldName = this.fieldNameCache.get(this.text);
+                    currentEvent = next();
+                    continue;
+                case END_OBJECT:
+                case END_ARRAY:
+                    value = current;
+                    if (parents.isEmpty()) {
+                        return value;
+                    }
+                    current = parents.remove(parents.size() - 1);
+                    fieldName = parentFieldNames.remove(parentFieldNames.size() - 1);
+                    break;
+                case STRING:
+                    value = StringUtils.fromString(this.text);
+                    break;
+                case NUMBER:
+                    value = getNumber(mode);
+                    break;
+                case TRUE:
+                    value = Boolean.TRUE;
+                    break;
+                case FALSE:
+                    value = Boolean.FALSE;
+                    break;
+                case NULL:
+                    value = null;
+                    break;
+                default:
+                    throw error("unexpected end of JSON document");
+            }
+            if (current == null) {
+                return value;
+            }
+            if (current instanceof MapValueImpl) {
+                ((MapValueImpl<BString, Object>) current).put(fieldName, value);
+            } else {
+                ((ArrayValue) current).append(value);
+            }
+            currentEvent = next();
+        }
+    }
+
+    private static Type getJsonType(JsonUtils.NonStringValueProcessingMode mode) {
+        if (mode == FROM_JSON_DECIMAL_STRING) {
+            return PredefinedTypes.TYPE_JSON_DECIMAL;
+        } else if (mode == FROM_JSON_FLOAT_STRING) {
+            return PredefinedTypes.TYPE_JSON_FLOAT;
+        }
+        return PredefinedTypes.TYPE_JSON;
+    }
+
+    private Event readEvent() throws IOException {
+        int ch;
+        switch (this.state) {
+            case DOCUMENT_START:
+                ch = skipWhitespace();
+                if (ch == EOF) {
+                    throw error("empty JSON document");
+                }
+                return readValueStart(ch);
+            case VALUE:
+            case FIELD_VALUE:
+                ch = skipWhitespace();
+                if (this.state == FIELD_VALUE) {
+                    if (ch != ':') {
+                        throw expected(":");
+                    }
+                    ch = skipWhitespace();
+                }
+                if (ch == EOF) {
+                    throw error("unexpected end of JSON document");
+                }
+                return readValueStart(ch);
+            case FIRST_ELEMENT:
+                ch = skipWhitespace();
+                if (ch == ']') {
+                    return endContainer(Event.END_ARRAY);
+                } else if (ch == EOF) {
+                    throw error("unexpected end of JSON document");
+                }
+                return readValueStart(ch);
+            case FIRST_FIELD:
+            case NON_FIRST_FIELD:
+                ch = skipWhitespace();
+                if (ch == '"') {
+                    this.text = readString();
+                    this.state = FIELD_VALUE;
+                    return Event.FIELD_NAME;
+                } else if (ch == '}' && this.state == FIRST_FIELD) {
+                    return endContainer(Event.END_OBJECT);
+                }
+                throw this.state == FIRST_FIELD ? expected("\"", "}") : expected("\"");
+            case VALUE_END:
+                ch = skipWhitespace();
+                if (this.depth == 0) {
+                    if (ch != EOF) {
+                        throw error("JSON document has already ended");
+                    }
+                    this.state = DOCUMENT_END;
+                    return Event.END_DOCUMENT;
+                }
+                if (ch == EOF) {
+                    throw error("unexpected end of JSON document");
+                }
+                if (this.objectStack[this.depth - 1]) {
+                    if (ch == ',') {
+                        this.state = NON_FIRST_FIELD;
+                        return readEvent();
+                    } else if (ch == '}') {
+                        return endContainer(Event.END_OBJECT);
+                    }
+                    throw expected(",", "}");
+                }
+                if (ch == ',') {
+                    this.state = VALUE;
+                    return readEvent();
+                } else if (ch == ']') {
+                    return endContainer(Event.END_ARRAY);
+                }
+                throw expected(",", "]");
+            default:
+                return Event.END_DOCUMENT;
+        }
+    }
+
+    private Event readValueStart(int ch) throws IOException {
+        switch (ch) {
+            case '{':
+                startContainer(true);
+                this.state = FIRST_FIELD;
+                return Event.START_OBJECT;
+            case '[':
+                startContainer(false);
+                this.state = FIRST_ELEMENT;
+                return Event.START_ARRAY;
+            case '"':
+                this.text = readString();
+                this.state = VALUE_END;
+                return Event.STRING;
+            default:
+                this.state = VALUE_END;
+                return readNonStringValue(ch);
+        }
+    }
+
+    private void startContainer(boolean isObject) {
+        if (this.depth == this.objectStack.length) {
+            boolean[] newStack = new boolean[this.depth * 2];
+            System.arraycopy(this.objectStack, 0, newStack, 0, this.depth);
+            this.objectStack = newStack;
+        }
+        this.objectStack[this.depth++] = isObject;
+    }
+
+    private Event endContainer(Event endEvent) {
+        this.depth--;
+        this.state = VALUE_END;
+        return endEvent;
+    }
+
+    private Event readNonStringValue(int first) throws IOException {
+        this.charBuffIndex = 0;
+        int ch = first;
+        while (true) {
+            if (ch < 0x80) {
+                append((char) ch);
+            } else {
+                appendUtf8(ch);
+            }
+            ch = peek();
+            if (ch == EOF || ch == ',' || ch == '}' || ch == ']' || ch == '{' || ch == '[' || isWhitespace(ch)) {
+                break;
+            }
+            this.pos++;
+        }
+        String str = new String(this.charBuff, 0, this.charBuffIndex);
+        this.text = str;
+        if ("true".equals(str)) {
+            return Event.TRUE;
+        } else if ("false".equals(str)) {
+            return Event.FALSE;
+        } else if ("null".equals(str)) {
+            return Event.NULL;
+        }
+        return Event.NUMBER;
+    }
+
+    private String readString() throws IOException {
+        int start = this.pos;
+        int end = scanPlainAscii(start);
+        if (end < this.limit && this.buff[end] == '"') {
+            this.pos = end + 1;
+            return new String(this.buff, start, end - start, StandardCharsets.ISO_8859_1);
+        }
+
+        this.charBuffIndex = 0;
+        while (true) {
+            end = scanPlainAscii(this.pos);
+            appendAscii(this.pos, end);
+            this.pos = end;
+            int ch = read();
+            if (ch == '"') {
+                return new String(this.charBuff, 0, this.charBuffIndex);
+            } else if (ch == '\\') {
+                readEscapedCharacter();
+            } else if (ch == EOF) {
+                throw error("unexpected end of JSON document");
+            } else if (ch < 0x80) {
+                if (ch == '\n') {
+                    newLine();
+                }
+                append((char) ch);
+            } else {
+                appendUtf8(ch);
+            }
+        }
+    }
+
+    /**
+     * Returns the position of the first byte from the given position which is a quote, a reverse solidus, a control
+     * character or a non-ASCII byte, or the buffer limit if there is none.
+     */
+    private int scanPlainAscii(int from) {
+        byte[] bytes = this.buff;
+        int i = from;
+        for (; i + Long.BYTES <= this.limit; i += Long.BYTES) {
+            long word = (long) LONG_VIEW.get(bytes, i);
+            long quotes = word ^ QUOTES;
+            long revSols = word ^ REV_SOLS;
+            long special = ((quotes - ONES) & ~quotes) | ((revSols - ONES) & ~revSols) | ((word - SPACES) & ~word) |
+                    word;
+            if ((special & HIGH_BITS) != 0) {
+                break;
+            }
+        }
+        for (; i < this.limit; i++) {
+            byte b = bytes[i];
+            // non-ASCII bytes are negative
+            if (b < ' ' || b == '"' || b == '\\') {
+                break;
+            }
+        }
+        return i;
+    }
+
+    private void readEscapedCharacter() throws IOException {
+        int ch = read();
+        switch (ch) {
+            case '"':
+            case '\\':
+            case '/':
+                append((char) ch);
+                break;
+            case 'b':
+                append('\b');
+                break;
+            case 'f':
+                append('\f');
+                break;
+            case 'n':
+                append('\n');
+                break;
+            case 'r':
+                append('\r');
+                break;
+            case 't':
+                append('\t');
+                break;
+            case 'u':
+                int codeUnit = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw expected("hexadecimal value of an unicode character");
+                    }
+                    codeUnit = (codeUnit << 4) | digit;
+                }
+                append((char) codeUnit);
+                break;
+            case EOF:
+                throw error("unexpected end of JSON document");
+            default:
+                throw expected("escaped characters");
+        }
+    }
+
+    /**
+     * Decodes the UTF-8 sequence starting with the given lead byte. Malformed sequences are replaced with
+     * {@link #REPLACEMENT_CHAR}, as done by the decoder used for other charsets.
+     */
+    private void appendUtf8(int lead) throws IOException {
+        int continuations;
+        int codePoint;
+        int min = 0x80;
+        int max = 0xBF;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            continuations = 1;
+            codePoint = lead & 0x1F;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            continuations = 2;
+            codePoint = lead & 0x0F;
+            if (lead == 0xE0) {
+                min = 0xA0;
+            } else if (lead == 0xED) {
+                max = 0x9F;
+            }
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            continuations = 3;
+            codePoint = lead & 0x07;
+            if (lead == 0xF0) {
+                min = 0x90;
+            } else if (lead == 0xF4) {
+                max = 0x8F;
+            }
+        } else {
+            append(REPLACEMENT_CHAR);
+            return;
+        }
+        for (int i = 0; i < continuations; i++) {
+            int next = peek();
+            if (next < min || next > max) {
+                append(REPLACEMENT_CHAR);
+                return;
+            }
+            this.pos++;
+            codePoint = (codePoint << 6) | (next & 0x3F);
+            min = 0x80;
+            max = 0xBF;
+        }
+        if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            append(Character.highSurrogate(codePoint));
+            append(Character.lowSurrogate(codePoint));
+        } else {
+            append((char) codePoint);
+        }
+    }
+
+    private int skipWhitespace() throws IOException {
+        while (true) {
+            int ch = read();
+            if (ch == '\n') {
+                newLine();
+            } else if (!isWhitespace(ch)) {
+                return ch;
+            }
+        }
+    }
+
+    private static boolean isWhitespace(int ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+    }
+
+    private int read() throws IOException {
+        if (this.pos == this.limit && !fill()) {
+            return EOF;
+        }
+        return this.buff[this.pos++] & 0xFF;
+    }
+
+    private int peek() throws IOException {
+        if (this.pos == this.limit && !fill()) {
+            return EOF;
+        }
+        return this.buff[this.pos] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        this.consumed += this.limit;
+        this.pos = 0;
+        this.limit = 0;
+        int count;
+        do {
+            // a stream may return no bytes without having reached the end
+            count = this.in.read(this.buff, 0, this.buff.length);
+        } while (count == 0);
+        if (count < 0) {
+            return false;
+        }
+        this.limit = count;
+        return true;
+    }
+
+    private void newLine() {
+        this.line++;
+        this.lineStart = this.consumed + this.pos;
+    }
+
+    private void append(char ch) {
+        if (this.charBuffIndex == this.charBuff.length) {
+            growCharBuff(this.charBuffIndex + 1);
+        }
+        this.charBuff[this.charBuffIndex++] = ch;
+    }
+
+    private void appendAscii(int from, int to) {
+        int count = to - from;
+        if (this.charBuffIndex + count > this.charBuff.length) {
+            growCharBuff(this.charBuffIndex + count);
+        }
+        for (int i = from; i < to; i++) {
+            this.charBuff[this.charBuffIndex++] = (char) this.buff[i];
+        }
+    }
+
+    private void growCharBuff(int minCapacity) {
+        char[] newBuff = new char[Math.max(this.charBuff.length * 2, minCapacity)];
+        System.arraycopy(this.charBuff, 0, newBuff, 0, this.charBuffIndex);
+        this.charBuff = newBuff;
+    }
+
+    private BError expected(String... chars) {
+        return error("expected '" + String.join("' or '", chars) + "'");
+    }
+
+    private BError error(String message) {
+        long column = this.consumed + this.pos - this.lineStart;
+        return ErrorCreator.createError(StringUtils.fromString(message + " at line: " + this.line + " column: " +
+                                                                       column));
+    }
+}
@@ -23,11 +23,13 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
 import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.IteratorValue;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.RefValue;
 import io.ballerina.runtime.internal.values.TableValue;
 
+import java.math.BigDecimal;
 import java.util.Map;
 
 import static io.ballerina.runtime.internal.CycleUtils.Node;
@@ -42,19 +44,30 @@ import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReason
 public class TableUtils {
 
     /**
-     * Generates a hash value which is same for the same shape.
+     * Generates a hash value which is same for the same shape. Values that are equal according to
+     * {@link TypeChecker#isEqual(Object, Object)} have the same hash value.
      *
      * @param obj Ballerina value which the hash is generated from
      * @param parent Node linking to the parent object of 'obj'
      * @return The hash value
      */
-    public static Long hash(Object obj, Node parent) {
+    public static long hash(Object obj, Node parent) {
         long result = 0;
 
         if (obj == null) {
             return 0L;
         }
 
+        // -0.0 is equal to 0.0, and decimals are equal regardless of their scale
+        if (obj instanceof Double) {
+            double value = (Double) obj;
+            return value == 0 ? 0L : Double.hashCode(value);
+        }
+        if (obj instanceof DecimalValue) {
+            BigDecimal value = ((DecimalValue) obj).decimalValue();
+            return value.signum() == 0 ? 0L : value.stripTrailingZeros().hashCode();
+        }
+
         if (obj instanceof RefValue) {
 
             Node node = new Node(obj, parent);
@@ -68,10 +81,13 @@ public class TableUtils {
             Type refType = refValue.getType();
             if (refType.getTag() == TypeTags.MAP_TAG || refType.getTag() == TypeTags.RECORD_TYPE_TAG) {
                 MapValue mapValue = (MapValue) refValue;
+                // entries are combined independent of their order, as the order does not affect map equality,
+                // but each entry is mixed first so that the values stay tied to their keys
                 for (Object entry : mapValue.entrySet()) {
-                    result = 31 * result + hash(((Map.Entry) entry).getKey(), node) +
+                    long entryHash = 31 * hash(((Map.Entry) entry).getKey(), node) +
                             (((Map.Entry) entry).getValue() == null ? 0 : hash(((Map.Entry) entry).getValue(),
                                     node));
+                    result += mix(entryHash);
                 }
                 return result;
             } else if (refType.getTag() == TypeTags.ARRAY_TAG || refType.getTag() == TypeTags.TUPLE_TAG) {
@@ -101,6 +117,15 @@ public class TableUtils {
         }
     }
 
+    // The finalizer of MurmurHash3, which spreads every bit of the input over the whole hash
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
     /**
      * Handles table insertion/store functionality.
      *
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.types.Type;
+
+/**
+ * Bounded cache of the results of type-only subtype checks done by the {@link TypeChecker}.
+ * <p>
+ * The cache is direct-mapped on the identities of the source and the target type. An entry is immutable, and a new
+ * entry replaces the one in its slot, so concurrent readers and writers need no locking: a racing write can only
+ * lose a result, which is then computed again. The number of types kept reachable by the cache is bounded by its
+ * size.
+ *
+ * @since 2201.2.0
+ */
+class TypeCheckCache {
+
+    private static final int SIZE = 4096;
+
+    private final Entry[] entries = new Entry[SIZE];
+
+    /**
+     * Returns the cached result of checking whether the source type is a subtype of the target type.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @return the cached result, or null if the pair is not cached
+     */
+    Boolean get(Type sourceType, Type targetType) {
+        Entry entry = this.entries[indexOf(sourceType, targetType)];
+        if (entry == null || entry.sourceType != sourceType || entry.targetType != targetType) {
+            return null;
+        }
+        return entry.result;
+    }
+
+    void put(Type sourceType, Type targetType, boolean result) {
+        this.entries[indexOf(sourceType, targetType)] = new Entry(sourceType, targetType, result);
+    }
+
+    private static int indexOf(Type sourceType, Type targetType) {
+        int hash = System.identityHashCode(sourceType) * 31 + System.identityHashCode(targetType);
+        return (hash ^ (hash >>> 16)) & (SIZE - 1);
+    }
+
+    private static class Entry {
+
+        private final Type sourceType;
+        private final Type targetType;
+        private final Boolean result;
+
+        private Entry(Type sourceType, Type targetType, boolean result) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.result = result;
+        }
+    }
+}
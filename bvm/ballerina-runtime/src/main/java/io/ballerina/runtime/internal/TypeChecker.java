@@ -128,6 +128,7 @@ import static io.ballerina.runtime.api.utils.TypeUtils.isValueType;
 public class TypeChecker {
 
     private static final byte MAX_TYPECAST_ERROR_COUNT = 20;
+    private static final TypeCheckCache TYPE_CHECK_CACHE = new TypeCheckCache();
 
     public static Object checkCast(Object sourceVal, Type targetType) {
 
@@ -599,6 +600,27 @@ public class TypeChecker {
 
     @Deprecated
     public static boolean checkIsType(Type sourceType, Type targetType, List<TypePair> unresolvedTypes) {
+        if (sourceType == targetType) {
+            return true;
+        }
+
+        // A top-level check does not depend on the pairs assumed to hold while resolving recursive types, so its
+        // result can be reused. Checks between simple basic types are cheaper than a cache lookup.
+        if (unresolvedTypes == null &&
+                (sourceType.getTag() > TypeTags.NULL_TAG || targetType.getTag() > TypeTags.NULL_TAG)) {
+            Boolean cachedResult = TYPE_CHECK_CACHE.get(sourceType, targetType);
+            if (cachedResult != null) {
+                return cachedResult;
+            }
+            boolean result = checkIsTypeWithoutCache(sourceType, targetType, null);
+            TYPE_CHECK_CACHE.put(sourceType, targetType, result);
+            return result;
+        }
+        return checkIsTypeWithoutCache(sourceType, targetType, unresolvedTypes);
+    }
+
+    private static boolean checkIsTypeWithoutCache(Type sourceType, Type targetType,
+                                                   List<TypePair> unresolvedTypes) {
         // First check whether both types are the same.
         if (sourceType == targetType || (sourceType.getTag() == targetType.getTag() && sourceType.equals(targetType))) {
             return true;
@@ -749,6 +771,11 @@ public class TypeChecker {
             case TypeTags.READONLY_TAG:
                 return isInherentlyImmutableType(sourceType) || sourceType.isReadOnly();
             default:
+                // Every value of a subtype of the target type belongs to the target type, and the type-only check
+                // is cached. The value is looked at only when the types alone do not match.
+                if (unresolvedTypes == null && checkIsType(sourceType, targetType, (List<TypePair>) null)) {
+                    return true;
+                }
                 return checkIsRecursiveTypeOnValue(sourceVal, sourceType, targetType, sourceTypeTag, targetTypeTag,
                                                    unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
         }
@@ -1662,6 +1689,14 @@ public class TypeChecker {
         if (sourceType.getTag() != TypeTags.OBJECT_TYPE_TAG && sourceType.getTag() != TypeTags.SERVICE_TAG) {
             return false;
         }
+
+        BObjectType sourceObjectType = (BObjectType) sourceType;
+        // The type-ids of a distinct target type are compared first, as that rejects unrelated distinct types
+        // without looking at their members.
+        if (!containsTypeIds(sourceObjectType.typeIdSet, targetType.typeIdSet)) {
+            return false;
+        }
+
         // If we encounter two types that we are still resolving, then skip it.
         // This is done to avoid recursive checking of the same type.
         TypePair pair = new TypePair(sourceType, targetType);
@@ -1670,8 +1705,6 @@ public class TypeChecker {
         }
         unresolvedTypes.add(pair);
 
-        BObjectType sourceObjectType = (BObjectType) sourceType;
-
         if (SymbolFlags.isFlagOn(targetType.flags, SymbolFlags.ISOLATED) &&
                 !SymbolFlags.isFlagOn(sourceObjectType.flags, SymbolFlags.ISOLATED)) {
             return false;
@@ -1707,7 +1740,7 @@ public class TypeChecker {
         }
 
         return checkObjectSubTypeForMethods(unresolvedTypes, targetFuncs, sourceFuncs, targetTypeModule,
-                                            sourceTypeModule, sourceObjectType, targetType);
+                                            sourceTypeModule);
     }
 
     private static boolean checkObjectSubTypeForFields(Map<String, Field> targetFields,
@@ -1764,8 +1797,7 @@ public class TypeChecker {
     private static boolean checkObjectSubTypeForMethods(List<TypePair> unresolvedTypes,
                                                         MethodType[] targetFuncs,
                                                         MethodType[] sourceFuncs,
-                                                        String targetTypeModule, String sourceTypeModule,
-                                                        BObjectType sourceType, BObjectType targetType) {
+                                                        String targetTypeModule, String sourceTypeModule) {
         for (MethodType lhsFunc : targetFuncs) {
             // As stage-2 of service typing changes, resource functions are not considered for object subtyping.
             if (SymbolFlags.isFlagOn(lhsFunc.getFlags(), SymbolFlags.RESOURCE)) {
@@ -1783,14 +1815,15 @@ public class TypeChecker {
                 return false;
             }
         }
+        return true;
+    }
 
+    private static boolean containsTypeIds(BTypeIdSet sourceTypeIdSet, BTypeIdSet targetTypeIdSet) {
         // Target type is not a distinct type, no need to match type-ids
-        BTypeIdSet targetTypeIdSet = targetType.typeIdSet;
         if (targetTypeIdSet == null) {
             return true;
         }
 
-        BTypeIdSet sourceTypeIdSet = sourceType.typeIdSet;
         if (sourceTypeIdSet == null) {
             return false;
         }
@@ -2110,7 +2143,7 @@ public class TypeChecker {
                                            List<TypeValuePair> unresolvedValues,
                                            boolean allowNumericConversion, String varName) {
         Type sourceType = getType(sourceValue);
-        if (checkIsType(sourceType, targetType, new ArrayList<>())) {
+        if (checkIsType(sourceType, targetType, (List<TypePair>) null)) {
             return true;
         }
 
@@ -2791,28 +2824,19 @@ public class TypeChecker {
         if (sourceType.getTag() != TypeTags.ERROR_TAG) {
             return false;
         }
-        // Handle recursive error types.
-        TypePair pair = new TypePair(sourceType, targetType);
-        if (unresolvedTypes.contains(pair)) {
-            return true;
-        }
-        unresolvedTypes.add(pair);
         BErrorType bErrorType = (BErrorType) sourceType;
-
-        if (!checkIsType(bErrorType.detailType, targetType.detailType, unresolvedTypes)) {
+        if (!containsTypeIds(bErrorType.typeIdSet, targetType.typeIdSet)) {
             return false;
         }
 
-        if (targetType.typeIdSet == null) {
+        // Handle recursive error types.
+        TypePair pair = new TypePair(sourceType, targetType);
+        if (unresolvedTypes.contains(pair)) {
             return true;
         }
+        unresolvedTypes.add(pair);
 
-        BTypeIdSet sourceTypeIdSet = bErrorType.typeIdSet;
-        if (sourceTypeIdSet == null) {
-            return false;
-        }
-
-        return sourceTypeIdSet.containsAll(targetType.typeIdSet);
+        return checkIsType(bErrorType.detailType, targetType.detailType, unresolvedTypes);
     }
 
     private static boolean checkIsLikeErrorType(Object sourceValue, BErrorType targetType,
@@ -2822,21 +2846,12 @@ public class TypeChecker {
             return false;
         }
 
-        if (!checkIsLikeType(null, ((ErrorValue) sourceValue).getDetails(), targetType.detailType,
-                unresolvedValues, allowNumericConversion, null)) {
-            return false;
-        }
-
-        if (targetType.typeIdSet == null) {
-            return true;
-        }
-
-        BTypeIdSet sourceIdSet = ((BErrorType) sourceType).typeIdSet;
-        if (sourceIdSet == null) {
+        if (!containsTypeIds(((BErrorType) sourceType).typeIdSet, targetType.typeIdSet)) {
             return false;
         }
 
-        return sourceIdSet.containsAll(targetType.typeIdSet);
+        return checkIsLikeType(null, ((ErrorValue) sourceValue).getDetails(), targetType.detailType,
+                unresolvedValues, allowNumericConversion, null);
     }
 
     static boolean isSimpleBasicType(Type type) {
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+/**
+ * Cache of the boxed values of the Ballerina {@code int} values that are most likely to be used repeatedly.
+ * <p>
+ * {@link Long#valueOf(long)} only caches the values from -128 to 127, so counters, indexes, sizes and status codes
+ * above that range are allocated each time they are stored in a value of type {@code any}. The generated code and the
+ * JSON parsers box {@code int} values through {@link #valueOf(long)} instead, which returns a shared instance for the
+ * values up to {@link #INT_CACHE_HIGH}.
+ *
+ * @since 2201.2.0
+ */
+public class ValueCache {
+
+    static final int INT_CACHE_LOW = -128;
+    static final int INT_CACHE_HIGH = 4095;
+    private static final Long[] INT_CACHE = new Long[INT_CACHE_HIGH - INT_CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < INT_CACHE.length; i++) {
+            INT_CACHE[i] = Long.valueOf(i + INT_CACHE_LOW);
+        }
+    }
+
+    private ValueCache() {
+    }
+
+    /**
+     * Returns the boxed value of the given {@code int} value, which is shared if the value is in the cached range.
+     *
+     * @param value the value to box
+     * @return the boxed value
+     */
+    public static Long valueOf(long value) {
+        if (value >= INT_CACHE_LOW && value <= INT_CACHE_HIGH) {
+            return INT_CACHE[(int) value - INT_CACHE_LOW];
+        }
+        return Long.valueOf(value);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Arrays;
+
+/**
+ * Stack of the frames saved by the functions of a {@link Strand} when the strand yields, which are popped back in
+ * order when the strand resumes.
+ * <p>
+ * A strand is only run by one thread at a time, so the stack is not synchronized. Popping a frame leaves it in its
+ * slot, so that a function yielding again at the same depth, as a function doing I/O in a loop does, can refill the
+ * same frame object instead of allocating a new one.
+ *
+ * @since 2201.2.0
+ */
+public class FrameStack {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private Object[] frames = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    public void push(Object frame) {
+        if (this.size == this.frames.length) {
+            this.frames = Arrays.copyOf(this.frames, this.size << 1);
+        }
+        this.frames[this.size++] = frame;
+    }
+
+    /**
+     * Removes the frame at the top of the stack. The stack must not be empty.
+     *
+     * @return the removed frame
+     */
+    public Object pop() {
+        return this.frames[--this.size];
+    }
+
+    /**
+     * Returns the frame that was last popped from the slot the next frame is pushed to. A function can reuse it
+     * for its own frame if it is of the frame class of the function, as everything in it has already been read.
+     *
+     * @return the popped frame, or null if there is none
+     */
+    public Object getReusableFrame() {
+        return this.size < this.frames.length ? this.frames[this.size] : null;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+/**
+ * Holds the {@link ItemGroup}s that are ready to be picked by the scheduler worker threads.
+ *
+ * @since 2201.2.0
+ */
+interface RunQueue {
+
+    /**
+     * Registers the calling thread as a scheduler worker. Must be called by each worker thread before it starts
+     * taking groups from the queue.
+     */
+    void registerWorker();
+
+    /**
+     * Adds a runnable group to the queue.
+     *
+     * @param group group that is ready for execution
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Adds a group that should only be picked after the runnable groups, e.g. the poison pill.
+     *
+     * @param group group to be added at the end of the queue
+     */
+    void addLast(ItemGroup group);
+
+    /**
+     * Retrieves the next runnable group, waiting if necessary until one becomes available.
+     *
+     * @return next runnable group
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take() throws InterruptedException;
+
+    boolean isEmpty();
+}
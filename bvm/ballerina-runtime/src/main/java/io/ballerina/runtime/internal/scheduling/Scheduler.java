@@ -32,17 +32,16 @@ import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.FutureValue;
 
 import java.io.PrintStream;
+import java.lang.reflect.Method;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -65,7 +64,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
     private final Strand previousStrand;
@@ -82,6 +81,18 @@ public class Scheduler {
 
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_POLICY system variable.
+     * Default is the shared run queue.
+     */
+    private static String schedulerPolicyConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR);
+
+    /**
+     * Executor used to run the item groups on JDK virtual threads when the scheduler policy is
+     * {@code virtual-thread}. Null for the other policies.
+     */
+    private final ExecutorService virtualThreadExecutor;
+
     private Semaphore mainBlockSem;
     private ListenerRegistry listenerRegistry;
     private AtomicReference<ItemGroup> objectGroup = new AtomicReference<>();
@@ -91,10 +102,18 @@ public class Scheduler {
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, immortal, schedulerPolicyConf);
+    }
+
+    Scheduler(int numThreads, boolean immortal, String schedulerPolicy) {
         this.numThreads = numThreads;
         this.immortal = immortal;
         this.listenerRegistry = new ListenerRegistry();
         this.previousStrand = numThreads == 1 ? strandHolder.get().strand : null;
+        this.runnableList = createRunQueue(numThreads, schedulerPolicy);
+        this.virtualThreadExecutor = numThreads > 1 &&
+                RuntimeConstants.SCHEDULER_POLICY_VIRTUAL_THREAD.equals(schedulerPolicy) ?
+                createVirtualThreadExecutor(Executors.class, "newVirtualThreadPerTaskExecutor") : null;
         ItemGroup group = new ItemGroup();
         objectGroup.set(group);
     }
@@ -263,6 +282,10 @@ public class Scheduler {
     }
 
     public void start() {
+        if (virtualThreadExecutor != null) {
+            dispatchToVirtualThreads();
+            return;
+        }
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
             new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
@@ -280,6 +303,7 @@ public class Scheduler {
      */
     private void runSafely() {
         try {
+            runnableList.registerWorker();
             run();
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
@@ -291,7 +315,6 @@ public class Scheduler {
      */
     private void run() {
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
             try {
                 group = runnableList.take();
@@ -304,38 +327,82 @@ public class Scheduler {
                 break;
             }
 
-            boolean isItemsEmpty = group.items.isEmpty();
-            while (!isItemsEmpty) {
-                Object result = null;
-                Throwable panic = null;
-
-                item = group.get();
+            runGroup(group);
+        }
+    }
 
+    /**
+     * Hands over each runnable group to a new virtual thread, so that a strand blocked in a Java call parks only its
+     * own virtual thread instead of a scheduler worker thread.
+     */
+    private void dispatchToVirtualThreads() {
+        try {
+            while (true) {
+                ItemGroup group;
                 try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
-
-                    if (!(panic instanceof BError)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                } finally {
-                    strandHolder.get().strand = previousStrand;
+                    group = runnableList.take();
+                } catch (InterruptedException ignored) {
+                    continue;
+                }
+
+                if (group == POISON_PILL) {
+                    break;
+                }
+
+                virtualThreadExecutor.execute(() -> runGroupSafely(group));
+            }
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        } finally {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+
+    private void runGroupSafely(ItemGroup group) {
+        try {
+            runGroup(group);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        }
+    }
+
+    /**
+     * Executes the items of the given group until the group runs out of runnable items.
+     */
+    private void runGroup(ItemGroup group) {
+        SchedulerItem item;
+        while (true) {
+            Object result = null;
+            Throwable panic = null;
+
+            item = group.get();
+            if (item == null) {
+                if (group.release()) {
+                    // an item got added while releasing the group, keep running it on this thread
+                    continue;
                 }
-                postProcess(item, result, panic);
-                group.lock();
-                if ((isItemsEmpty = group.items.empty())) {
-                    group.scheduled.set(false);
+                break;
+            }
+
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof BError)) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                group.unlock();
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
+                }
+            } finally {
+                strandHolder.get().strand = previousStrand;
             }
+            postProcess(item, result, panic);
         }
     }
 
@@ -488,7 +555,6 @@ public class Scheduler {
     }
 
     private void addToRunnableList(SchedulerItem item, ItemGroup group) {
-        group.lock();
         group.add(item);
         // Group maybe not picked by any thread at the moment because,
         //  1) All items are blocked.
@@ -497,7 +563,6 @@ public class Scheduler {
         if (group.scheduled.compareAndSet(false, true)) {
             runnableList.add(group);
         }
-        group.unlock();
     }
 
     public FutureValue createFuture(Strand parent, Callback callback, Map<String, Object> properties,
@@ -515,13 +580,15 @@ public class Scheduler {
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
         FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Stack<>();
+        future.strand.frames = new FrameStack();
         return future;
     }
 
     public void poison() {
-        for (int i = 0; i < numThreads; i++) {
-            runnableList.add(POISON_PILL);
+        // only the dispatcher thread takes from the run queue when running on virtual threads
+        int numConsumers = virtualThreadExecutor != null ? 1 : numThreads;
+        for (int i = 0; i < numConsumers; i++) {
+            runnableList.addLast(POISON_PILL);
         }
     }
 
@@ -553,6 +620,37 @@ public class Scheduler {
         return poolSize;
     }
 
+    private static RunQueue createRunQueue(int numThreads, String schedulerPolicy) {
+        if (numThreads > 1 && schedulerPolicy != null) {
+            switch (schedulerPolicy) {
+                case RuntimeConstants.SCHEDULER_POLICY_WORK_STEALING:
+                    return new WorkStealingRunQueue(numThreads);
+                case RuntimeConstants.SCHEDULER_POLICY_SHARED:
+                case RuntimeConstants.SCHEDULER_POLICY_VIRTUAL_THREAD:
+                    break;
+                default:
+                    // Log and continue with default
+                    err.println("ballerina: unsupported value '" + schedulerPolicy + "' for system variable:" +
+                            RuntimeConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR + ", using the default policy '" +
+                            RuntimeConstants.SCHEDULER_POLICY_SHARED + "'");
+            }
+        }
+        return new SharedRunQueue();
+    }
+
+    static ExecutorService createVirtualThreadExecutor(Class<?> factoryClass, String factoryMethodName) {
+        try {
+            // Looked up reflectively since virtual threads are not available in the Java version we compile against.
+            Method factoryMethod = factoryClass.getMethod(factoryMethodName);
+            return (ExecutorService) factoryMethod.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Log and continue with default
+            err.println("ballerina: virtual threads are not supported by the current Java runtime, using the " +
+                    "default scheduler policy '" + RuntimeConstants.SCHEDULER_POLICY_SHARED + "'");
+            return null;
+        }
+    }
+
     /**
      * The registry for runtime dynamic listeners.
      */
@@ -630,44 +728,85 @@ class SchedulerItem {
 
 /**
  * Represents a group of {@link SchedulerItem} that should run on same thread.
+ * <p>
+ * Items are kept in a lock-free multi-producer, single-consumer stack. Any thread may add items, but only the thread
+ * that has the group scheduled (i.e. the one that moved {@link #scheduled} to true and put the group to the runnable
+ * list) takes them, which keeps the one-thread-at-a-time guarantee of the group without locking.
  */
 class ItemGroup {
 
     /**
-     * Keep the list of items that should run on same thread.
+     * Top of the stack of items that should run on same thread.
      * Using a stack to get advantage of the locality.
      */
-    Stack<SchedulerItem> items = new Stack<>();
+    private final AtomicReference<ItemNode> head = new AtomicReference<>();
 
     /**
      * Indicates this item is already in runnable list/executing or not.
      */
     AtomicBoolean scheduled = new AtomicBoolean(false);
 
-    private final ReentrantLock groupLock = new ReentrantLock();
-
     public static final ItemGroup POISON_PILL = new ItemGroup();
 
     public ItemGroup(SchedulerItem item) {
-        items.push(item);
+        head.set(new ItemNode(item, null));
     }
 
     public ItemGroup() {
     }
 
     public void add(SchedulerItem item) {
-        items.push(item);
+        ItemNode node = new ItemNode(item, null);
+        ItemNode top;
+        do {
+            top = head.get();
+            node.next = top;
+        } while (!head.compareAndSet(top, node));
     }
 
+    /**
+     * Takes the most recently added item. Must only be called by the thread that has the group scheduled.
+     *
+     * @return the most recently added item or null if the group is empty
+     */
     public SchedulerItem get() {
-        return items.pop();
+        ItemNode top;
+        do {
+            top = head.get();
+            if (top == null) {
+                return null;
+            }
+            // Nodes are never reused, so the top cannot be popped and pushed back in between (no ABA).
+        } while (!head.compareAndSet(top, top.next));
+        return top.item;
     }
 
-    public void lock() {
-        this.groupLock.lock();
+    public boolean isEmpty() {
+        return head.get() == null;
     }
 
-    public void unlock() {
-        this.groupLock.unlock();
+    /**
+     * Marks the group as not scheduled once the scheduled thread finds it empty. Since adding does not lock the
+     * group, an item may get added right before the flag is cleared, in which case its producer will not schedule
+     * the group. This re-checks the items after clearing the flag and takes the group back if there are any.
+     *
+     * @return true if the calling thread still has the group scheduled and should continue running its items
+     */
+    public boolean release() {
+        scheduled.set(false);
+        return !isEmpty() && scheduled.compareAndSet(false, true);
+    }
+
+    /**
+     * A node in the item stack.
+     */
+    private static class ItemNode {
+        final SchedulerItem item;
+        ItemNode next;
+
+        ItemNode(SchedulerItem item, ItemNode next) {
+            this.item = item;
+            this.next = next;
+        }
     }
 }
@@ -23,6 +23,8 @@ import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.BLock;
+import io.ballerina.runtime.internal.BLockStore;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.ErrorValue;
@@ -63,7 +65,7 @@ public class Strand {
     private String name;
     private StrandMetadata metadata;
 
-    public Stack<Object> frames;
+    public FrameStack frames;
     public int resumeIndex;
     public Object returnValue;
     public BError panic;
@@ -86,6 +88,8 @@ public class Strand {
     public Stack<TransactionLocalContext> trxContexts;
     private State state;
     private final ReentrantLock strandLock;
+    // Locks held by the strand in acquisition order, a reentered lock is added once per acquisition
+    private List<BLock> acquiredLocks;
 
     public Strand(String name, StrandMetadata metadata, Scheduler scheduler, Strand parent,
                   Map<String, Object> properties) {
@@ -168,6 +172,40 @@ public class Strand {
         this.globalProps.put(key, value);
     }
 
+    public Map<String, Object> getGlobalProperties() {
+        return this.globalProps;
+    }
+
+    public void addAcquiredLock(BLock lock) {
+        if (this.acquiredLocks == null) {
+            this.acquiredLocks = new ArrayList<>(2);
+        }
+        this.acquiredLocks.add(lock);
+    }
+
+    public void removeAcquiredLock(BLock lock) {
+        int index = this.acquiredLocks.lastIndexOf(lock);
+        this.acquiredLocks.remove(index);
+    }
+
+    /**
+     * Checks whether the strand holds any of the locks of the given lock store.
+     *
+     * @param lockStore the lock store
+     * @return true if a lock of the lock store is held by the strand
+     */
+    public boolean hasAcquiredLock(BLockStore lockStore) {
+        if (this.acquiredLocks == null) {
+            return false;
+        }
+        for (BLock lock : this.acquiredLocks) {
+            if (lock.getLockStore() == lockStore) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public boolean isInTransaction() {
         return this.currentTrxContext != null && this.currentTrxContext.isTransactional();
     }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Deque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link RunQueue} that keeps a local deque per scheduler worker thread.
+ * <p>
+ * Groups made runnable by a worker are pushed to the head of its own deque and are taken back in LIFO order, so a
+ * strand that spawns or unblocks another strand hands it off to the same thread. Idle workers steal from the tail of
+ * the other deques. Groups submitted by non-worker threads (e.g. callbacks from network threads) go through a shared
+ * injection queue, which is also where idle workers block.
+ *
+ * @since 2201.2.0
+ */
+class WorkStealingRunQueue implements RunQueue {
+
+    /**
+     * Workers look at the injection queue before their local deque once in this many takes, so that externally
+     * submitted groups are not starved by a worker that keeps feeding its own deque.
+     */
+    private static final int GLOBAL_POLL_INTERVAL = 61;
+
+    /**
+     * Marker put to the injection queue to wake up an idle worker so that it can steal.
+     */
+    private static final ItemGroup WAKE_UP = new ItemGroup();
+
+    private final Deque<ItemGroup>[] localQueues;
+    private final BlockingQueue<ItemGroup> globalQueue = new LinkedBlockingDeque<>();
+    private final AtomicInteger registeredWorkers = new AtomicInteger();
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+    private final ThreadLocal<WorkerState> workerState = ThreadLocal.withInitial(WorkerState::new);
+
+    @SuppressWarnings("unchecked")
+    WorkStealingRunQueue(int numThreads) {
+        this.localQueues = new Deque[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            this.localQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    @Override
+    public void registerWorker() {
+        int index = registeredWorkers.getAndIncrement();
+        if (index < localQueues.length) {
+            workerState.get().index = index;
+        }
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        int index = workerState.get().index;
+        if (index < 0) {
+            globalQueue.add(group);
+            return;
+        }
+        localQueues[index].offerFirst(group);
+        if (idleWorkers.get() > 0) {
+            globalQueue.add(WAKE_UP);
+        }
+    }
+
+    @Override
+    public void addLast(ItemGroup group) {
+        globalQueue.add(group);
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        WorkerState state = workerState.get();
+        while (true) {
+            ItemGroup group = poll(state);
+            if (group != null) {
+                return group;
+            }
+            // Announce the idleness before the final check, so that any group added after the check will also
+            // put a wake up marker to the injection queue.
+            idleWorkers.incrementAndGet();
+            try {
+                group = poll(state);
+                if (group == null) {
+                    group = globalQueue.take();
+                }
+            } finally {
+                idleWorkers.decrementAndGet();
+            }
+            if (group != WAKE_UP) {
+                return group;
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Deque<ItemGroup> localQueue : localQueues) {
+            if (!localQueue.isEmpty()) {
+                return false;
+            }
+        }
+        for (ItemGroup group : globalQueue) {
+            if (group != WAKE_UP) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ItemGroup poll(WorkerState state) {
+        int index = state.index;
+        if (index < 0) {
+            return pollGlobal();
+        }
+        ItemGroup group;
+        if (++state.ticks % GLOBAL_POLL_INTERVAL == 0 && (group = pollGlobal()) != null) {
+            return group;
+        }
+        if ((group = localQueues[index].pollFirst()) != null) {
+            return group;
+        }
+        if ((group = pollGlobal()) != null) {
+            return group;
+        }
+        return steal(index);
+    }
+
+    private ItemGroup pollGlobal() {
+        ItemGroup group;
+        do {
+            group = globalQueue.poll();
+        } while (group == WAKE_UP);
+        return group;
+    }
+
+    private ItemGroup steal(int thief) {
+        int numQueues = localQueues.length;
+        for (int i = 1; i < numQueues; i++) {
+            ItemGroup group = localQueues[(thief + i) % numQueues].pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Per thread state of a worker.
+     */
+    private static class WorkerState {
+        int index = -1;
+        int ticks;
+    }
+}
@@ -19,8 +19,6 @@ package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.internal.values.ErrorValue;
 
-import java.util.LinkedList;
-import java.util.Queue;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -47,8 +45,7 @@ public class WorkerDataChannel {
 
     public String chnlName;
 
-    @SuppressWarnings("rawtypes")
-    private Queue<WorkerResult> channel = new LinkedList<>();
+    private final WorkerMessageQueue channel = new WorkerMessageQueue();
 
     public WorkerDataChannel() {
         this.channelLock = new ReentrantLock();
@@ -70,11 +67,10 @@ public class WorkerDataChannel {
         this.channelLock.unlock();
     }
 
-    @SuppressWarnings("rawtypes")
     public void sendData(Object data, Strand sender) {
         try {
             acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
+            this.channel.add(data, false);
             this.senderCounter++;
             if (this.receiver != null) {
                 this.receiver.scheduler.unblockStrand(this.receiver);
@@ -97,7 +93,7 @@ public class WorkerDataChannel {
             acquireChannelLock();
             if (!reschedule) {
                 // this is a new message, not a reschedule
-                this.channel.add(new WorkerResult(data, true));
+                this.channel.add(data, true);
                 this.senderCounter++;
                 this.waitingSender = new WaitingSender(strand, -1);
 
@@ -121,10 +117,10 @@ public class WorkerDataChannel {
             }
 
             reschedule = false;
-            if (this.panic != null && this.channel.peek() != null) {
+            if (this.panic != null && !this.channel.isEmpty()) {
                 Throwable e = this.panic;
                 throw e;
-            } else if (this.error != null && this.channel.peek() != null) {
+            } else if (this.error != null && !this.channel.isEmpty()) {
                 ErrorValue ret = this.error;
                 this.waitingSender = null;
                 return ret;
@@ -137,16 +133,15 @@ public class WorkerDataChannel {
         }
     }
 
-    @SuppressWarnings("rawtypes")
     public Object tryTakeData(Strand strand) throws Throwable {
         try {
             acquireChannelLock();
-            WorkerResult result = this.channel.peek();
-            if (result != null) {
+            if (!this.channel.isEmpty()) {
                 this.receiverCounter++;
-                this.channel.remove();
+                boolean isSync = this.channel.isHeadSync();
+                Object value = this.channel.remove();
 
-                if (result.isSync) {
+                if (isSync) {
                     // sync sender will pick the this.error as result, which is null
                     if (this.waitingSender != null) {
                         Strand waiting  = this.waitingSender.waitingStrand;
@@ -166,7 +161,7 @@ public class WorkerDataChannel {
                     this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
                     this.flushSender = null;
                 }
-                return result.value;
+                return value;
             } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
                 this.receiverCounter++;
                 throw this.panic;
@@ -302,30 +297,6 @@ public class WorkerDataChannel {
         releaseChannelLock();
     }
 
-    /**
-     * This represents a worker result value. This is done as a value to be used in the
-     * queues used for worker communication. In this way, the queue can distinguish the
-     * case of a value not there when the peek, by returning null, and then, if they
-     * return a WorkerResult, the value inside it can be either null or not to mention
-     * Ballerina null value and non-null value.
-     */
-    public static class WorkerResult {
-
-        public Object value;
-        public boolean isSync;
-
-
-        public WorkerResult(Object value) {
-            this.value = value;
-        }
-
-        public WorkerResult(Object value, boolean sync) {
-            this.value = value;
-            this.isSync = sync;
-        }
-
-    }
-
     /**
      * This represents the sender of the channel. If the sender is available, then we assume it is waiting for the
      * data retrieval. Upon fetching data, it will be resumed if a sync send or will try to flush.
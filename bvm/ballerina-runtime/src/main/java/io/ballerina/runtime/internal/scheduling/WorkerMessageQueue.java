@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+/**
+ * Growable array deque holding the messages of a {@link WorkerDataChannel}.
+ * <p>
+ * Values are stored directly in a circular array together with a flag marking sync sends, so sending a message does
+ * not allocate a queue node. Since a Ballerina value can be {@code null}, emptiness is tracked by the head and tail
+ * counters rather than by a sentinel. The array doubles in size when full, as an async send never blocks the sender.
+ * <p>
+ * This is not thread safe; every access is guarded by the lock of the owning channel.
+ *
+ * @since 2201.2.0
+ */
+class WorkerMessageQueue {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private boolean[] syncFlags = new boolean[INITIAL_CAPACITY];
+    private int mask = INITIAL_CAPACITY - 1;
+    private long head;
+    private long tail;
+
+    boolean isEmpty() {
+        return this.head == this.tail;
+    }
+
+    void add(Object value, boolean sync) {
+        if (this.tail - this.head == this.values.length) {
+            grow();
+        }
+        int index = (int) this.tail & this.mask;
+        this.values[index] = value;
+        this.syncFlags[index] = sync;
+        this.tail++;
+    }
+
+    /**
+     * Returns whether the message at the head of the queue was sent using a sync send. The queue must not be empty.
+     *
+     * @return true if the head message is a sync send
+     */
+    boolean isHeadSync() {
+        return this.syncFlags[(int) this.head & this.mask];
+    }
+
+    /**
+     * Removes the message at the head of the queue. The queue must not be empty.
+     *
+     * @return the removed value
+     */
+    Object remove() {
+        int index = (int) this.head & this.mask;
+        Object value = this.values[index];
+        this.values[index] = null;
+        this.head++;
+        return value;
+    }
+
+    private void grow() {
+        int size = this.values.length;
+        Object[] newValues = new Object[size << 1];
+        boolean[] newSyncFlags = new boolean[size << 1];
+        int start = (int) this.head & this.mask;
+        int firstPart = size - start;
+        System.arraycopy(this.values, start, newValues, 0, firstPart);
+        System.arraycopy(this.values, 0, newValues, firstPart, start);
+        System.arraycopy(this.syncFlags, start, newSyncFlags, 0, firstPart);
+        System.arraycopy(this.syncFlags, 0, newSyncFlags, firstPart, start);
+        this.values = newValues;
+        this.syncFlags = newSyncFlags;
+        this.mask = newValues.length - 1;
+        this.tail = this.tail - this.head;
+        this.head = 0;
+    }
+}
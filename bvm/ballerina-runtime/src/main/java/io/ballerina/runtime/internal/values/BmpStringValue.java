@@ -41,19 +41,28 @@ import io.ballerina.runtime.api.values.BString;
          return value.length();
      }
 
+     @Override
+     int getSurrogateCount() {
+         return 0;
+     }
+
      @Override
      public BString concat(BString str) {
          StringValue stringValue = (StringValue) str;
+         if (length() + stringValue.length() >= ConcatStringValue.MIN_LENGTH) {
+             return ConcatStringValue.concat(this, stringValue);
+         }
+         stringValue = stringValue.flatten();
          if (stringValue.isNonBmp) {
-             int[] otherSurrogates = ((NonBmpStringValue) str).getSurrogates();
+             int[] otherSurrogates = ((NonBmpStringValue) stringValue).surrogates;
              int[] newSurrogates = new int[otherSurrogates.length];
              int length = length();
              for (int i = 0; i < otherSurrogates.length; i++) {
                  newSurrogates[i] = otherSurrogates[i] + length;
              }
-             return new NonBmpStringValue(this.value + str.getValue(), newSurrogates);
+             return new NonBmpStringValue(this.value + stringValue.value, newSurrogates);
          }
-         return new BmpStringValue(this.value + str.getValue());
+         return new BmpStringValue(this.value + stringValue.value);
      }
 
      @Override
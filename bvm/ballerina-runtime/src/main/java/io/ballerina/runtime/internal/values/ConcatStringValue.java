@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Represent ballerina strings built by concatenating strings.
+ * <p>
+ * The characters are held in a {@link StringBuilder} that is shared by the strings built by concatenating to the
+ * same string, each of which is a prefix of the builder. Concatenating to the string that ends at the end of the
+ * builder appends to the builder in place, so building a string with repeated concatenation takes amortized constant
+ * time for each concatenation instead of copying the string built so far. The string is flattened to a
+ * {@link BmpStringValue} or a {@link NonBmpStringValue} when its characters are first accessed.
+ *
+ * @since 2201.2.0
+ */
+public class ConcatStringValue extends StringValue {
+
+    /**
+     * Minimum length of a concatenated string to be held in a builder. Shorter strings are copied on concatenation.
+     */
+    static final int MIN_LENGTH = 128;
+
+    private final StringBuilder builder;
+    private final int charCount;
+    private final int surrogateCount;
+    private volatile StringValue flatValue;
+
+    private ConcatStringValue(StringBuilder builder, int charCount, int surrogateCount) {
+        super(null, surrogateCount > 0);
+        this.builder = builder;
+        this.charCount = charCount;
+        this.surrogateCount = surrogateCount;
+    }
+
+    static ConcatStringValue concat(StringValue lhs, StringValue rhs) {
+        String lhsValue = lhs.getValue();
+        String rhsValue = rhs.getValue();
+        int charCount = lhsValue.length() + rhsValue.length();
+        StringBuilder builder = new StringBuilder(getBuilderCapacity(charCount));
+        builder.append(lhsValue).append(rhsValue);
+        return new ConcatStringValue(builder, charCount, lhs.getSurrogateCount() + rhs.getSurrogateCount());
+    }
+
+    @Override
+    public BString concat(BString str) {
+        StringValue stringValue = (StringValue) str;
+        String otherValue = stringValue.getValue();
+        int newCharCount = charCount + otherValue.length();
+        int newSurrogateCount = surrogateCount + stringValue.getSurrogateCount();
+        StringBuilder newBuilder;
+        synchronized (builder) {
+            if (builder.length() == charCount) {
+                builder.append(otherValue);
+                return new ConcatStringValue(builder, newCharCount, newSurrogateCount);
+            }
+            // Another string has already been appended to this one, so this one is copied to a new builder.
+            newBuilder = new StringBuilder(getBuilderCapacity(newCharCount));
+            newBuilder.append(builder, 0, charCount);
+        }
+        newBuilder.append(otherValue);
+        return new ConcatStringValue(newBuilder, newCharCount, newSurrogateCount);
+    }
+
+    @Override
+    StringValue flatten() {
+        StringValue value = flatValue;
+        if (value == null) {
+            String str;
+            synchronized (builder) {
+                str = builder.substring(0, charCount);
+            }
+            value = (StringValue) StringUtils.fromString(str);
+            flatValue = value;
+        }
+        return value;
+    }
+
+    @Override
+    int getSurrogateCount() {
+        return surrogateCount;
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return charCount - surrogateCount;
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public IteratorValue getIterator() {
+        return flatten().getIterator();
+    }
+
+    private static int getBuilderCapacity(int charCount) {
+        // leaves room for the strings that are likely to be appended, unless doubling overflows
+        return Math.max(charCount, charCount << 1);
+    }
+}
@@ -50,14 +50,34 @@ public class DecimalValue implements SimpleValue, BDecimal {
     private static final String NEG_INF_STRING = "-" + INF_STRING;
     private static final String NAN = "NaN";
 
+    // Largest scale and precision of a value held as an unscaled long, so that adding or multiplying such values
+    // can be done on longs. The exact result of these fits in decimal128 whenever it fits in a long.
+    private static final int MAX_COMPACT_SCALE = 18;
+    private static final int MAX_COMPACT_PRECISION = 18;
+    private static final int NOT_COMPACT = -1;
+    private static final long[] LONG_TEN_POWERS = new long[MAX_COMPACT_SCALE + 1];
+
+    static {
+        LONG_TEN_POWERS[0] = 1;
+        for (int i = 1; i < LONG_TEN_POWERS.length; i++) {
+            LONG_TEN_POWERS[i] = LONG_TEN_POWERS[i - 1] * 10;
+        }
+    }
+
     // Variable used to track the kind of a decimal value.
     @Deprecated
     public DecimalValueKind valueKind = DecimalValueKind.OTHER;
 
-    private final BigDecimal value;
+    // Created lazily from the compact form for the results of arithmetic on compact values.
+    private BigDecimal value;
+    // The value is unscaledValue * 10^-scale if the scale is not NOT_COMPACT.
+    private final long unscaledValue;
+    private final int scale;
 
     public DecimalValue(BigDecimal value) {
         this.value = value;
+        this.scale = getCompactScale(value);
+        this.unscaledValue = this.scale == NOT_COMPACT ? 0 : value.unscaledValue().longValue();
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
@@ -80,6 +100,8 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw exception;
             }
         }
+        this.scale = getCompactScale(this.value);
+        this.unscaledValue = this.scale == NOT_COMPACT ? 0 : this.value.unscaledValue().longValue();
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
@@ -90,6 +112,33 @@ public class DecimalValue implements SimpleValue, BDecimal {
         this.valueKind = valueKind;
     }
 
+    private DecimalValue(long unscaledValue, int scale) {
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+        if (unscaledValue == 0) {
+            this.valueKind = DecimalValueKind.ZERO;
+        }
+    }
+
+    private static int getCompactScale(BigDecimal value) {
+        int scale = value.scale();
+        if (scale < 0 || scale > MAX_COMPACT_SCALE || value.precision() > MAX_COMPACT_PRECISION) {
+            return NOT_COMPACT;
+        }
+        return scale;
+    }
+
+    private static DecimalValue valueOfCompact(long unscaledValue, int scale) {
+        if (scale > MAX_COMPACT_SCALE) {
+            return new DecimalValue(BigDecimal.valueOf(unscaledValue, scale));
+        }
+        return new DecimalValue(unscaledValue, scale);
+    }
+
+    private boolean isCompact() {
+        return this.scale != NOT_COMPACT;
+    }
+
     private static boolean isHexValueString(String value) {
         String upperCaseValue = value.toUpperCase();
         return upperCaseValue.startsWith("0X") || upperCaseValue.startsWith("-0X");
@@ -152,7 +201,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the value
      */
     public BigDecimal decimalValue() {
-        return this.value;
+        BigDecimal decimal = this.value;
+        if (decimal == null) {
+            // BigDecimal is immutable, so a value created concurrently by another thread is equally valid
+            decimal = BigDecimal.valueOf(this.unscaledValue, this.scale);
+            this.value = decimal;
+        }
+        return decimal;
     }
 
     /**
@@ -166,7 +221,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
             throw ErrorUtils.createNumericConversionError(this.stringValue(null), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_INT);
         }
-        return (long) Math.rint(value.doubleValue());
+        return (long) Math.rint(decimalValue().doubleValue());
     }
 
     /**
@@ -175,7 +230,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return true if the value is in int range
      */
     public static boolean isDecimalWithinIntRange(DecimalValue decimalValue) {
-        BigDecimal value = decimalValue.value;
+        BigDecimal value = decimalValue.decimalValue();
         return value.compareTo(RuntimeConstants.BINT_MAX_VALUE_BIG_DECIMAL_RANGE_MAX) < 0 &&
                value.compareTo(RuntimeConstants.BINT_MIN_VALUE_BIG_DECIMAL_RANGE_MIN) > 0;
     }
@@ -187,9 +242,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
      */
     public int byteValue() {
 
-        int intVal = (int) Math.rint(this.value.doubleValue());
+        int intVal = (int) Math.rint(decimalValue().doubleValue());
         if (!isByteLiteral(intVal)) {
-            throw ErrorUtils.createNumericConversionError(value, PredefinedTypes.TYPE_DECIMAL,
+            throw ErrorUtils.createNumericConversionError(decimalValue(), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_BYTE);
         }
         return intVal;
@@ -204,7 +259,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the double value
      */
     public double floatValue() {
-        return value.doubleValue();
+        return decimalValue().doubleValue();
     }
 
     /**
@@ -212,6 +267,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return true if the value is non zero
      */
     public boolean booleanValue() {
+        if (isCompact()) {
+            return this.unscaledValue != 0;
+        }
         return value.compareTo(BigDecimal.ZERO) != 0;
     }
 
@@ -234,7 +292,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue();
         }
-        return value.toString();
+        return decimalValue().toString();
     }
 
     /**
@@ -246,7 +304,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue() + "d";
         }
-        return value.toString() + "d";
+        return decimalValue().toString() + "d";
     }
 
     /**
@@ -254,7 +312,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the decimal value
      */
     public BigDecimal value() {
-        return this.value;
+        return decimalValue();
     }
 
     /**
@@ -279,6 +337,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (augend.valueKind == DecimalValueKind.ZERO) {
             return this;
         }
+        if (this.isCompact() && augend.isCompact()) {
+            try {
+                return addCompact(this.unscaledValue, this.scale, augend.unscaledValue, augend.scale);
+            } catch (ArithmeticException e) {
+                // the result does not fit in a long
+            }
+        }
         return new DecimalValue(this.decimalValue().add(augend.decimalValue(), MathContext.DECIMAL128));
     }
 
@@ -298,6 +363,14 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (subtrahend.valueKind == DecimalValueKind.ZERO) {
             return this;
         }
+        if (this.isCompact() && subtrahend.isCompact()) {
+            try {
+                return addCompact(this.unscaledValue, this.scale, Math.negateExact(subtrahend.unscaledValue),
+                        subtrahend.scale);
+            } catch (ArithmeticException e) {
+                // the result does not fit in a long
+            }
+        }
         return new DecimalValue(this.decimalValue().subtract(subtrahend.decimalValue(),
                 MathContext.DECIMAL128));
     }
@@ -314,6 +387,14 @@ public class DecimalValue implements SimpleValue, BDecimal {
             return this;
         }
         if (multiplicand.valueKind == DecimalValueKind.OTHER) {
+            if (this.isCompact() && multiplicand.isCompact()) {
+                try {
+                    return valueOfCompact(Math.multiplyExact(this.unscaledValue, multiplicand.unscaledValue),
+                            this.scale + multiplicand.scale);
+                } catch (ArithmeticException e) {
+                    // the result does not fit in a long
+                }
+            }
             return new DecimalValue(this.decimalValue().multiply(multiplicand.decimalValue(),
                     MathContext.DECIMAL128));
         }
@@ -364,11 +445,29 @@ public class DecimalValue implements SimpleValue, BDecimal {
      */
     public DecimalValue negate() {
         if (this.valueKind == DecimalValueKind.OTHER) {
+            if (this.isCompact() && this.unscaledValue != Long.MIN_VALUE) {
+                return new DecimalValue(-this.unscaledValue, this.scale);
+            }
             return new DecimalValue(this.decimalValue().negate());
         }
         return this;
     }
 
+    /**
+     * Adds two values given as unscaled longs and scales. Since the exact sum is returned when it fits in a long, it
+     * is the same as the sum rounded to decimal128.
+     *
+     * @throws ArithmeticException if the sum does not fit in a long
+     */
+    private static DecimalValue addCompact(long x, int xScale, long y, int yScale) {
+        if (xScale < yScale) {
+            x = Math.multiplyExact(x, LONG_TEN_POWERS[yScale - xScale]);
+        } else if (yScale < xScale) {
+            y = Math.multiplyExact(y, LONG_TEN_POWERS[xScale - yScale]);
+        }
+        return new DecimalValue(Math.addExact(x, y), Math.max(xScale, yScale));
+    }
+
     @Override
     public BDecimal add(BDecimal augend) {
         return add((DecimalValue) augend);
@@ -415,12 +514,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
         }
 
         DecimalValue bDecimal = (DecimalValue) obj;
-        return ((value.compareTo(bDecimal.value) == 0) && (this.valueKind == bDecimal.valueKind));
+        return ((decimalValue().compareTo(bDecimal.decimalValue()) == 0) && (this.valueKind == bDecimal.valueKind));
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return decimalValue().hashCode();
     }
 
     /**
@@ -64,7 +64,6 @@ import java.util.stream.Collectors;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.MAP_LANG_LIB;
 import static io.ballerina.runtime.internal.JsonUtils.mergeJson;
-import static io.ballerina.runtime.internal.ValueUtils.createSingletonTypedesc;
 import static io.ballerina.runtime.internal.ValueUtils.getTypedescValue;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INVALID_UPDATE_ERROR_IDENTIFIER;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.MAP_KEY_NOT_FOUND_ERROR;
@@ -91,9 +90,11 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         BMap<K, V> {
 
     private static final long serialVersionUID = 1L;
-    private BTypedesc typedesc;
+    // The typedesc and the native data are created on first use, since most maps and records never need them.
+    // Values are shared between strands, so both are created under the value's lock and published as volatile.
+    private volatile BTypedesc typedesc;
     private Type type;
-    private final Map<String, Object> nativeData = new HashMap<>();
+    private volatile Map<String, Object> nativeData;
     private Type iteratorNextReturnType;
 
     public MapValueImpl(TypedescValue typedesc) {
@@ -106,22 +107,17 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     public MapValueImpl(Type type) {
         super();
         this.type = type;
-        this.typedesc = getTypedescValue(type, this);
     }
 
     public MapValueImpl(Type type, BMapInitialValueEntry[] initialValues) {
         super();
         this.type = type;
         populateInitialValues(initialValues);
-        if (!type.isReadOnly()) {
-            this.typedesc = new TypedescValueImpl(type);
-        }
     }
 
     public MapValueImpl() {
         super();
         type = PredefinedTypes.TYPE_MAP;
-        this.typedesc = getTypedescValue(type, this);
     }
 
     public Long getIntValue(BString key) {
@@ -306,7 +302,8 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
 
         putValue(key, value);
         if (this.type.isReadOnly()) {
-            this.typedesc = createSingletonTypedesc(this);
+            // the singleton typedesc depends on the value, so it is created once the value is complete
+            this.typedesc = null;
         }
     }
 
@@ -527,7 +524,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
                 ((RefValue) val).freezeDirect();
             }
         });
-        this.typedesc = createSingletonTypedesc(this);
+        this.typedesc = null;
     }
 
     public String getJSONString() {
@@ -589,7 +586,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @param data value to be added.
      */
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        getNativeDataMap().put(key, data);
     }
 
     /**
@@ -598,12 +595,22 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return value for the given key.
      */
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        Map<String, Object> nativeData = this.nativeData;
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     @Override
     public BTypedesc getTypedesc() {
-        return typedesc;
+        BTypedesc typedesc = this.typedesc;
+        if (typedesc != null) {
+            return typedesc;
+        }
+        synchronized (this) {
+            if (this.typedesc == null) {
+                this.typedesc = getTypedescValue(type, this);
+            }
+            return this.typedesc;
+        }
     }
 
     /**
@@ -612,7 +619,16 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
-        return this.nativeData;
+        Map<String, Object> nativeData = this.nativeData;
+        if (nativeData != null) {
+            return nativeData;
+        }
+        synchronized (this) {
+            if (this.nativeData == null) {
+                this.nativeData = new HashMap<>();
+            }
+            return this.nativeData;
+        }
     }
 
     private void initializeIteratorNextReturnType() {
@@ -17,7 +17,6 @@
   */
  package io.ballerina.runtime.internal.values;
 
- import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BString;
 
 import java.util.Arrays;
@@ -29,7 +28,7 @@ import java.util.Arrays;
   */
  public class NonBmpStringValue extends StringValue {
 
-     private final int[] surrogates;
+     final int[] surrogates;
 
      public NonBmpStringValue(String value, int[] surrogatePairLocations) {
          super(value, true);
@@ -42,17 +41,12 @@ import java.util.Arrays;
             throw new StringIndexOutOfBoundsException(index);
         }
 
-        int offset = index;
-        for (int surrogate : surrogates) {
-            if (surrogate < index) {
-                offset++;
-            } else if (surrogate > index) {
-                break;
-            } else {
-                return Character.toCodePoint(value.charAt(offset), value.charAt(offset + 1));
-            }
+        int position = Arrays.binarySearch(surrogates, index);
+        if (position >= 0) {
+            int offset = index + position;
+            return Character.toCodePoint(value.charAt(offset), value.charAt(offset + 1));
         }
-        return value.charAt(offset);
+        return value.charAt(index - position - 1);
     }
 
     @Override
@@ -60,11 +54,20 @@ import java.util.Arrays;
         return value.length() - surrogates.length;
     }
 
+    @Override
+    int getSurrogateCount() {
+        return surrogates.length;
+    }
+
     @Override
     public BString concat(BString str) {
         StringValue stringValue = (StringValue) str;
+        if (length() + stringValue.length() >= ConcatStringValue.MIN_LENGTH) {
+            return ConcatStringValue.concat(this, stringValue);
+        }
+        stringValue = stringValue.flatten();
         if (stringValue.isNonBmp) {
-            NonBmpStringValue other = (NonBmpStringValue) str;
+            NonBmpStringValue other = (NonBmpStringValue) stringValue;
             int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
             int length = length();
             for (int i = 0; i < other.surrogates.length; i++) {
@@ -72,7 +75,7 @@ import java.util.Arrays;
             }
             return new NonBmpStringValue(this.value + other.value, both);
         }
-        return new NonBmpStringValue(this.value + str.getValue(), surrogates);
+        return new NonBmpStringValue(this.value + stringValue.value, surrogates);
     }
 
      public int[] getSurrogates() {
@@ -82,50 +85,68 @@ import java.util.Arrays;
      @Override
      public Long indexOf(BString str, int fromIndex) {
          int offset = getOffset(fromIndex);
-         long index = value.indexOf(str.getValue(), offset);
+         int index = value.indexOf(str.getValue(), offset);
          if (index < 0) {
              return null;
          }
-         for (int i = 0; i < index; i++) {
-             char c = value.charAt(i);
-             if (Character.isHighSurrogate(c)) {
-                 index--;
-             }
-         }
-         return index;
+         return (long) getIndex(index);
      }
 
      @Override
      public Long lastIndexOf(BString str, int fromIndex) {
          int offset = getOffset(fromIndex);
-         long index = value.lastIndexOf(str.getValue(), offset);
+         int index = value.lastIndexOf(str.getValue(), offset);
          if (index < 0) {
              return null;
          }
-         for (int i = 0; i < index; i++) {
-             char c = value.charAt(i);
-             if (Character.isHighSurrogate(c)) {
-                 index--;
-             }
-         }
-         return index;
+         return (long) getIndex(index);
      }
+
      @Override
      public BString substring(int beginIndex, int endIndex) {
-         int beginOffset = getOffset(beginIndex);
-         int endOffset = getOffset(endIndex);
-         return StringUtils.fromString(value.substring(beginOffset, endOffset));
+         int beginCount = getSurrogateCountBefore(beginIndex);
+         int endCount = getSurrogateCountBefore(endIndex);
+         String substring = value.substring(beginIndex + beginCount, endIndex + endCount);
+         if (beginCount == endCount) {
+             return new BmpStringValue(substring);
+         }
+         int[] substringSurrogates = new int[endCount - beginCount];
+         for (int i = 0; i < substringSurrogates.length; i++) {
+             substringSurrogates[i] = surrogates[beginCount + i] - beginIndex;
+         }
+         return new NonBmpStringValue(substring, substringSurrogates);
      }
 
+     /**
+      * Returns the char offset of the code point at the given index.
+      */
      private int getOffset(int fromIndex) {
-         int offset = fromIndex;
-         for (int surrogate : surrogates) {
-             if (surrogate < fromIndex) {
-                 offset++;
+         return fromIndex + getSurrogateCountBefore(fromIndex);
+     }
+
+     /**
+      * Returns the number of surrogate pairs before the code point at the given index.
+      */
+     private int getSurrogateCountBefore(int index) {
+         int position = Arrays.binarySearch(surrogates, index);
+         return position >= 0 ? position : -position - 1;
+     }
+
+     /**
+      * Returns the code point index of the char at the given offset, which is the offset less the number of surrogate
+      * pairs that start before it. The i-th pair starts at the offset {@code surrogates[i] + i}.
+      */
+     private int getIndex(int offset) {
+         int low = 0;
+         int high = surrogates.length;
+         while (low < high) {
+             int mid = (low + high) >>> 1;
+             if (surrogates[mid] + mid < offset) {
+                 low = mid + 1;
              } else {
-                 break;
+                 high = mid;
              }
          }
-         return offset;
+         return offset - low;
      }
  }
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash index over the rows of a {@link TableRowStore}.
+ * <p>
+ * Each slot maps a primitive {@code long} hash to the most recently linked row having that hash, and rows sharing
+ * the same hash are chained through {@link #nextRows}. The index only knows about hashes; callers are responsible for
+ * comparing the actual values of the rows in a chain.
+ *
+ * @since 2201.2.0
+ */
+class RowHashIndex {
+
+    static final int NO_ROW = -1;
+    private static final int UNLINKED_ROW = -2;
+    private static final int MIN_SLOTS = 8;
+
+    // Slots hold the head row + 1, so that a zero filled slot array is empty.
+    private static final int FREE_SLOT = 0;
+    private static final int DELETED_SLOT = -1;
+
+    private long[] rowHashes;
+    private int[] nextRows;
+    private int rowCount;
+    private int linkedRows;
+
+    private long[] slotHashes;
+    private int[] slotRows;
+    private int usedSlots;
+
+    RowHashIndex(int rowCapacity) {
+        rowHashes = new long[rowCapacity];
+        nextRows = new int[rowCapacity];
+        Arrays.fill(nextRows, UNLINKED_ROW);
+        int slots = slotsFor(rowCapacity);
+        slotHashes = new long[slots];
+        slotRows = new int[slots];
+    }
+
+    /**
+     * Returns the most recently linked row having the given hash.
+     *
+     * @param hash hash to look for
+     * @return the row, or {@link #NO_ROW} if there is no such row
+     */
+    int first(long hash) {
+        int slot = findSlot(hash);
+        return slot < 0 ? NO_ROW : slotRows[slot] - 1;
+    }
+
+    /**
+     * Returns the row linked before the given row with the same hash.
+     *
+     * @param row a linked row
+     * @return the next row in the chain, or {@link #NO_ROW} at the end of the chain
+     */
+    int next(int row) {
+        return nextRows[row];
+    }
+
+    long hash(int row) {
+        return rowHashes[row];
+    }
+
+    void link(int row, long hash) {
+        if (row >= rowHashes.length) {
+            growRows(Math.max(row + 1, rowHashes.length + (rowHashes.length >> 1)));
+        }
+        if ((usedSlots + 1) * 4L > slotRows.length * 3L) {
+            // Deleted slots are counted as used until the slots are rebuilt, so grow only if the live rows need it.
+            int slots = slotRows.length;
+            rowHashes[row] = hash;
+            nextRows[row] = UNLINKED_ROW;
+            rebuildSlots((linkedRows + 1) * 2L > slots ? slots << 1 : slots);
+        }
+        rowHashes[row] = hash;
+        rowCount = Math.max(rowCount, row + 1);
+        linkedRows++;
+        linkToSlot(row);
+    }
+
+    void unlink(int row) {
+        int slot = findSlot(rowHashes[row]);
+        int prev = NO_ROW;
+        int current = slotRows[slot] - 1;
+        while (current != row) {
+            prev = current;
+            current = nextRows[current];
+        }
+        if (prev != NO_ROW) {
+            nextRows[prev] = nextRows[row];
+        } else if (nextRows[row] != NO_ROW) {
+            slotRows[slot] = nextRows[row] + 1;
+        } else {
+            slotRows[slot] = DELETED_SLOT;
+        }
+        nextRows[row] = UNLINKED_ROW;
+        linkedRows--;
+    }
+
+    void growRows(int capacity) {
+        if (capacity <= rowHashes.length) {
+            return;
+        }
+        int oldCapacity = rowHashes.length;
+        rowHashes = Arrays.copyOf(rowHashes, capacity);
+        nextRows = Arrays.copyOf(nextRows, capacity);
+        Arrays.fill(nextRows, oldCapacity, capacity, UNLINKED_ROW);
+    }
+
+    /**
+     * Makes room for linking rows up to the given capacity without growing the slots again.
+     *
+     * @param rowCapacity number of rows the index should be able to hold
+     */
+    void ensureCapacity(int rowCapacity) {
+        growRows(rowCapacity);
+        int slots = slotsFor(rowCapacity);
+        if (slots > slotRows.length) {
+            rebuildSlots(slots);
+        }
+    }
+
+    /**
+     * Moves the linked rows as done by a compaction of the row store.
+     *
+     * @param rowMapping new position of each row, see {@link TableRowStore}
+     * @param newRowCount number of rows after the compaction
+     */
+    void compact(int[] rowMapping, int newRowCount) {
+        for (int row = 0; row < rowCount; row++) {
+            if (nextRows[row] != UNLINKED_ROW) {
+                rowHashes[rowMapping[row]] = rowHashes[row];
+                // rows only move towards the start, so the target has already been visited
+                nextRows[rowMapping[row]] = NO_ROW;
+                if (rowMapping[row] != row) {
+                    nextRows[row] = UNLINKED_ROW;
+                }
+            }
+        }
+        Arrays.fill(nextRows, newRowCount, Math.max(rowCount, newRowCount), UNLINKED_ROW);
+        rowCount = newRowCount;
+        rebuildSlots(slotRows.length);
+    }
+
+    private static int slotsFor(int rowCapacity) {
+        return Integer.highestOneBit(Math.max(rowCapacity + (rowCapacity / 3), MIN_SLOTS) - 1) << 1;
+    }
+
+    static int spread(long hash) {
+        return (int) ((hash * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+
+    private int findSlot(long hash) {
+        int mask = slotRows.length - 1;
+        int slot = spread(hash) & mask;
+        int head;
+        while ((head = slotRows[slot]) != FREE_SLOT) {
+            if (head != DELETED_SLOT && slotHashes[slot] == hash) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_ROW;
+    }
+
+    private void linkToSlot(int row) {
+        long hash = rowHashes[row];
+        int mask = slotRows.length - 1;
+        int slot = spread(hash) & mask;
+        int firstDeleted = NO_ROW;
+        int head;
+        while ((head = slotRows[slot]) != FREE_SLOT) {
+            if (head == DELETED_SLOT) {
+                if (firstDeleted == NO_ROW) {
+                    firstDeleted = slot;
+                }
+            } else if (slotHashes[slot] == hash) {
+                nextRows[row] = head - 1;
+                slotRows[slot] = row + 1;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (firstDeleted != NO_ROW) {
+            slot = firstDeleted;
+        } else {
+            usedSlots++;
+        }
+        nextRows[row] = NO_ROW;
+        slotHashes[slot] = hash;
+        slotRows[slot] = row + 1;
+    }
+
+    private void rebuildSlots(int slots) {
+        slotHashes = new long[slots];
+        slotRows = new int[slots];
+        usedSlots = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (nextRows[row] != UNLINKED_ROW) {
+                linkToSlot(row);
+            }
+        }
+    }
+}
@@ -64,9 +64,26 @@ public abstract class StringValue implements BString, SimpleValue {
         return value;
     }
 
+    /**
+     * Returns the number of characters of this string that are outside the basic multilingual plane, each of which
+     * is represented by a surrogate pair.
+     *
+     * @return the number of surrogate pairs
+     */
+    abstract int getSurrogateCount();
+
+    /**
+     * Returns a string holding the characters of this string in a single {@link String}.
+     *
+     * @return this string, or the flattened string if this is a concatenated string
+     */
+    StringValue flatten() {
+        return this;
+    }
+
     @Override
     public String stringValue(BLink parent) {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -81,12 +98,12 @@ public abstract class StringValue implements BString, SimpleValue {
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return getValue().hashCode();
     }
 
     @Override
@@ -95,7 +112,7 @@ public abstract class StringValue implements BString, SimpleValue {
             return true;
         }
         if (str instanceof BString) {
-            return ((BString) str).getValue().equals(value);
+            return ((BString) str).getValue().equals(getValue());
         }
         return false;
     }
@@ -0,0 +1,476 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TableUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Row storage of a table.
+ * <p>
+ * Rows are kept in insertion order in parallel arrays. For keyed tables, a {@link RowHashIndex} maps the primitive
+ * {@code long} key hash to the rows having that hash. Secondary {@link FieldIndex}es can be added on the fields of the
+ * rows, and are kept up to date as rows are appended, replaced and removed. Removed rows are left as holes and get
+ * compacted away when the row arrays need to grow.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of rows
+ *
+ * @since 2201.2.0
+ */
+class TableRowStore<K, V> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final int NO_ROW = RowHashIndex.NO_ROW;
+    private static final String ASCENDING = "ascending";
+
+    private final boolean indexed;
+
+    private Object[] rowKeys;
+    private Object[] rowValues;
+    private int rowCount;
+    private int size;
+
+    private RowHashIndex keyIndex;
+    private final Map<BString, FieldIndex> fieldIndexes = new HashMap<>();
+
+    private Compaction compaction = new Compaction();
+
+    TableRowStore(boolean indexed) {
+        this(indexed, DEFAULT_CAPACITY);
+    }
+
+    TableRowStore(boolean indexed, int initialCapacity) {
+        this.indexed = indexed;
+        initRows(Math.max(initialCapacity, DEFAULT_CAPACITY));
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    K getKey(int row) {
+        return (K) rowKeys[row];
+    }
+
+    @SuppressWarnings("unchecked")
+    V getValue(int row) {
+        return (V) rowValues[row];
+    }
+
+    /**
+     * Finds the row having the given key.
+     *
+     * @param hash hash of the key
+     * @param key  key of the row
+     * @return the row, or a negative value if there is no such row
+     */
+    int find(long hash, Object key) {
+        if (!indexed) {
+            return NO_ROW;
+        }
+        for (int row = keyIndex.first(hash); row != NO_ROW; row = keyIndex.next(row)) {
+            if (TypeChecker.isEqual(key, rowKeys[row])) {
+                return row;
+            }
+        }
+        return NO_ROW;
+    }
+
+    /**
+     * Appends a new row. The caller is responsible for making sure that there is no row with an equal key.
+     *
+     * @param hash  hash of the key
+     * @param key   key of the row
+     * @param value the row
+     * @return the new row
+     */
+    int append(long hash, K key, V value) {
+        if (rowCount == rowKeys.length) {
+            makeRoomForRow();
+        }
+        int row = rowCount++;
+        rowKeys[row] = key;
+        rowValues[row] = value;
+        size++;
+        if (indexed) {
+            keyIndex.link(row, hash);
+        }
+        for (FieldIndex fieldIndex : fieldIndexes.values()) {
+            fieldIndex.add(row);
+        }
+        return row;
+    }
+
+    /**
+     * Makes room for appending the given number of rows, so that the row arrays and the indexes are grown at most once
+     * when loading many rows.
+     *
+     * @param additionalRows number of rows about to be appended
+     */
+    void ensureCapacity(int additionalRows) {
+        int capacity = rowCount + additionalRows;
+        if (capacity <= rowKeys.length) {
+            return;
+        }
+        rowKeys = Arrays.copyOf(rowKeys, capacity);
+        rowValues = Arrays.copyOf(rowValues, capacity);
+        if (indexed) {
+            keyIndex.ensureCapacity(capacity);
+        }
+        for (FieldIndex fieldIndex : fieldIndexes.values()) {
+            fieldIndex.hashIndex.ensureCapacity(capacity);
+        }
+    }
+
+    void set(int row, K key, V value) {
+        rowKeys[row] = key;
+        rowValues[row] = value;
+        for (FieldIndex fieldIndex : fieldIndexes.values()) {
+            fieldIndex.update(row);
+        }
+    }
+
+    /**
+     * Removes the row having the given key.
+     *
+     * @param hash hash of the key
+     * @param key  key of the row
+     * @return the removed row or null if there is no such row
+     */
+    V remove(long hash, Object key) {
+        int row = find(hash, key);
+        if (row == NO_ROW) {
+            return null;
+        }
+        keyIndex.unlink(row);
+        for (FieldIndex fieldIndex : fieldIndexes.values()) {
+            fieldIndex.remove(row);
+        }
+        V value = getValue(row);
+        rowKeys[row] = null;
+        rowValues[row] = null;
+        size--;
+        return value;
+    }
+
+    void clear() {
+        // Existing cursors move to the end of the (now empty) rows.
+        compact(new int[rowCount + 1]);
+        initRows(DEFAULT_CAPACITY);
+        for (FieldIndex fieldIndex : fieldIndexes.values()) {
+            fieldIndex.clear();
+        }
+    }
+
+    RowCursor cursor() {
+        return new RowCursor();
+    }
+
+    /**
+     * Returns the index on the given field of the rows, creating it from the current rows if there is none yet.
+     *
+     * @param fieldName name of the field
+     * @return the index
+     */
+    FieldIndex getFieldIndex(BString fieldName) {
+        FieldIndex fieldIndex = fieldIndexes.get(fieldName);
+        if (fieldIndex == null) {
+            fieldIndex = new FieldIndex(fieldName);
+            fieldIndexes.put(fieldName, fieldIndex);
+        }
+        return fieldIndex;
+    }
+
+    private void initRows(int capacity) {
+        rowKeys = new Object[capacity];
+        rowValues = new Object[capacity];
+        rowCount = 0;
+        size = 0;
+        if (indexed) {
+            keyIndex = new RowHashIndex(capacity);
+        }
+    }
+
+    private void makeRoomForRow() {
+        int removedRows = rowCount - size;
+        if (removedRows > 0 && removedRows >= rowCount / 2) {
+            int[] rowMapping = new int[rowCount + 1];
+            int newRow = 0;
+            for (int row = 0; row < rowCount; row++) {
+                rowMapping[row] = newRow;
+                if (rowValues[row] != null) {
+                    rowKeys[newRow] = rowKeys[row];
+                    rowValues[newRow] = rowValues[row];
+                    newRow++;
+                }
+            }
+            rowMapping[rowCount] = newRow;
+            Arrays.fill(rowKeys, newRow, rowCount, null);
+            Arrays.fill(rowValues, newRow, rowCount, null);
+            compact(rowMapping);
+            if (indexed) {
+                keyIndex.compact(rowMapping, newRow);
+            }
+            for (FieldIndex fieldIndex : fieldIndexes.values()) {
+                fieldIndex.compact(rowMapping, newRow);
+            }
+            rowCount = newRow;
+            return;
+        }
+
+        int capacity = rowKeys.length + (rowKeys.length >> 1);
+        rowKeys = Arrays.copyOf(rowKeys, capacity);
+        rowValues = Arrays.copyOf(rowValues, capacity);
+        if (indexed) {
+            keyIndex.growRows(capacity);
+        }
+    }
+
+    private void compact(int[] rowMapping) {
+        Compaction current = compaction;
+        compaction = new Compaction();
+        current.rowMapping = rowMapping;
+        current.next = compaction;
+    }
+
+    /**
+     * Records how rows were moved by a compaction, so that cursors created before it can continue from the same
+     * logical position.
+     */
+    private static class Compaction {
+        int[] rowMapping;
+        Compaction next;
+    }
+
+    /**
+     * Iterates the rows in insertion order. Rows added while iterating are also visited.
+     */
+    class RowCursor {
+        private int row;
+        private Compaction seen = compaction;
+
+        boolean hasNext() {
+            for (; seen.next != null; seen = seen.next) {
+                row = seen.rowMapping[row];
+            }
+            while (row < rowCount && rowValues[row] == null) {
+                row++;
+            }
+            return row < rowCount;
+        }
+
+        /**
+         * Moves to the next row. Must only be called after {@link #hasNext()} returned true.
+         *
+         * @return the row
+         */
+        int next() {
+            return row++;
+        }
+    }
+
+    /**
+     * Secondary index on a field of the rows.
+     * <p>
+     * Equality lookups go through a {@link RowHashIndex} on the hash of the field value, which is maintained along
+     * with the rows. Range lookups use the rows sorted by the field value, which are computed on first use after the
+     * rows have changed. Lookups return the matching rows in insertion order.
+     * <p>
+     * The index relies on the field values of the rows not changing while the rows are in the table, so it must only
+     * be used for fields that are immutable.
+     */
+    class FieldIndex {
+        private final BString fieldName;
+        private RowHashIndex hashIndex;
+        private int[] sortedRows;
+
+        private FieldIndex(BString fieldName) {
+            this.fieldName = fieldName;
+            this.hashIndex = new RowHashIndex(rowKeys.length);
+            for (int row = 0; row < rowCount; row++) {
+                if (rowValues[row] != null) {
+                    hashIndex.link(row, TableUtils.hash(fieldValue(row), null));
+                }
+            }
+        }
+
+        /**
+         * Returns the rows whose field value is equal to the given value.
+         *
+         * @param value value of the field
+         * @return the matching rows
+         */
+        List<V> lookup(Object value) {
+            int[] rows = new int[DEFAULT_CAPACITY];
+            int count = 0;
+            for (int row = hashIndex.first(TableUtils.hash(value, null)); row != NO_ROW; row = hashIndex.next(row)) {
+                if (TypeChecker.isEqual(value, fieldValue(row))) {
+                    if (count == rows.length) {
+                        rows = Arrays.copyOf(rows, count << 1);
+                    }
+                    rows[count++] = row;
+                }
+            }
+            // chains are linked most recent first, while rows replaced in place keep their original position
+            Arrays.sort(rows, 0, count);
+            return toValues(rows, count);
+        }
+
+        /**
+         * Returns the rows whose field value is less than (or greater than) the given value. Rows having a field value
+         * that is not ordered with respect to the given value may also be returned.
+         *
+         * @param value     value to compare with
+         * @param lessThan  whether to look for values less than the given value, instead of greater than
+         * @param inclusive whether to include rows having a field value equal to the given value
+         * @return the matching rows, or null if the field values are not ordered
+         */
+        List<V> lookupRange(Object value, boolean lessThan, boolean inclusive) {
+            int[] sorted = sortedRows();
+            if (sorted == null) {
+                return null;
+            }
+            int from;
+            int to;
+            try {
+                // values less than the boundary are on its left, the rest on its right
+                int boundary = lessThan == inclusive ? upperBound(sorted, value) : lowerBound(sorted, value);
+                from = lessThan ? 0 : boundary;
+                to = lessThan ? boundary : sorted.length;
+            } catch (BError e) {
+                return null;
+            }
+            int[] rows = Arrays.copyOfRange(sorted, from, to);
+            Arrays.sort(rows);
+            return toValues(rows, rows.length);
+        }
+
+        private void add(int row) {
+            hashIndex.link(row, TableUtils.hash(fieldValue(row), null));
+            sortedRows = null;
+        }
+
+        private void update(int row) {
+            long hash = TableUtils.hash(fieldValue(row), null);
+            if (hash != hashIndex.hash(row)) {
+                hashIndex.unlink(row);
+                hashIndex.link(row, hash);
+            }
+            sortedRows = null;
+        }
+
+        private void remove(int row) {
+            hashIndex.unlink(row);
+            sortedRows = null;
+        }
+
+        private void compact(int[] rowMapping, int newRowCount) {
+            hashIndex.compact(rowMapping, newRowCount);
+            sortedRows = null;
+        }
+
+        private void clear() {
+            hashIndex = new RowHashIndex(rowKeys.length);
+            sortedRows = null;
+        }
+
+        private Object fieldValue(int row) {
+            return ((MapValue<?, ?>) rowValues[row]).get(fieldName);
+        }
+
+        private int[] sortedRows() {
+            if (sortedRows != null) {
+                return sortedRows;
+            }
+            Integer[] rows = new Integer[size];
+            int count = 0;
+            for (int row = 0; row < rowCount; row++) {
+                if (rowValues[row] != null) {
+                    rows[count++] = row;
+                }
+            }
+            try {
+                // stable, so rows having equal values stay in insertion order
+                Arrays.sort(rows, (row1, row2) -> ValueComparisonUtils.compareValues(fieldValue(row1),
+                        fieldValue(row2), ASCENDING));
+            } catch (BError e) {
+                // the field has values of types that can't be ordered with each other
+                return null;
+            }
+            sortedRows = new int[count];
+            for (int i = 0; i < count; i++) {
+                sortedRows[i] = rows[i];
+            }
+            return sortedRows;
+        }
+
+        private int lowerBound(int[] sorted, Object value) {
+            int low = 0;
+            int high = sorted.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ValueComparisonUtils.compareValues(fieldValue(sorted[mid]), value,
+                        ASCENDING) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int upperBound(int[] sorted, Object value) {
+            int low = 0;
+            int high = sorted.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ValueComparisonUtils.compareValues(fieldValue(sorted[mid]), value,
+                        ASCENDING) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private List<V> toValues(int[] rows, int count) {
+            List<V> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                values.add(getValue(rows[i]));
+            }
+            return values;
+        }
+    }
+}
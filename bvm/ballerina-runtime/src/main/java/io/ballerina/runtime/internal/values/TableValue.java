@@ -18,6 +18,7 @@
 package io.ballerina.runtime.internal.values;
 
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BTable;
 
 /**
@@ -36,6 +37,8 @@ public interface TableValue<K, V> extends RefValue, CollectionValue, BTable<K, V
 
     void add(V data);
 
+    void addAll(BArray data);
+
     V getOrThrow(Object key);
 
     V put(K key, V value);
@@ -20,12 +20,12 @@ package io.ballerina.runtime.internal.values;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
-import io.ballerina.runtime.api.values.BIterator;
 import io.ballerina.runtime.api.values.BLink;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
@@ -52,14 +52,11 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.internal.ValueUtils.createSingletonTypedesc;
@@ -82,19 +79,11 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private TableType type;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, List<Map.Entry<K, V>>> entries;
-    private LinkedHashMap<Long, List<V>> values;
-    private LinkedHashMap<Long, K> keys;
+    private TableRowStore<K, V> rows;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, K> indexToKeyMap;
-    private LinkedHashMap<K, Long> keyToIndexMap;
-    private LinkedHashMap<K, V> keyValues;
-    private long noOfAddedEntries = 0;
-
     private boolean nextKeySupported;
 
     private final Map<String, Object> nativeData = new HashMap<>();
@@ -103,16 +92,12 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     public TableValueImpl(TableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
         this.fieldNames = type.getFieldNames();
-        this.keyValues = new LinkedHashMap<>();
         if (type.getFieldNames().length > 0) {
+            this.rows = new TableRowStore<>(true);
             this.valueHolder = new KeyHashValueHolder();
         } else {
+            this.rows = new TableRowStore<>(false);
             this.valueHolder = new ValueHolder();
         }
         this.typedesc = getTypedescValue(type, this);
@@ -131,10 +116,18 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     private void addData(ArrayValue data) {
-        BIterator itr = data.getIterator();
-        while (itr.hasNext()) {
-            Object next = itr.next();
-            valueHolder.addData((V) next);
+        int count = data.size();
+        rows.ensureCapacity(count);
+        Type checkedType = null;
+        for (int i = 0; i < count; i++) {
+            MapValue<?, ?> dataMap = (MapValue<?, ?>) data.get(i);
+            // rows are mostly created from the same type, which then only needs to be checked once
+            Type rowType = dataMap.getType();
+            if (rowType != checkedType) {
+                checkInherentTypeViolation(dataMap, type);
+                checkedType = rowType;
+            }
+            valueHolder.addCheckedData((V) dataMap);
         }
     }
 
@@ -157,6 +150,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         if (fieldNames != null) {
             clone.fieldNames = fieldNames;
         }
+        clone.rows.ensureCapacity(rows.size());
 
         IteratorValue itr = getIterator();
         while (itr.hasNext()) {
@@ -219,6 +213,19 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         valueHolder.addData(data);
     }
 
+    /**
+     * Adds all the given rows to the table, in order. This behaves as calling {@link #add} for each row, so the rows
+     * before the first one that fails to be added remain in the table, but the row storage and the key index are sized
+     * for all the rows up front and the inherent type of the table is checked once per distinct row type.
+     *
+     * @param data the rows to add
+     */
+    @Override
+    public void addAll(BArray data) {
+        handleFrozenTableValue();
+        addData((ArrayValue) data);
+    }
+
     @Override
     public V remove(Object key) {
         handleFrozenTableValue();
@@ -233,18 +240,20 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
         LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
-        for (List<Map.Entry<K, V>> entry: entries.values()) {
-            entrySet.addAll(entry);
+        TableRowStore<K, V>.RowCursor cursor = rows.cursor();
+        while (cursor.hasNext()) {
+            int row = cursor.next();
+            entrySet.add(new AbstractMap.SimpleEntry<>(rows.getKey(row), rows.getValue(row)));
         }
-        return new LinkedHashSet(entries.values());
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        ArrayList<V> newValues = new ArrayList<>();
-        Set<Long> keys = values.keySet();
-        for (long key: keys) {
-            newValues.addAll(values.get(key));
+        ArrayList<V> newValues = new ArrayList<>(rows.size());
+        TableRowStore<K, V>.RowCursor cursor = rows.cursor();
+        while (cursor.hasNext()) {
+            newValues.add(rows.getValue(cursor.next()));
         }
         return newValues;
     }
@@ -252,12 +261,76 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        rows.clear();
+    }
+
+    /**
+     * Returns the rows whose value for the given field is equal to the given value, in insertion order.
+     * <p>
+     * Lookups go through a secondary index on the field, which is created on first use and kept up to date as rows are
+     * added, replaced and removed. Since rows can be mutated in place without the table knowing about it, only fields
+     * whose values can't change are indexed, i.e. {@code readonly} fields and fields of immutable rows.
+     *
+     * @param fieldName name of the field
+     * @param value     value to look for
+     * @return the matching rows, or null if the field can't be indexed
+     */
+    public List<V> lookupByIndex(BString fieldName, Object value) {
+        if (!isIndexable(fieldName)) {
+            return null;
+        }
+        return rows.getFieldIndex(fieldName).lookup(value);
+    }
+
+    /**
+     * Returns the rows whose value for the given field is less than (or greater than) the given value, in insertion
+     * order. Rows having values that are not ordered with respect to the given value may also be returned.
+     *
+     * @param fieldName name of the field
+     * @param value     value to compare with
+     * @param lessThan  whether to look for values less than the given value, instead of greater than
+     * @param inclusive whether to include rows having a value equal to the given value
+     * @return the matching rows, or null if the field can't be indexed or its values are not ordered
+     * @see #lookupByIndex(BString, Object)
+     */
+    public List<V> lookupRangeByIndex(BString fieldName, Object value, boolean lessThan, boolean inclusive) {
+        if (!isIndexable(fieldName)) {
+            return null;
+        }
+        return rows.getFieldIndex(fieldName).lookupRange(value, lessThan, inclusive);
+    }
+
+    /**
+     * Creates the secondary index on the given field up front, instead of on the first lookup.
+     *
+     * @param fieldName name of the field
+     * @return true if the field can be indexed
+     * @see #lookupByIndex(BString, Object)
+     */
+    public boolean createIndex(BString fieldName) {
+        if (!isIndexable(fieldName)) {
+            return false;
+        }
+        rows.getFieldIndex(fieldName);
+        return true;
+    }
+
+    private boolean isIndexable(BString fieldName) {
+        if (type.isReadOnly()) {
+            return true;
+        }
+        Type constraintType = type.getConstrainedType();
+        if (constraintType.getTag() == TypeTags.INTERSECTION_TAG) {
+            constraintType = ((BIntersectionType) constraintType).getEffectiveType();
+        }
+        if (constraintType.isReadOnly()) {
+            return true;
+        }
+        if (constraintType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return false;
+        }
+        Field field = ((BRecordType) constraintType).getFields().get(fieldName.getValue());
+        return field != null && SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY);
     }
 
     @Override
@@ -286,7 +359,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return rows.isEmpty() ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
@@ -314,10 +387,15 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        Object[] keyArr = new Object[keys.size()];
+        if (fieldNames.length == 0) {
+            // keyless tables do not have keys
+            return (K[]) new Object[0];
+        }
+        Object[] keyArr = new Object[rows.size()];
         int i = 0;
-        for (K key : keys.values()) {
-            keyArr[i] = key;
+        TableRowStore<K, V>.RowCursor cursor = rows.cursor();
+        while (cursor.hasNext()) {
+            keyArr[i] = rows.getKey(cursor.next());
             i++;
         }
         return (K[]) keyArr;
@@ -325,12 +403,12 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public int size() {
-        return values().size();
+        return rows.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return rows.isEmpty();
     }
 
     @Override
@@ -356,7 +434,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
+        Iterator<V> itr = values().iterator();
         return createStringValueDataEntry(itr, parent);
     }
 
@@ -367,28 +445,19 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
+        Iterator<V> itr = values().iterator();
         return createExpressionStringValueDataEntry(itr, parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(StringUtils.getStringValue(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(StringUtils.getStringValue(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
-            }
+            sj.add(StringUtils.getStringValue(itr.next(), new CycleUtils.Node(this, parent)));
         }
         return "[" + sj + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         String[] keysList = type.getFieldNames();
@@ -396,16 +465,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             keyJoiner.add(keysList[i]);
         }
         while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(StringUtils.getExpressionStringValue(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(StringUtils.getExpressionStringValue(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
-            }
+            sj.add(StringUtils.getExpressionStringValue(itr.next(), new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner + ") [" + sj + "]";
     }
@@ -450,44 +510,53 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+        private final TableRowStore<?, ?>.RowCursor cursor;
 
         TableIterator() {
-            this.cursor = 0;
+            this.cursor = rows.cursor();
         }
 
         @Override
         public Object next() {
-            K key = (K) indexToKeyMap.get(cursor);
-            if (key != null) {
-                V value = (V) keyValues.get(key);
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
+            if (!cursor.hasNext()) {
+                return null;
             }
+            int row = cursor.next();
+            K key = (K) rows.getKey(row);
+            V value = (V) rows.getValue(row);
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+           return cursor.hasNext();
         }
     }
 
     private class ValueHolder {
 
         public void addData(V data) {
-            putData(data);
+            checkInherentTypeViolation((MapValue) data, type);
+            addCheckedData(data);
+        }
+
+        /**
+         * Adds a row whose type has already been checked against the inherent type of the table.
+         *
+         * @param data the row
+         */
+        public void addCheckedData(V data) {
+            // rows of keyless tables are not indexed, the row itself is used as the key when iterating
+            rows.append(0, (K) data, data);
         }
 
         public V getData(K key) {
@@ -502,18 +571,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entryList);
-            updateIndexKeyMappings((K) data);
-            values.put((long) uuid.hashCode(), newData);
-            keyValues.put((K) data, data);
+            // rows of keyless tables are not indexed, the row itself is used as the key when iterating
+            rows.append(0, (K) data, data);
             return data;
         }
 
@@ -545,137 +604,63 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
         }
 
-        public void addData(V data) {
-            MapValue dataMap = (MapValue) data;
-            checkInherentTypeViolation(dataMap, type);
-            K key = this.keyWrapper.wrapKey(dataMap);
+        public void addCheckedData(V data) {
+            K key = this.keyWrapper.wrapKey((MapValue) data);
+            long hash = TableUtils.hash(key, null);
 
-            if (containsKey((K) key)) {
+            if (rows.find(hash, key) >= 0) {
                 throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
                         BLangExceptionHelper.getErrorDetails(RuntimeErrors.TABLE_HAS_A_VALUE_FOR_KEY, key));
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (rows.isEmpty() || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Long hash = TableUtils.hash(key, null);
-
-            if (keys.containsKey(hash)) {
-                List<Map.Entry<K, V>> extEntries = entries.get(hash);
-                Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-                extEntries.add(entry);
-                List<V> extValues = values.get(hash);
-                extValues.add(data);
-                keyValues.put(key, data);
-                updateIndexKeyMappings(key);
-                return;
-            }
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            putData(key, data, newData, entry, hash);
+            rows.append(hash, key, data);
         }
 
         public V getData(K key) {
-            List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-            if (entryList == null) {
-                return null;
-            }
-            for (Map.Entry<K, V> entry: entryList) {
-                if (TypeChecker.isEqual(key, entry.getKey())) {
-                    return entry.getValue();
-                }
-            }
-            return null;
+            int row = rows.find(TableUtils.hash(key, null), key);
+            return row < 0 ? null : rows.getValue(row);
         }
 
         public V putData(K key, V data) {
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
+            long actualHash = TableUtils.hash(actualKey, null);
+            long hash = TableUtils.hash(key, null);
 
-            if (!hash.equals(actualHash)) {
+            if (hash != actualHash) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR,
                         BLangExceptionHelper.getErrorDetails(RuntimeErrors.KEY_NOT_FOUND_IN_VALUE, key, data));
             }
 
-            return putData(key, data, newData, entry, hash);
+            return putData(key, data, hash);
         }
 
-        private V putData(K key, V value, List<V> data, Map.Entry<K, V> entry, Long hash) {
-
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            entries.put(hash, entryList);
-            keys.put(hash, key);
-            updateIndexKeyMappings(key);
-            values.put(hash, data);
-            keyValues.put(key, value);
-            return data.get(0);
+        private V putData(K key, V value, long hash) {
+            int row = rows.find(hash, key);
+            if (row < 0) {
+                rows.append(hash, key, value);
+            } else {
+                rows.set(row, key, value);
+            }
+            return value;
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, newData, entry, hash);
+            return putData(key, data, TableUtils.hash(key, null));
         }
 
         public V remove(K key) {
-            keyValues.remove(key);
-            Long hash = TableUtils.hash(key, null);
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            if (entryList != null && entryList.size() > 1) {
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (TypeChecker.isEqual(key, entry.getKey())) {
-                        List<V> valueList = values.get(hash);
-                        valueList.remove(entry.getValue());
-                        entryList.remove(entry);
-                        Long index = keyToIndexMap.remove(key);
-                        indexToKeyMap.remove(index);
-                        if (index != null && index == noOfAddedEntries - 1) {
-                            noOfAddedEntries--;
-                        }
-                        return entry.getValue();
-                    }
-                }
-            }
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(key);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
-            }
-            List<V> removedValue = values.remove(hash);
-            if (removedValue == null) {
-                return null;
-            }
-            return removedValue.get(0);
+            return rows.remove(TableUtils.hash(key, null), key);
         }
 
         public boolean containsKey(K key) {
-            if (keys.containsKey(TableUtils.hash(key, null))) {
-                List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (TypeChecker.isEqual(entry.getKey(), key)) {
-                        return true;
-                    }
-                }
-            }
-            return false;
+            return rows.find(TableUtils.hash(key, null), key) >= 0;
         }
 
         public Type getKeyType() {
@@ -684,7 +669,13 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         private class DefaultKeyWrapper {
 
+            protected final BString[] keyFieldNames;
+
             public DefaultKeyWrapper() {
+                keyFieldNames = new BString[fieldNames.length];
+                for (int i = 0; i < fieldNames.length; i++) {
+                    keyFieldNames[i] = StringUtils.fromString(fieldNames[i]);
+                }
                 if (fieldNames.length == 1) {
                     keyType = getTableConstraintField(type.getConstrainedType(), fieldNames[0]);
                     if (keyType != null && keyType.getTag() == TypeTags.INT_TAG) {
@@ -694,7 +685,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
 
             public K wrapKey(MapValue data) {
-                return (K) data.get(StringUtils.fromString(fieldNames[0]));
+                return (K) data.get(keyFieldNames[0]);
             }
         }
 
@@ -718,23 +709,14 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             public K wrapKey(MapValue data) {
                 TupleValueImpl arr = (TupleValueImpl) ValueCreator
                         .createTupleValue((BTupleType) keyType);
-                for (int i = 0; i < fieldNames.length; i++) {
-                    arr.add(i, data.get(StringUtils.fromString(fieldNames[i])));
+                for (int i = 0; i < keyFieldNames.length; i++) {
+                    arr.add(i, data.get(keyFieldNames[i]));
                 }
                 return (K) arr;
             }
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(K key) {
-        if (!keyToIndexMap.containsKey(key)) {
-            keyToIndexMap.put(key, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, key);
-            noOfAddedEntries++;
-        }
-    }
-
     // This method checks for inherent table type violation
     private void checkInherentTypeViolation(MapValue dataMap, TableType type) {
         if (!TypeChecker.checkIsType(dataMap.getType(), type.getConstrainedType())) {
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.transactions;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import javax.transaction.xa.Xid;
+
+/**
+ * Append-only write-ahead log of the XA commit decisions taken by the {@link TransactionResourceManager} when the
+ * Atomikos transaction manager is not enabled.
+ * <p>
+ * The log follows the presumed abort protocol. A commit record, which holds the number of resource managers taking
+ * part in the transaction, is forced to the disk before the prepared resources are asked to commit, and an end record
+ * is appended once all of them have committed. On restart the log is replayed and the transactions with a commit
+ * record but no end record are reported as pending commits, so that their prepared branches can be committed when
+ * the resources are enlisted again. A transaction without a commit record is never committed by the recovery.
+ * <p>
+ * Records appended while a disk sync is in progress are written and forced together by the next sync, so concurrent
+ * commits share the cost of a sync instead of serializing on it. The file is truncated once it grows beyond
+ * {@link #COMPACTION_THRESHOLD} and no commit is pending.
+ * <p>
+ * A record is laid out as
+ * {@code [length][crc32][type][format id][gtrid length][gtrid][bqual length][bqual][participants]}, where
+ * the length and the checksum cover the bytes following the checksum. A record that is cut short or does not match
+ * its checksum marks the end of the log when it is replayed.
+ *
+ * @since 2201.2.0
+ */
+public class TransactionLog implements Closeable {
+
+    public static final byte COMMIT = 1;
+    public static final byte END = 2;
+
+    static final long COMPACTION_THRESHOLD = 1 << 20;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+
+    private final FileChannel channel;
+    private final Map<XATransactionID, Integer> pendingCommits = new LinkedHashMap<>();
+    private final CRC32 checksum = new CRC32();
+    private ByteBuffer writeBuffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private ByteBuffer spareBuffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private long fileSize;
+    private long appendedCount;
+    private long syncedCount;
+    private boolean syncing;
+    private IOException failure;
+    private boolean closed;
+
+    /**
+     * Opens the log at the given path, creating it if it does not exist, and replays the existing records.
+     *
+     * @param path path of the log file
+     * @throws IOException if the log cannot be opened or read
+     */
+    public TransactionLog(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            replay();
+        } catch (IOException e) {
+            this.channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends a record about a transaction with a single resource manager to the log.
+     *
+     * @param type  {@link #COMMIT} or {@link #END}
+     * @param xid   the transaction the record is about
+     * @param force whether to wait until the record is on the disk
+     * @throws IOException if the log could not be written
+     */
+    public void append(byte type, Xid xid, boolean force) throws IOException {
+        append(type, xid, 1, force);
+    }
+
+    /**
+     * Appends a record to the log.
+     *
+     * @param type         {@link #COMMIT} or {@link #END}
+     * @param xid          the transaction the record is about
+     * @param participants the number of resource managers taking part in the transaction
+     * @param force        whether to wait until the record is on the disk
+     * @throws IOException if the log could not be written
+     */
+    public void append(byte type, Xid xid, int participants, boolean force) throws IOException {
+        XATransactionID key = toKey(xid);
+        long sequence;
+        synchronized (this) {
+            checkWritable();
+            if (type == COMMIT) {
+                pendingCommits.put(key, participants);
+            } else {
+                pendingCommits.remove(key);
+            }
+            writeRecord(type, key, participants);
+            sequence = ++appendedCount;
+            if (!force) {
+                return;
+            }
+            while (syncing && syncedCount < sequence) {
+                awaitSync();
+                checkWritable();
+            }
+            if (syncedCount >= sequence) {
+                return;
+            }
+            syncing = true;
+        }
+        sync();
+    }
+
+    /**
+     * Returns the transactions that have a commit record but no end record.
+     *
+     * @return a snapshot of the pending commits
+     */
+    public synchronized List<Xid> getPendingCommits() {
+        return new ArrayList<>(pendingCommits.keySet());
+    }
+
+    public synchronized boolean isPendingCommit(Xid xid) {
+        return pendingCommits.containsKey(toKey(xid));
+    }
+
+    /**
+     * Returns the number of resource managers taking part in a pending commit.
+     *
+     * @param xid the transaction
+     * @return the number of resource managers, or 0 if the commit is not pending
+     */
+    public synchronized int getParticipantCount(Xid xid) {
+        Integer participants = pendingCommits.get(toKey(xid));
+        return participants == null ? 0 : participants;
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            while (syncing) {
+                awaitSync();
+            }
+            closed = true;
+            syncing = true;
+        }
+        try {
+            if (failure == null) {
+                sync();
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void sync() throws IOException {
+        ByteBuffer buffer;
+        long target;
+        boolean truncate;
+        synchronized (this) {
+            buffer = writeBuffer;
+            writeBuffer = spareBuffer;
+            target = appendedCount;
+            truncate = pendingCommits.isEmpty() && fileSize + buffer.position() > COMPACTION_THRESHOLD;
+            fileSize = truncate ? 0 : fileSize + buffer.position();
+        }
+        IOException syncFailure = null;
+        try {
+            if (truncate) {
+                channel.truncate(0);
+            } else {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            syncFailure = e;
+        }
+        synchronized (this) {
+            buffer.clear();
+            spareBuffer = buffer;
+            syncing = false;
+            if (syncFailure == null) {
+                syncedCount = target;
+            } else {
+                failure = syncFailure;
+            }
+            notifyAll();
+        }
+        if (syncFailure != null) {
+            throw syncFailure;
+        }
+    }
+
+    private void awaitSync() throws IOException {
+        try {
+            wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while waiting for the transaction log to be written", e);
+        }
+    }
+
+    private void checkWritable() throws IOException {
+        if (failure != null) {
+            throw new IOException("transaction log is not writable after a previous failure", failure);
+        }
+        if (closed) {
+            throw new IOException("transaction log is closed");
+        }
+    }
+
+    private void writeRecord(byte type, Xid xid, int participants) {
+        byte[] gtrid = xid.getGlobalTransactionId();
+        byte[] bqual = xid.getBranchQualifier();
+        int length = 1 + Integer.BYTES + 1 + gtrid.length + 1 + bqual.length + Integer.BYTES;
+        if (writeBuffer.remaining() < RECORD_HEADER_SIZE + length) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(writeBuffer.capacity() * 2,
+                    writeBuffer.position() + RECORD_HEADER_SIZE + length));
+            writeBuffer.flip();
+            grown.put(writeBuffer);
+            writeBuffer = grown;
+        }
+        int start = writeBuffer.position();
+        writeBuffer.putInt(length);
+        writeBuffer.putInt(0);
+        int body = writeBuffer.position();
+        writeBuffer.put(type);
+        writeBuffer.putInt(xid.getFormatId());
+        writeBuffer.put((byte) gtrid.length);
+        writeBuffer.put(gtrid);
+        writeBuffer.put((byte) bqual.length);
+        writeBuffer.put(bqual);
+        writeBuffer.putInt(participants);
+        checksum.reset();
+        checksum.update(writeBuffer.array(), body, length);
+        writeBuffer.putInt(start + Integer.BYTES, (int) checksum.getValue());
+    }
+
+    private void replay() throws IOException {
+        long size = channel.size();
+        ByteBuffer content = ByteBuffer.allocate((int) size);
+        while (content.hasRemaining()) {
+            if (channel.read(content, content.position()) < 0) {
+                break;
+            }
+        }
+        content.flip();
+        int validLength = 0;
+        while (content.remaining() >= RECORD_HEADER_SIZE) {
+            int length = content.getInt();
+            int expectedChecksum = content.getInt();
+            if (length <= 0 || length > content.remaining()) {
+                break;
+            }
+            int body = content.position();
+            checksum.reset();
+            checksum.update(content.array(), body, length);
+            if ((int) checksum.getValue() != expectedChecksum) {
+                break;
+            }
+            byte type = content.get();
+            int formatId = content.getInt();
+            byte[] gtrid = new byte[content.get()];
+            content.get(gtrid);
+            byte[] bqual = new byte[content.get()];
+            content.get(bqual);
+            int participants = content.getInt();
+            XATransactionID xid = new XATransactionID(formatId, bqual, gtrid);
+            if (type == COMMIT) {
+                pendingCommits.put(xid, participants);
+            } else {
+                pendingCommits.remove(xid);
+            }
+            validLength = body + length;
+            content.position(validLength);
+        }
+        // Drops a record that was only partially written when the process stopped, or the whole log if all the
+        // transactions in it are complete.
+        if (pendingCommits.isEmpty()) {
+            validLength = 0;
+        }
+        if (validLength != size) {
+            channel.truncate(validLength);
+            channel.force(false);
+        }
+        channel.position(validLength);
+        fileSize = validLength;
+    }
+
+    private static XATransactionID toKey(Xid xid) {
+        if (xid instanceof XATransactionID) {
+            return (XATransactionID) xid;
+        }
+        return new XATransactionID(xid.getFormatId(), xid.getBranchQualifier(), xid.getGlobalTransactionId());
+    }
+}
@@ -72,7 +72,7 @@ import static javax.transaction.xa.XAResource.TMSUCCESS;
  */
 public class TransactionResourceManager {
 
-    private static TransactionResourceManager transactionResourceManager = null;
+    private static volatile TransactionResourceManager transactionResourceManager = null;
     private  static UserTransactionManager userTransactionManager = null;
 
     private static final StrandMetadata COMMIT_METADATA = new StrandMetadata(BALLERINA_BUILTIN_PKG_PREFIX,
@@ -84,6 +84,7 @@ public class TransactionResourceManager {
     private static final String ATOMIKOS_LOG_BASE_PROPERTY = "com.atomikos.icatch.log_base_dir";
     private static final String ATOMIKOS_LOG_NAME_PROPERTY = "com.atomikos.icatch.log_base_name";
     private static final String ATOMIKOS_REGISTERED_PROPERTY = "com.atomikos.icatch.registered";
+    private static final String TRANSACTION_LOG_NAME = "transaction_commit.log";
 
     private static final Logger log = LoggerFactory.getLogger(TransactionResourceManager.class);
     private Map<String, List<BallerinaTransactionContext>> resourceRegistry;
@@ -100,20 +101,24 @@ public class TransactionResourceManager {
     private boolean transactionManagerEnabled;
     private static final PrintStream stderr = System.err;
 
+    private TransactionLog transactionLog;
+    private boolean transactionLogOpened;
+    private volatile XARecovery recovery;
+
     Map<ByteBuffer, Object> transactionInfoMap;
 
     private TransactionResourceManager() {
-        resourceRegistry = new HashMap<>();
-        committedFuncRegistry = new HashMap<>();
-        abortedFuncRegistry = new HashMap<>();
-        transactionInfoMap = new HashMap<>();
+        resourceRegistry = new ConcurrentHashMap<>();
+        committedFuncRegistry = new ConcurrentHashMap<>();
+        abortedFuncRegistry = new ConcurrentHashMap<>();
+        transactionInfoMap = Collections.synchronizedMap(new HashMap<>());
         transactionManagerEnabled = getTransactionManagerEnabled();
         if (transactionManagerEnabled) {
-            trxRegistry = new HashMap<>();
+            trxRegistry = new ConcurrentHashMap<>();
             setLogProperties();
             userTransactionManager = new UserTransactionManager();
         } else {
-            xidRegistry = new HashMap<>();
+            xidRegistry = new ConcurrentHashMap<>();
         }
     }
 
@@ -133,28 +138,66 @@ public class TransactionResourceManager {
      *
      */
     private void setLogProperties() {
+        Path transactionLogDirectory = createTransactionLogDirectory();
+        if (transactionLogDirectory != null) {
+            System.setProperty(ATOMIKOS_LOG_BASE_PROPERTY, transactionLogDirectory.toString());
+            System.setProperty(ATOMIKOS_LOG_NAME_PROPERTY, "transaction_recovery");
+            System.setProperty(ATOMIKOS_REGISTERED_PROPERTY, "not-registered");
+        }
+    }
+
+    /**
+     * This method resolves the transaction log directory using the available configs and creates it if it does not
+     * exist.
+     *
+     * @return the transaction log directory
+     */
+    private Path createTransactionLogDirectory() {
         final Path projectRoot = Paths.get(RuntimeUtils.USER_DIR);
-        if (projectRoot != null) {
-            String logDir = getTransactionLogDirectory();
-            Path logDirPath = Paths.get(logDir);
-            Path transactionLogDirectory;
-            if (!logDirPath.isAbsolute()) {
-                logDir = projectRoot.toAbsolutePath().toString() + File.separatorChar + logDir;
-                transactionLogDirectory = Paths.get(logDir);
-            } else {
-                transactionLogDirectory = logDirPath;
+        if (projectRoot == null) {
+            return null;
+        }
+        String logDir = getTransactionLogDirectory();
+        Path logDirPath = Paths.get(logDir);
+        Path transactionLogDirectory;
+        if (!logDirPath.isAbsolute()) {
+            logDir = projectRoot.toAbsolutePath().toString() + File.separatorChar + logDir;
+            transactionLogDirectory = Paths.get(logDir);
+        } else {
+            transactionLogDirectory = logDirPath;
+        }
+        if (!Files.exists(transactionLogDirectory)) {
+            try {
+                Files.createDirectory(transactionLogDirectory);
+            } catch (IOException e) {
+                stderr.println("error: failed to create transaction log directory in " + logDir);
             }
-            if (!Files.exists(transactionLogDirectory)) {
+        }
+        return transactionLogDirectory;
+    }
+
+    /**
+     * This method opens the log of XA commit decisions on first use, so that programs which do not use XA resources
+     * do not create it. The commits that were pending when the log was last closed are kept for recovery.
+     *
+     * @return the transaction log, or null if it could not be opened
+     */
+    private synchronized TransactionLog getTransactionLog() {
+        if (!transactionLogOpened) {
+            transactionLogOpened = true;
+            Path transactionLogDirectory = createTransactionLogDirectory();
+            if (transactionLogDirectory != null) {
                 try {
-                    Files.createDirectory(transactionLogDirectory);
+                    transactionLog = new TransactionLog(transactionLogDirectory.resolve(TRANSACTION_LOG_NAME));
+                    if (!transactionLog.getPendingCommits().isEmpty()) {
+                        recovery = new XARecovery(transactionLog);
+                    }
                 } catch (IOException e) {
-                    stderr.println("error: failed to create transaction log directory in " + logDir);
+                    log.error("error in opening the transaction log: " + e.getMessage(), e);
                 }
             }
-            System.setProperty(ATOMIKOS_LOG_BASE_PROPERTY, logDir);
-            System.setProperty(ATOMIKOS_LOG_NAME_PROPERTY, "transaction_recovery");
-            System.setProperty(ATOMIKOS_REGISTERED_PROPERTY, "not-registered");
         }
+        return transactionLog;
     }
 
     /**
@@ -288,6 +331,7 @@ public class TransactionResourceManager {
         boolean commitSuccess = true;
         List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
         if (txContextList != null) {
+            Xid loggedXid = null;
             if (transactionManagerEnabled) {
                 Transaction trx = trxRegistry.get(combinedId);
                 try {
@@ -299,6 +343,12 @@ public class TransactionResourceManager {
                     log.error("error when committing transaction " + transactionId + ":" + e.getMessage(), e);
                     commitSuccess = false;
                 }
+            } else if (hasXAResource(txContextList)) {
+                loggedXid = xidRegistry.get(combinedId);
+                if (!logCommitDecision(transactionId, loggedXid, countResourceManagers(txContextList))) {
+                    rollbackUnloggedCommit(transactionId, txContextList, loggedXid);
+                    return false;
+                }
             }
 
             for (BallerinaTransactionContext ctx : txContextList) {
@@ -321,10 +371,91 @@ public class TransactionResourceManager {
                     ctx.close();
                 }
             }
+            // A branch that failed to commit is left as a pending commit, so that it is retried on recovery.
+            if (loggedXid != null && commitSuccess) {
+                logCommitEnd(loggedXid);
+            }
         }
         return commitSuccess;
     }
 
+    private int countResourceManagers(List<BallerinaTransactionContext> txContextList) {
+        List<XAResource> xaResources = new ArrayList<>();
+        for (BallerinaTransactionContext ctx : txContextList) {
+            XAResource xaResource = ctx.getXAResource();
+            if (xaResource != null) {
+                xaResources.add(xaResource);
+            }
+        }
+        return XARecovery.countResourceManagers(xaResources);
+    }
+
+    private boolean hasXAResource(List<BallerinaTransactionContext> txContextList) {
+        for (BallerinaTransactionContext ctx : txContextList) {
+            if (ctx.getXAResource() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * This method forces the decision to commit the given XA transaction to the transaction log before any of its
+     * prepared branches is committed.
+     *
+     * @param transactionId the global transaction id
+     * @param xid           the XID of the transaction
+     * @param participants  the number of resource managers taking part in the transaction
+     * @return false if the decision could not be logged, in which case the transaction must not be committed
+     */
+    private boolean logCommitDecision(String transactionId, Xid xid, int participants) {
+        TransactionLog transactionLog = getTransactionLog();
+        if (transactionLog == null || xid == null) {
+            return true;
+        }
+        try {
+            transactionLog.append(TransactionLog.COMMIT, xid, participants, true);
+            return true;
+        } catch (IOException e) {
+            log.error("error when logging the commit of transaction " + transactionId + ":" + e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * This method rolls back the prepared branches of a transaction whose commit decision could not be logged. As
+     * the recovery presumes that such a transaction aborted, none of its branches may be left prepared.
+     *
+     * @param transactionId the global transaction id
+     * @param txContextList the contexts participating in the transaction
+     * @param xid           the XID of the transaction
+     */
+    private void rollbackUnloggedCommit(String transactionId, List<BallerinaTransactionContext> txContextList,
+                                        Xid xid) {
+        for (BallerinaTransactionContext ctx : txContextList) {
+            try {
+                XAResource xaResource = ctx.getXAResource();
+                if (xaResource != null) {
+                    xaResource.rollback(xid);
+                } else {
+                    ctx.rollback();
+                }
+            } catch (XAException e) {
+                log.error("error when aborting the transaction " + transactionId + ":" + e.getMessage(), e);
+            } finally {
+                ctx.close();
+            }
+        }
+    }
+
+    private void logCommitEnd(Xid xid) {
+        try {
+            transactionLog.append(TransactionLog.END, xid, false);
+        } catch (IOException e) {
+            log.error("error when logging the end of a committed transaction: " + e.getMessage(), e);
+        }
+    }
+
     public void cleanTransaction(String transactionId, String transactionBlockId) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         removeContextsFromRegistry(combinedId, transactionId);
@@ -414,10 +545,11 @@ public class TransactionResourceManager {
                 log.error("error in initiating transaction " + transactionId + ":" + e.getMessage(), e);
             }
         } else {
-            Xid xid = xidRegistry.get(combinedId);
-            if (xid == null) {
-                xid = XIDGenerator.createXID();
-                xidRegistry.put(combinedId, xid);
+            Xid xid = xidRegistry.computeIfAbsent(combinedId, id -> XIDGenerator.createXID());
+            getTransactionLog();
+            XARecovery recovery = this.recovery;
+            if (recovery != null && !recovery.isComplete()) {
+                recovery.recover(xaResource);
             }
             try {
                 xaResource.start(xid, TMNOFLAGS);
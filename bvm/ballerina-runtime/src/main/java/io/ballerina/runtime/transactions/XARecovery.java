@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.transactions;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+/**
+ * Commits the prepared branches of the transactions that the {@link TransactionLog} reports as pending commits, as
+ * the XA resources are enlisted again after a restart.
+ * <p>
+ * All the resources of a transaction are started with the same XID, so a pending commit is tracked per resource
+ * manager. The end of a transaction is logged once as many resource managers as took part in it have committed
+ * their branches. A transaction whose branches were partly committed before the restart stays pending, as the
+ * resource managers that committed no longer report it.
+ *
+ * @since 2201.2.0
+ */
+public class XARecovery {
+
+    private static final Logger log = LoggerFactory.getLogger(XARecovery.class);
+
+    private final TransactionLog transactionLog;
+    // The resource managers that committed the branch of each pending commit
+    private final Map<Xid, List<XAResource>> committedBranches = new HashMap<>();
+    private final List<XAResource> recoveredResources = new ArrayList<>();
+
+    public XARecovery(TransactionLog transactionLog) {
+        this.transactionLog = transactionLog;
+        for (Xid xid : transactionLog.getPendingCommits()) {
+            committedBranches.put(xid, new ArrayList<>());
+        }
+    }
+
+    public synchronized boolean isComplete() {
+        return committedBranches.isEmpty();
+    }
+
+    /**
+     * Commits the prepared branches of the pending commits held by the resource manager of the given XA resource.
+     * Each resource manager is recovered only once.
+     *
+     * @param xaResource the XA resource to recover
+     */
+    public synchronized void recover(XAResource xaResource) {
+        if (committedBranches.isEmpty() || containsSameRM(recoveredResources, xaResource)) {
+            return;
+        }
+        Xid[] preparedXids;
+        try {
+            preparedXids = xaResource.recover(XAResource.TMSTARTRSCAN | XAResource.TMENDRSCAN);
+        } catch (XAException e) {
+            log.error("error in recovering XA transactions: " + e.getMessage(), e);
+            return;
+        }
+        boolean recovered = true;
+        if (preparedXids != null) {
+            for (Xid preparedXid : preparedXids) {
+                Xid xid = new XATransactionID(preparedXid.getFormatId(), preparedXid.getBranchQualifier(),
+                        preparedXid.getGlobalTransactionId());
+                List<XAResource> committedResources = committedBranches.get(xid);
+                if (committedResources == null || containsSameRM(committedResources, xaResource)) {
+                    continue;
+                }
+                try {
+                    xaResource.commit(preparedXid, false);
+                } catch (XAException e) {
+                    log.error("error when committing a recovered XA transaction: " + e.getMessage(), e);
+                    recovered = false;
+                    continue;
+                }
+                committedResources.add(xaResource);
+                if (committedResources.size() >= transactionLog.getParticipantCount(xid)) {
+                    committedBranches.remove(xid);
+                    logCommitEnd(xid);
+                }
+            }
+        }
+        // A resource manager that failed to commit a branch is retried when it is enlisted again
+        if (recovered) {
+            recoveredResources.add(xaResource);
+        }
+        if (committedBranches.isEmpty()) {
+            recoveredResources.clear();
+        }
+    }
+
+    private void logCommitEnd(Xid xid) {
+        try {
+            transactionLog.append(TransactionLog.END, xid, false);
+        } catch (IOException e) {
+            log.error("error when logging the end of a committed transaction: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Counts the distinct resource managers of the given XA resources, which is the number of branches of a
+     * transaction that need to be committed.
+     *
+     * @param xaResources the XA resources taking part in a transaction
+     * @return the number of distinct resource managers
+     */
+    static int countResourceManagers(List<XAResource> xaResources) {
+        List<XAResource> resourceManagers = new ArrayList<>();
+        for (XAResource xaResource : xaResources) {
+            if (!containsSameRM(resourceManagers, xaResource)) {
+                resourceManagers.add(xaResource);
+            }
+        }
+        return resourceManagers.size();
+    }
+
+    private static boolean containsSameRM(List<XAResource> xaResources, XAResource xaResource) {
+        for (XAResource resource : xaResources) {
+            try {
+                if (resource.isSameRM(xaResource)) {
+                    return true;
+                }
+            } catch (XAException e) {
+                log.error("error in comparing XA resources: " + e.getMessage(), e);
+            }
+        }
+        return false;
+    }
+}
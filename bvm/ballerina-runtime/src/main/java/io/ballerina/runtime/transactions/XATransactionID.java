@@ -17,6 +17,8 @@
 */
 package io.ballerina.runtime.transactions;
 
+import java.util.Arrays;
+
 import javax.transaction.xa.Xid;
 
 /**
@@ -50,4 +52,25 @@ public class XATransactionID implements Xid {
     public byte[] getBranchQualifier() {
         return branchQualifier;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof XATransactionID)) {
+            return false;
+        }
+        XATransactionID that = (XATransactionID) o;
+        return formatId == that.formatId && Arrays.equals(branchQualifier, that.branchQualifier) &&
+                Arrays.equals(globalTransactionId, that.globalTransactionId);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = formatId;
+        result = 31 * result + Arrays.hashCode(branchQualifier);
+        result = 31 * result + Arrays.hashCode(globalTransactionId);
+        return result;
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for running strands with the different scheduler policies.
+ */
+public class SchedulerTest {
+
+    private static final int NUM_THREADS = 4;
+    private static final int NUM_PARENTS = 10;
+    private static final int NUM_CHILDREN = 10;
+
+    @DataProvider(name = "schedulerPolicies")
+    public Object[][] schedulerPolicies() {
+        return new Object[][]{
+                {RuntimeConstants.SCHEDULER_POLICY_SHARED},
+                {RuntimeConstants.SCHEDULER_POLICY_WORK_STEALING}
+        };
+    }
+
+    @Test(dataProvider = "schedulerPolicies")
+    public void testStrandsRunToCompletion(String schedulerPolicy) throws Exception {
+        Scheduler scheduler = new Scheduler(NUM_THREADS, false, schedulerPolicy);
+        AtomicInteger completed = new AtomicInteger();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        scheduleStrands(scheduler, completed, threads);
+
+        // the scheduler shuts itself down once all the strands are done
+        runScheduler(scheduler);
+        Assert.assertEquals(completed.get(), NUM_PARENTS * (NUM_CHILDREN + 1));
+        for (Thread thread : threads) {
+            Assert.assertFalse(isVirtual(thread));
+        }
+    }
+
+    @Test
+    public void testVirtualThreadPolicy() throws Exception {
+        Scheduler scheduler = new Scheduler(NUM_THREADS, false, RuntimeConstants.SCHEDULER_POLICY_VIRTUAL_THREAD);
+        AtomicInteger completed = new AtomicInteger();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        scheduleStrands(scheduler, completed, threads);
+
+        runScheduler(scheduler);
+        Assert.assertEquals(completed.get(), NUM_PARENTS * (NUM_CHILDREN + 1));
+        // strands run on virtual threads only if the Java runtime supports them
+        boolean virtualThreadsSupported = isVirtualThreadSupported();
+        for (Thread thread : threads) {
+            Assert.assertEquals(isVirtual(thread), virtualThreadsSupported);
+        }
+    }
+
+    @Test
+    public void testVirtualThreadExecutorFallback() {
+        // simulates a Java runtime without virtual threads
+        Assert.assertNull(Scheduler.createVirtualThreadExecutor(Executors.class, "newNoSuchExecutor"));
+        Assert.assertEquals(Scheduler.createVirtualThreadExecutor(Executors.class,
+                "newVirtualThreadPerTaskExecutor") != null, isVirtualThreadSupported());
+    }
+
+    private static void scheduleStrands(Scheduler scheduler, AtomicInteger completed, Set<Thread> threads) {
+        for (int i = 0; i < NUM_PARENTS; i++) {
+            scheduler.schedule(new Object[1], parentParams -> {
+                threads.add(Thread.currentThread());
+                // strands scheduled from a strand go to the local run queue of the worker
+                for (int j = 0; j < NUM_CHILDREN; j++) {
+                    scheduler.schedule(new Object[1], childParams -> {
+                        threads.add(Thread.currentThread());
+                        completed.incrementAndGet();
+                        return null;
+                    }, null, null, "child", null);
+                }
+                completed.incrementAndGet();
+                return null;
+            }, null, null, "parent", null);
+        }
+    }
+
+    private static void runScheduler(Scheduler scheduler) throws InterruptedException {
+        Thread schedulerThread = new Thread(scheduler::start);
+        schedulerThread.setDaemon(true);
+        schedulerThread.start();
+        schedulerThread.join(10000);
+        Assert.assertFalse(schedulerThread.isAlive(), "scheduler did not shut down after running all the strands");
+    }
+
+    private static boolean isVirtualThreadSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static boolean isVirtual(Thread thread) throws ReflectiveOperationException {
+        if (!isVirtualThreadSupported()) {
+            return false;
+        }
+        Method isVirtual = Thread.class.getMethod("isVirtual");
+        return (boolean) isVirtual.invoke(thread);
+    }
+}
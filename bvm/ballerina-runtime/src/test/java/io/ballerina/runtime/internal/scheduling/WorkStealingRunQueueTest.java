@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * Test cases for {@link WorkStealingRunQueue}.
+ */
+public class WorkStealingRunQueueTest {
+
+    @Test
+    public void testLocalGroupsAreTakenLastInFirstOut() throws Exception {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(2);
+        ItemGroup first = new ItemGroup();
+        ItemGroup second = new ItemGroup();
+        ItemGroup[] taken = runOnWorker(queue, () -> {
+            queue.add(first);
+            queue.add(second);
+            return new ItemGroup[]{queue.take(), queue.take()};
+        });
+        Assert.assertSame(taken[0], second);
+        Assert.assertSame(taken[1], first);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testIdleWorkerStealsOldestGroup() throws Exception {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(3);
+        ItemGroup first = new ItemGroup();
+        ItemGroup second = new ItemGroup();
+        runOnWorker(queue, () -> {
+            queue.add(first);
+            queue.add(second);
+            return null;
+        });
+        // the other worker steals from the tail of the owner's deque
+        Assert.assertSame(runOnWorker(queue, queue::take), first);
+        Assert.assertFalse(queue.isEmpty());
+        Assert.assertSame(runOnWorker(queue, queue::take), second);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testNonWorkerGroupsGoToInjectionQueue() throws Exception {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(2);
+        ItemGroup group = new ItemGroup();
+        queue.add(group);
+        Assert.assertFalse(queue.isEmpty());
+        Assert.assertSame(runOnWorker(queue, queue::take), group);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test(timeOut = 10000)
+    public void testIdleWorkerIsWokenUp() throws Exception {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(2);
+        FutureTask<ItemGroup> idleWorker = new FutureTask<>(() -> {
+            queue.registerWorker();
+            return queue.take();
+        });
+        Thread idleThread = new Thread(idleWorker);
+        idleThread.setDaemon(true);
+        idleThread.start();
+        while (idleThread.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+
+        // a group added to the local deque of a busy worker must wake up the idle worker to steal it
+        ItemGroup group = new ItemGroup();
+        runOnWorker(queue, () -> {
+            queue.add(group);
+            return null;
+        });
+        Assert.assertSame(idleWorker.get(5, TimeUnit.SECONDS), group);
+        // the wake up marker left behind is not a runnable group
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testInjectedGroupsAreNotStarved() throws Exception {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(1);
+        ItemGroup injected = new ItemGroup();
+        queue.add(injected);
+        int takes = runOnWorker(queue, () -> {
+            ItemGroup local = new ItemGroup();
+            for (int i = 1; i <= 100; i++) {
+                queue.add(local);
+                if (queue.take() == injected) {
+                    return i;
+                }
+            }
+            return -1;
+        });
+        Assert.assertTrue(takes > 0, "injected group was not taken while the worker kept feeding its own deque");
+    }
+
+    @Test(timeOut = 10000)
+    public void testPoisonReachesEveryWorker() throws Exception {
+        int numThreads = 3;
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(numThreads);
+        ItemGroup group = new ItemGroup();
+        FutureTask<?>[] workers = new FutureTask<?>[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            boolean poisoner = i == 0;
+            workers[i] = new FutureTask<>(() -> {
+                queue.registerWorker();
+                if (poisoner) {
+                    // a group made runnable right before the scheduler poisons itself is still taken
+                    queue.add(group);
+                    for (int j = 0; j < numThreads; j++) {
+                        queue.addLast(POISON_PILL);
+                    }
+                }
+                int groups = 0;
+                while (queue.take() != POISON_PILL) {
+                    groups++;
+                }
+                return groups;
+            });
+            Thread thread = new Thread(workers[i]);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        // every worker gets a poison pill and shuts down
+        int groups = 0;
+        for (FutureTask<?> worker : workers) {
+            groups += (Integer) worker.get(5, TimeUnit.SECONDS);
+        }
+        Assert.assertEquals(groups, 1);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    private static <T> T runOnWorker(RunQueue queue, Callable<T> task) throws Exception {
+        FutureTask<T> worker = new FutureTask<>(() -> {
+            queue.registerWorker();
+            return task.call();
+        });
+        Thread thread = new Thread(worker);
+        thread.setDaemon(true);
+        thread.start();
+        return worker.get(5, TimeUnit.SECONDS);
+    }
+}
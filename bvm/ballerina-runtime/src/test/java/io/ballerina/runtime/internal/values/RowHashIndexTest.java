@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.runtime.internal.values.RowHashIndex.NO_ROW;
+
+/**
+ * Test cases for {@link RowHashIndex}.
+ */
+public class RowHashIndexTest {
+
+    @Test
+    public void testRowsSharingHash() {
+        RowHashIndex index = new RowHashIndex(8);
+        for (int row = 0; row < 20; row++) {
+            index.link(row, 42);
+        }
+        index.unlink(0);
+        index.unlink(7);
+        index.unlink(19);
+        // chains are linked most recent first
+        List<Integer> rows = getChain(index, 42);
+        Assert.assertEquals(rows.size(), 17);
+        Assert.assertEquals((int) rows.get(0), 18);
+        Assert.assertEquals((int) rows.get(rows.size() - 1), 1);
+        Assert.assertFalse(rows.contains(7));
+        Assert.assertEquals(index.first(43), NO_ROW);
+    }
+
+    @Test
+    public void testHashesSharingSlot() {
+        // distinct hashes that all start probing from the first slot
+        List<Long> hashes = new ArrayList<>();
+        for (long hash = 0; hashes.size() < 100; hash++) {
+            if ((RowHashIndex.spread(hash) & 127) == 0) {
+                hashes.add(hash);
+            }
+        }
+        RowHashIndex index = new RowHashIndex(8);
+        for (int row = 0; row < hashes.size(); row++) {
+            index.link(row, hashes.get(row));
+        }
+        for (int row = 0; row < hashes.size(); row += 2) {
+            index.unlink(row);
+        }
+        for (int row = 0; row < hashes.size(); row++) {
+            Assert.assertEquals(index.first(hashes.get(row)), row % 2 == 0 ? NO_ROW : row);
+        }
+    }
+
+    @Test(timeOut = 10000)
+    public void testReinsertIntoDeletedSlots() {
+        RowHashIndex index = new RowHashIndex(8);
+        index.link(0, -1000);
+        // each hash takes a new slot and leaves it deleted, which must not fill up the slots
+        for (int row = 1; row < 10000; row++) {
+            index.link(row, row);
+            Assert.assertEquals(index.first(row), row);
+            index.unlink(row);
+            Assert.assertEquals(index.first(row), NO_ROW);
+        }
+        // a hash linked again reuses a deleted slot
+        index.link(10000, 5);
+        index.link(10001, 5);
+        Assert.assertEquals(getChain(index, 5), List.of(10001, 10000));
+        Assert.assertEquals(index.first(-1000), 0);
+        Assert.assertEquals(index.first(-1), NO_ROW);
+    }
+
+    @Test
+    public void testCompact() {
+        RowHashIndex index = new RowHashIndex(8);
+        for (int row = 0; row < 6; row++) {
+            index.link(row, row % 2);
+        }
+        index.unlink(0);
+        index.unlink(3);
+        // rows 1, 2, 4 and 5 move to 0, 1, 2 and 3
+        int[] rowMapping = {0, 0, 1, 2, 2, 3, 4};
+        index.compact(rowMapping, 4);
+        Assert.assertEquals(getChain(index, 0), List.of(2, 1));
+        Assert.assertEquals(getChain(index, 1), List.of(3, 0));
+        Assert.assertEquals(index.hash(3), 1);
+    }
+
+    private static List<Integer> getChain(RowHashIndex index, long hash) {
+        List<Integer> rows = new ArrayList<>();
+        for (int row = index.first(hash); row != NO_ROW; row = index.next(row)) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TableUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for {@link TableRowStore}.
+ */
+public class TableRowStoreTest {
+
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+
+    @Test
+    public void testRemoveWhileIterating() {
+        TableRowStore<Long, MapValueImpl<BString, Object>> store = createStore(10);
+        TableRowStore<Long, MapValueImpl<BString, Object>>.RowCursor cursor = store.cursor();
+        List<Long> visited = new ArrayList<>();
+        while (cursor.hasNext()) {
+            long key = store.getKey(cursor.next());
+            visited.add(key);
+            // removes the current row and the row after it
+            store.remove(hash(key), key);
+            store.remove(hash(key + 1), key + 1);
+        }
+        Assert.assertEquals(visited, List.of(0L, 2L, 4L, 6L, 8L));
+        Assert.assertTrue(store.isEmpty());
+    }
+
+    @Test
+    public void testIterateAfterCompaction() {
+        TableRowStore<Long, MapValueImpl<BString, Object>> store = createStore(8);
+        TableRowStore<Long, MapValueImpl<BString, Object>>.RowCursor cursor = store.cursor();
+        TableRowStore<Long, MapValueImpl<BString, Object>>.RowCursor unstartedCursor = store.cursor();
+        List<Long> visited = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Assert.assertTrue(cursor.hasNext());
+            visited.add(store.getKey(cursor.next()));
+        }
+        for (long key = 0; key < 5; key++) {
+            store.remove(hash(key), key);
+        }
+        // the rows are full and most of them are removed, so appending a row compacts them
+        append(store, 8);
+        while (cursor.hasNext()) {
+            visited.add(store.getKey(cursor.next()));
+        }
+        Assert.assertEquals(visited, List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L));
+        Assert.assertEquals(getKeys(store, unstartedCursor), List.of(5L, 6L, 7L, 8L));
+        Assert.assertEquals(getKeys(store, store.cursor()), List.of(5L, 6L, 7L, 8L));
+        for (long key = 0; key < 9; key++) {
+            Assert.assertEquals(store.find(hash(key), key) >= 0, key >= 5);
+        }
+    }
+
+    @Test
+    public void testKeysSharingHash() {
+        TableRowStore<Long, MapValueImpl<BString, Object>> store = new TableRowStore<>(true);
+        for (long key = 0; key < 100; key++) {
+            store.append(7, key, createRow(key));
+        }
+        for (long key = 0; key < 100; key += 2) {
+            Assert.assertNotNull(store.remove(7, key));
+        }
+        for (long key = 0; key < 100; key++) {
+            int row = store.find(7, key);
+            if (key % 2 == 0) {
+                Assert.assertTrue(row < 0);
+            } else {
+                Assert.assertEquals(store.getKey(row), Long.valueOf(key));
+            }
+        }
+        Assert.assertEquals(store.size(), 50);
+    }
+
+    @Test
+    public void testReinsertRemovedKeys() {
+        TableRowStore<Long, MapValueImpl<BString, Object>> store = createStore(4);
+        for (int round = 0; round < 100; round++) {
+            for (long key = 0; key < 4; key++) {
+                Assert.assertNotNull(store.remove(hash(key), key));
+                append(store, key);
+            }
+        }
+        Assert.assertEquals(getKeys(store, store.cursor()), List.of(0L, 1L, 2L, 3L));
+        for (long key = 0; key < 4; key++) {
+            Assert.assertEquals(store.getKey(store.find(hash(key), key)), Long.valueOf(key));
+        }
+    }
+
+    @Test
+    public void testPutReplacesRow() {
+        TableRowStore<Long, MapValueImpl<BString, Object>> store = createStore(3);
+        TableRowStore<Long, MapValueImpl<BString, Object>>.FieldIndex nameIndex = store.getFieldIndex(NAME);
+        MapValueImpl<BString, Object> replacement = createRow(1);
+        replacement.put(NAME, StringUtils.fromString("replaced"));
+        put(store, 1L, replacement);
+
+        Assert.assertEquals(store.size(), 3);
+        Assert.assertEquals(getKeys(store, store.cursor()), List.of(0L, 1L, 2L));
+        Assert.assertSame(store.getValue(store.find(hash(1L), 1L)), replacement);
+        Assert.assertTrue(nameIndex.lookup(StringUtils.fromString("row-1")).isEmpty());
+        Assert.assertEquals(nameIndex.lookup(StringUtils.fromString("replaced")), List.of(replacement));
+        Assert.assertEquals(nameIndex.lookup(StringUtils.fromString("row-2")).size(), 1);
+    }
+
+    // Replaces the row having the key of the given row, or appends the row, as TableValueImpl#put does.
+    private static void put(TableRowStore<Long, MapValueImpl<BString, Object>> store, long key,
+                            MapValueImpl<BString, Object> value) {
+        int row = store.find(hash(key), key);
+        if (row < 0) {
+            store.append(hash(key), key, value);
+        } else {
+            store.set(row, key, value);
+        }
+    }
+
+    private static TableRowStore<Long, MapValueImpl<BString, Object>> createStore(int rows) {
+        TableRowStore<Long, MapValueImpl<BString, Object>> store = new TableRowStore<>(true);
+        for (long key = 0; key < rows; key++) {
+            append(store, key);
+        }
+        return store;
+    }
+
+    private static void append(TableRowStore<Long, MapValueImpl<BString, Object>> store, long key) {
+        store.append(hash(key), key, createRow(key));
+    }
+
+    private static MapValueImpl<BString, Object> createRow(long key) {
+        MapValueImpl<BString, Object> row = new MapValueImpl<>();
+        row.put(ID, key);
+        row.put(NAME, StringUtils.fromString("row-" + key));
+        return row;
+    }
+
+    private static long hash(long key) {
+        return TableUtils.hash(key, null);
+    }
+
+    private static List<Long> getKeys(TableRowStore<Long, ?> store, TableRowStore<Long, ?>.RowCursor cursor) {
+        List<Long> keys = new ArrayList<>();
+        while (cursor.hasNext()) {
+            keys.add(store.getKey(cursor.next()));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.DecimalValueKind;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Test cases for the arithmetic of {@link DecimalValue}.
+ */
+public class DecimalValueTest {
+
+    @DataProvider(name = "operands")
+    public Object[][] operands() {
+        return new Object[][]{
+                {"12.50", "3.75"},
+                {"1.5", "-1.50"},
+                {"0.000000000000000001", "123456789012345678"},
+                {"999999999999999999", "999999999999999999"},
+                {"-922337203685477580.7", "0.1"},
+                {"1E+5", "2.5"},
+                {"12345678901234567890123456789.123", "7.5"},
+                {"0.333333333333333333", "3"}
+        };
+    }
+
+    @Test(dataProvider = "operands")
+    public void testArithmetic(String lhs, String rhs) {
+        DecimalValue x = new DecimalValue(lhs);
+        DecimalValue y = new DecimalValue(rhs);
+        BigDecimal bx = new BigDecimal(lhs, MathContext.DECIMAL128);
+        BigDecimal by = new BigDecimal(rhs, MathContext.DECIMAL128);
+
+        assertDecimal(x.add(y), bx.add(by, MathContext.DECIMAL128));
+        assertDecimal(x.subtract(y), bx.subtract(by, MathContext.DECIMAL128));
+        assertDecimal(y.subtract(x), by.subtract(bx, MathContext.DECIMAL128));
+        assertDecimal(x.multiply(y), bx.multiply(by, MathContext.DECIMAL128));
+        assertDecimal(x.negate(), bx.negate());
+    }
+
+    @Test
+    public void testZeroResult() {
+        DecimalValue result = new DecimalValue("1.5").subtract(new DecimalValue("1.50"));
+        Assert.assertEquals(result.getValueKind(), DecimalValueKind.ZERO);
+        Assert.assertEquals(result.decimalValue(), new BigDecimal("0.00"));
+        Assert.assertEquals(result, new DecimalValue("0.00"));
+        Assert.assertEquals(result.hashCode(), new DecimalValue("0.00").hashCode());
+    }
+
+    private static void assertDecimal(DecimalValue actual, BigDecimal expected) {
+        Assert.assertEquals(actual.decimalValue(), expected);
+        Assert.assertEquals(actual.booleanValue(), expected.signum() != 0);
+        Assert.assertEquals(actual.getValueKind(),
+                expected.signum() == 0 ? DecimalValueKind.ZERO : DecimalValueKind.OTHER);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.JsonPullParser;
+import io.ballerina.runtime.internal.JsonPullParser.Event;
+import io.ballerina.runtime.internal.TypeChecker;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for {@link JsonPullParser}.
+ */
+public class JsonPullParserTest {
+
+    @Test
+    public void testEvents() {
+        JsonPullParser parser = createParser("{\"name\": \"café\", \"tags\": [1, 2.5, true, null]}");
+        Assert.assertEquals(parser.next(), Event.START_OBJECT);
+        Assert.assertEquals(parser.next(), Event.FIELD_NAME);
+        Assert.assertEquals(parser.getText(), "name");
+        Assert.assertEquals(parser.next(), Event.STRING);
+        Assert.assertEquals(parser.getText(), "café");
+        Assert.assertEquals(parser.next(), Event.FIELD_NAME);
+        Assert.assertEquals(parser.next(), Event.START_ARRAY);
+        Assert.assertEquals(parser.next(), Event.NUMBER);
+        Assert.assertEquals(parser.getNumber(JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING), 1L);
+        Assert.assertEquals(parser.next(), Event.NUMBER);
+        Assert.assertEquals(parser.getText(), "2.5");
+        Assert.assertEquals(parser.next(), Event.TRUE);
+        Assert.assertEquals(parser.next(), Event.NULL);
+        Assert.assertEquals(parser.next(), Event.END_ARRAY);
+        Assert.assertEquals(parser.next(), Event.END_OBJECT);
+        Assert.assertEquals(parser.next(), Event.END_DOCUMENT);
+    }
+
+    @Test(dataProvider = "documents")
+    public void testParseMatchesReaderBasedParser(String doc) {
+        Object expected = JsonParser.parse(doc);
+        Object actual = createParser(doc).parse(JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        Assert.assertTrue(TypeChecker.isEqual(expected, actual), doc);
+    }
+
+    @DataProvider
+    public Object[][] documents() {
+        return new Object[][]{
+                {"\"plain\""},
+                {"12"},
+                {"-0"},
+                {"[]"},
+                {"{}"},
+                {"[1, -2, 3.25, -0.0, true, false, null, \"x\"]"},
+                {"{\"a\": {\"b\": [{\"c\": \"d\"}]}, \"e\": []}"},
+                {"{\"escaped\": \"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u00e9\\uD83D\\uDE00\"}"},
+                {"[\"日本語\", \"emoji 😀\", \"mixed ascii and üñîçødé\"]"},
+                {" \r\n\t{ \"spaced\" : [ 1 , 2 ] } \n"}
+        };
+    }
+
+    @Test
+    public void testRepeatedFieldNamesAreShared() {
+        String doc = "[{\"id\": 1000, \"name\": \"a\"}, {\"id\": 1000, \"name\": \"b\"}]";
+        assertSharedFieldNamesAndValues((BArray) JsonParser.parse(doc));
+        assertSharedFieldNamesAndValues(
+                (BArray) createParser(doc).parse(JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING));
+    }
+
+    private static void assertSharedFieldNamesAndValues(BArray records) {
+        BMap<BString, Object> first = (BMap<BString, Object>) records.get(0);
+        BMap<BString, Object> second = (BMap<BString, Object>) records.get(1);
+        BString[] firstKeys = first.getKeys();
+        BString[] secondKeys = second.getKeys();
+        Assert.assertEquals(secondKeys.length, firstKeys.length);
+        for (int i = 0; i < firstKeys.length; i++) {
+            Assert.assertSame(secondKeys[i], firstKeys[i]);
+        }
+        Assert.assertSame(second.get(secondKeys[0]), first.get(firstKeys[0]));
+    }
+
+    @Test(expectedExceptions = BError.class,
+            expectedExceptionsMessageRegExp = "expected ',' or ']' at line: 2 column: 3")
+    public void testInvalidArray() {
+        createParser("[1,\n2 3]").parse(JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "unrecognized token 'tru' .*")
+    public void testInvalidToken() {
+        createParser("{\"a\": tru}").parse(JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "unexpected end of JSON document .*")
+    public void testUnterminatedString() {
+        createParser("[\"abc").parse(JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+    }
+
+    private static JsonPullParser createParser(String doc) {
+        return new JsonPullParser(new ByteArrayInputStream(doc.getBytes(StandardCharsets.UTF_8)));
+    }
+}
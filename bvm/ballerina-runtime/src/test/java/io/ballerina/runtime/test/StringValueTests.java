@@ -1,5 +1,8 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.IteratorValue;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -40,4 +43,67 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testUnicodeSubstring() {
+        BString substring = SUBJECT.substring(1, 15);
+        Assert.assertEquals(substring.getValue(), "\uD83D\uDEF8mmander Frav\uD83D\uDC7D");
+        Assert.assertEquals(substring.length(), 14);
+        Assert.assertEquals(substring.getCodePoint(13), 0x1F47D);
+        Assert.assertEquals(substring.substring(1, 13).getValue(), "mmander Frav");
+        Assert.assertEquals(SUBJECT.substring(2, 14).getClass(), StringUtils.fromString("mmander Frav").getClass());
+    }
+
+    @Test
+    void testUnicodeIndexOf() {
+        Assert.assertEquals(SUBJECT.indexOf(StringUtils.fromString("r"), 0), Long.valueOf(8));
+        Assert.assertEquals(SUBJECT.indexOf(StringUtils.fromString("r"), 9), Long.valueOf(11));
+        Assert.assertEquals(SUBJECT.indexOf(StringUtils.fromString("r"), 12), Long.valueOf(15));
+        Assert.assertEquals(SUBJECT.indexOf(StringUtils.fromString("\uD83D\uDC7D"), 0), Long.valueOf(14));
+        Assert.assertEquals(SUBJECT.lastIndexOf(StringUtils.fromString("m"), 15), Long.valueOf(3));
+        Assert.assertNull(SUBJECT.indexOf(StringUtils.fromString("x"), 0));
+    }
+
+    @Test
+    void testRepeatedConcat() {
+        BString str = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            BString part = StringUtils.fromString(i % 10 == 0 ? "\uD83D\uDC7D" : Integer.toString(i));
+            str = str.concat(part);
+            expected.append(part.getValue());
+            Assert.assertEquals(str.length(), expected.codePointCount(0, expected.length()));
+        }
+        Assert.assertEquals(str.getValue(), expected.toString());
+        Assert.assertEquals(str, StringUtils.fromString(expected.toString()));
+        Assert.assertEquals(str.hashCode(), expected.toString().hashCode());
+        Assert.assertEquals(str.getCodePoint(0), 0x1F47D);
+        Assert.assertEquals(str.getCodePoint(1), '1');
+    }
+
+    @Test
+    void testConcatToSharedPrefix() {
+        BString prefix = StringUtils.fromString("x".repeat(200));
+        BString first = prefix.concat(StringUtils.fromString("a"));
+        BString second = first.concat(StringUtils.fromString("b"));
+        BString third = first.concat(StringUtils.fromString("c"));
+        Assert.assertEquals(first.getValue(), "x".repeat(200) + "a");
+        Assert.assertEquals(second.getValue(), "x".repeat(200) + "ab");
+        Assert.assertEquals(third.getValue(), "x".repeat(200) + "ac");
+        Assert.assertEquals(second.concat(third).length(), 404);
+    }
+
+    @Test
+    void testConcatWithNonBmp() {
+        BString str = StringUtils.fromString("y".repeat(150)).concat(SUBJECT);
+        Assert.assertEquals(str.length(), 166);
+        Assert.assertEquals(str.getCodePoint(151), 0x1F6F8);
+        Assert.assertEquals(str.substring(150, 153).getValue(), "C\uD83D\uDEF8m");
+        Assert.assertEquals(str.indexOf(StringUtils.fromString("Frav"), 0), Long.valueOf(160));
+        Assert.assertEquals(StringUtils.fromString("\uD83D\uDC7D").concat(str).getCodePoint(152), 0x1F6F8);
+        IteratorValue iterator = str.getIterator();
+        for (int i = 0; i < 151; i++) {
+            iterator.next();
+        }
+        Assert.assertEquals(iterator.next(), "\uD83D\uDEF8");
+    }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TableUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link TableUtils}.
+ */
+public class TableUtilsTest {
+
+    @Test
+    public void testPermutedMapValuesHaveDistinctHashes() {
+        long hash = TableUtils.hash(createMap("x", 1L, "y", 2L), null);
+        Assert.assertNotEquals(TableUtils.hash(createMap("x", 2L, "y", 1L), null), hash);
+        Assert.assertNotEquals(TableUtils.hash(createMap("name", StringUtils.fromString("a"), "id",
+                StringUtils.fromString("b")), null), TableUtils.hash(createMap("name", StringUtils.fromString("b"),
+                "id", StringUtils.fromString("a")), null));
+    }
+
+    @Test
+    public void testMapHashIsIndependentOfEntryOrder() {
+        Assert.assertEquals(TableUtils.hash(createMap("x", 1L, "y", 2L), null),
+                TableUtils.hash(createMap("y", 2L, "x", 1L), null));
+    }
+
+    @Test
+    public void testEqualNumbersHaveEqualHashes() {
+        Assert.assertEquals(TableUtils.hash(-0.0, null), TableUtils.hash(0.0, null));
+        Assert.assertEquals(TableUtils.hash(ValueCreator.createDecimalValue("1.50"), null),
+                TableUtils.hash(ValueCreator.createDecimalValue("1.5"), null));
+    }
+
+    private static BMap<BString, Object> createMap(String firstKey, Object firstValue, String secondKey,
+                                                   Object secondValue) {
+        BMap<BString, Object> map = ValueCreator.createMapValue();
+        map.put(StringUtils.fromString(firstKey), firstValue);
+        map.put(StringUtils.fromString(secondKey), secondValue);
+        return map;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.transactions.TransactionLog;
+import io.ballerina.runtime.transactions.XATransactionID;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test cases for {@link TransactionLog}.
+ */
+public class TransactionLogTest {
+
+    private Path logDir;
+    private Path logFile;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        logDir = Files.createTempDirectory("transaction-log-test");
+        logFile = logDir.resolve("transaction_commit.log");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(logFile);
+        Files.deleteIfExists(logDir);
+    }
+
+    @Test
+    public void testReplayPendingCommits() throws IOException {
+        XATransactionID completed = createXid(1);
+        XATransactionID pending = createXid(2);
+        try (TransactionLog log = new TransactionLog(logFile)) {
+            log.append(TransactionLog.COMMIT, completed, true);
+            log.append(TransactionLog.COMMIT, pending, true);
+            log.append(TransactionLog.END, completed, false);
+        }
+        try (TransactionLog log = new TransactionLog(logFile)) {
+            Assert.assertEquals(log.getPendingCommits(), Collections.singletonList(pending));
+            Assert.assertTrue(log.isPendingCommit(createXid(2)));
+            Assert.assertFalse(log.isPendingCommit(completed));
+        }
+    }
+
+    @Test
+    public void testTornRecordIsDiscarded() throws IOException {
+        XATransactionID pending = createXid(3);
+        try (TransactionLog log = new TransactionLog(logFile)) {
+            log.append(TransactionLog.COMMIT, pending, true);
+        }
+        long validSize = Files.size(logFile);
+        Files.write(logFile, new byte[]{0, 0, 0, 100, 1, 2, 3}, StandardOpenOption.APPEND);
+        try (TransactionLog log = new TransactionLog(logFile)) {
+            Assert.assertEquals(log.getPendingCommits(), Collections.singletonList(pending));
+            Assert.assertEquals(Files.size(logFile), validSize);
+            log.append(TransactionLog.COMMIT, createXid(4), true);
+        }
+        try (TransactionLog log = new TransactionLog(logFile)) {
+            Assert.assertEquals(log.getPendingCommits().size(), 2);
+        }
+    }
+
+    @Test
+    public void testCompletedLogIsTruncated() throws IOException {
+        try (TransactionLog log = new TransactionLog(logFile)) {
+            for (int i = 0; i < 10000; i++) {
+                XATransactionID xid = createXid(i);
+                log.append(TransactionLog.COMMIT, xid, true);
+                log.append(TransactionLog.END, xid, false);
+            }
+        }
+        Assert.assertTrue(Files.size(logFile) < 1 << 20);
+        try (TransactionLog log = new TransactionLog(logFile)) {
+            Assert.assertTrue(log.getPendingCommits().isEmpty());
+            Assert.assertEquals(Files.size(logFile), 0);
+        }
+    }
+
+    @Test
+    public void testConcurrentCommits() throws Exception {
+        int threads = 8;
+        int commitsPerThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (TransactionLog log = new TransactionLog(logFile)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int base = t * commitsPerThread;
+                futures.add(executor.submit(() -> {
+                    for (int i = base; i < base + commitsPerThread; i++) {
+                        log.append(TransactionLog.COMMIT, createXid(i), true);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        try (TransactionLog log = new TransactionLog(logFile)) {
+            Assert.assertEquals(log.getPendingCommits().size(), threads * commitsPerThread);
+        }
+    }
+
+    private static XATransactionID createXid(int id) {
+        byte[] gtrid = new byte[48];
+        byte[] bqual = new byte[48];
+        gtrid[0] = (byte) id;
+        gtrid[1] = (byte) (id >> 8);
+        bqual[0] = 1;
+        return new XATransactionID(1, bqual, gtrid);
+    }
+}
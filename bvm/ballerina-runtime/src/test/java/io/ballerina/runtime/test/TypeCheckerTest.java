@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BErrorType;
+import io.ballerina.runtime.internal.types.BObjectType;
+import io.ballerina.runtime.internal.types.BTypeIdSet;
+import io.ballerina.runtime.internal.types.BUnionType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * Test cases for the type-only checks of {@link TypeChecker}.
+ */
+public class TypeCheckerTest {
+
+    private static final Module MODULE = new Module("testorg", "types", "1");
+
+    @Test
+    public void testRepeatedUnionChecks() {
+        Type intOrString = new BUnionType(Arrays.asList(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING));
+        Type intOrStringOrBoolean = new BUnionType(Arrays.asList(PredefinedTypes.TYPE_INT,
+                PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_BOOLEAN));
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(TypeChecker.checkIsType(intOrString, intOrStringOrBoolean));
+            Assert.assertFalse(TypeChecker.checkIsType(intOrStringOrBoolean, intOrString));
+            Assert.assertTrue(TypeChecker.checkIsType(PredefinedTypes.TYPE_INT, intOrString));
+            Assert.assertFalse(TypeChecker.checkIsType(PredefinedTypes.TYPE_BOOLEAN, intOrString));
+        }
+    }
+
+    @Test
+    public void testDistinctObjectTypes() {
+        BObjectType foo = createObjectType("Foo", true);
+        BObjectType bar = createObjectType("Bar", true);
+        BObjectType plain = createObjectType("Plain", false);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertFalse(TypeChecker.checkIsType(foo, bar));
+            Assert.assertFalse(TypeChecker.checkIsType(plain, foo));
+            Assert.assertTrue(TypeChecker.checkIsType(foo, plain));
+            Assert.assertTrue(TypeChecker.checkIsType(bar, plain));
+        }
+    }
+
+    @Test
+    public void testDistinctErrorTypes() {
+        BErrorType foo = createErrorType("FooError", true);
+        BErrorType bar = createErrorType("BarError", true);
+        BErrorType plain = createErrorType("PlainError", false);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertFalse(TypeChecker.checkIsType(foo, bar));
+            Assert.assertFalse(TypeChecker.checkIsType(plain, foo));
+            Assert.assertTrue(TypeChecker.checkIsType(foo, plain));
+            Assert.assertTrue(TypeChecker.checkIsType(foo, PredefinedTypes.TYPE_ERROR));
+        }
+    }
+
+    private static BObjectType createObjectType(String name, boolean distinct) {
+        BObjectType objectType = new BObjectType(name, MODULE, 0);
+        objectType.setMethods(new MethodType[0]);
+        if (distinct) {
+            objectType.setTypeIdSet(createTypeIdSet(name));
+        }
+        return objectType;
+    }
+
+    private static BErrorType createErrorType(String name, boolean distinct) {
+        BErrorType errorType = new BErrorType(name, MODULE, PredefinedTypes.TYPE_DETAIL);
+        if (distinct) {
+            errorType.setTypeIdSet(createTypeIdSet(name));
+        }
+        return errorType;
+    }
+
+    private static BTypeIdSet createTypeIdSet(String name) {
+        BTypeIdSet typeIdSet = new BTypeIdSet();
+        typeIdSet.add(MODULE, name, true);
+        return typeIdSet;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.ValueCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link ValueCache}.
+ */
+public class ValueCacheTest {
+
+    @Test
+    public void testCachedValuesAreShared() {
+        Assert.assertSame(ValueCache.valueOf(4095), ValueCache.valueOf(4095));
+        Assert.assertSame(ValueCache.valueOf(0), ValueCache.valueOf(0));
+        Assert.assertSame(ValueCache.valueOf(-128), Long.valueOf(-128));
+    }
+
+    @Test
+    public void testValuesOutsideCacheRange() {
+        Assert.assertEquals(ValueCache.valueOf(4096), Long.valueOf(4096));
+        Assert.assertEquals(ValueCache.valueOf(-129), Long.valueOf(-129));
+        Assert.assertEquals(ValueCache.valueOf(Long.MIN_VALUE), Long.valueOf(Long.MIN_VALUE));
+        Assert.assertEquals(ValueCache.valueOf(Long.MAX_VALUE), Long.valueOf(Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.transactions.TransactionLog;
+import io.ballerina.runtime.transactions.XARecovery;
+import io.ballerina.runtime.transactions.XATransactionID;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+/**
+ * Test cases for {@link XARecovery}.
+ */
+public class XARecoveryTest {
+
+    private Path logDir;
+    private Path logFile;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        logDir = Files.createTempDirectory("xa-recovery-test");
+        logFile = logDir.resolve("transaction_commit.log");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(logFile);
+        Files.deleteIfExists(logDir);
+    }
+
+    @Test
+    public void testEveryResourceManagerIsRecovered() throws IOException {
+        XATransactionID xid = createXid(1);
+        try (TransactionLog log = new TransactionLog(logFile)) {
+            log.append(TransactionLog.COMMIT, xid, 2, true);
+        }
+        MockXAResource first = new MockXAResource("first", xid);
+        MockXAResource second = new MockXAResource("second", xid);
+        try (TransactionLog log = new TransactionLog(logFile)) {
+            XARecovery recovery = new XARecovery(log);
+            recovery.recover(first);
+            Assert.assertEquals(first.committed, 1);
+            Assert.assertTrue(log.isPendingCommit(xid));
+            Assert.assertFalse(recovery.isComplete());
+
+            recovery.recover(second);
+            Assert.assertEquals(second.committed, 1);
+            Assert.assertFalse(log.isPendingCommit(xid));
+            Assert.assertTrue(recovery.isComplete());
+        }
+        try (TransactionLog log = new TransactionLog(logFile)) {
+            Assert.assertTrue(log.getPendingCommits().isEmpty());
+        }
+    }
+
+    @Test
+    public void testResourceManagerIsRecoveredOnce() throws IOException {
+        XATransactionID xid = createXid(2);
+        try (TransactionLog log = new TransactionLog(logFile)) {
+            log.append(TransactionLog.COMMIT, xid, 2, true);
+        }
+        MockXAResource first = new MockXAResource("first", xid);
+        // another connection to the same resource manager, which still reports the branch as prepared
+        MockXAResource sameManager = new MockXAResource("first", xid);
+        try (TransactionLog log = new TransactionLog(logFile)) {
+            XARecovery recovery = new XARecovery(log);
+            recovery.recover(first);
+            recovery.recover(first);
+            recovery.recover(sameManager);
+            Assert.assertEquals(first.committed, 1);
+            Assert.assertEquals(sameManager.committed, 0);
+            Assert.assertTrue(log.isPendingCommit(xid));
+        }
+    }
+
+    @Test
+    public void testUnloggedTransactionIsNotCommitted() throws IOException {
+        XATransactionID pending = createXid(3);
+        XATransactionID unlogged = createXid(4);
+        try (TransactionLog log = new TransactionLog(logFile)) {
+            log.append(TransactionLog.COMMIT, pending, true);
+        }
+        MockXAResource resource = new MockXAResource("first", pending, unlogged);
+        try (TransactionLog log = new TransactionLog(logFile)) {
+            XARecovery recovery = new XARecovery(log);
+            recovery.recover(resource);
+            Assert.assertEquals(resource.committed, 1);
+            Assert.assertEquals(resource.prepared.size(), 1);
+            Assert.assertEquals(resource.prepared.get(0), unlogged);
+            Assert.assertTrue(recovery.isComplete());
+        }
+    }
+
+    private static XATransactionID createXid(int id) {
+        byte[] gtrid = new byte[48];
+        byte[] bqual = new byte[48];
+        gtrid[0] = (byte) id;
+        bqual[0] = 1;
+        return new XATransactionID(1, bqual, gtrid);
+    }
+
+    /**
+     * An {@code XAResource} of a resource manager that holds prepared branches.
+     */
+    private static class MockXAResource implements XAResource {
+
+        private final String resourceManager;
+        private final List<Xid> prepared = new ArrayList<>();
+        private int committed;
+
+        MockXAResource(String resourceManager, Xid... prepared) {
+            this.resourceManager = resourceManager;
+            this.prepared.addAll(List.of(prepared));
+        }
+
+        @Override
+        public Xid[] recover(int flag) {
+            return prepared.toArray(new Xid[0]);
+        }
+
+        @Override
+        public void commit(Xid xid, boolean onePhase) {
+            prepared.remove(xid);
+            committed++;
+        }
+
+        @Override
+        public boolean isSameRM(XAResource xaResource) {
+            return xaResource instanceof MockXAResource &&
+                    resourceManager.equals(((MockXAResource) xaResource).resourceManager);
+        }
+
+        @Override
+        public void end(Xid xid, int flags) {
+        }
+
+        @Override
+        public void forget(Xid xid) {
+        }
+
+        @Override
+        public int getTransactionTimeout() {
+            return 0;
+        }
+
+        @Override
+        public int prepare(Xid xid) {
+            return XA_OK;
+        }
+
+        @Override
+        public void rollback(Xid xid) {
+            prepared.remove(xid);
+        }
+
+        @Override
+        public boolean setTransactionTimeout(int seconds) {
+            return false;
+        }
+
+        @Override
+        public void start(Xid xid, int flags) {
+        }
+    }
+}
@@ -159,6 +159,10 @@ public class BuildCommand implements BLauncherCmd {
             " the services in the current package")
     private Boolean exportOpenAPI;
 
+    @CommandLine.Option(names = "--parallel-codegen", description = "generate the code of independent modules in " +
+            "parallel", hidden = true)
+    private Boolean parallelCodeGen;
+
     public void execute() {
         long start = 0;
         if (this.helpFlag) {
@@ -277,7 +281,8 @@ public class BuildCommand implements BLauncherCmd {
                 .setDumpBuildTime(dumpBuildTime)
                 .setSticky(sticky)
                 .setConfigSchemaGen(configSchemaGen)
-                .setExportOpenAPI(exportOpenAPI);
+                .setExportOpenAPI(exportOpenAPI)
+                .setParallelCodeGen(parallelCodeGen);
 
         if (targetDir != null) {
             buildOptionsBuilder.targetDir(targetDir.toString());
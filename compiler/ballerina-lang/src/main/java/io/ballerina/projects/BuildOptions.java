@@ -94,6 +94,10 @@ public class BuildOptions {
         return this.compilationOptions.exportOpenAPI();
     }
 
+    public boolean parallelCodeGen() {
+        return this.compilationOptions.parallelCodeGen();
+    }
+
     /**
      * Merge the given build options by favoring theirs if there are conflicts.
      *
@@ -140,6 +144,7 @@ public class BuildOptions {
         buildOptionsBuilder.setSticky(compilationOptions.sticky);
         buildOptionsBuilder.setConfigSchemaGen(compilationOptions.configSchemaGen);
         buildOptionsBuilder.setExportOpenAPI(compilationOptions.exportOpenAPI);
+        buildOptionsBuilder.setParallelCodeGen(compilationOptions.parallelCodeGen);
 
         return buildOptionsBuilder.build();
     }
@@ -296,6 +301,11 @@ public class BuildOptions {
             return this;
         }
 
+        public BuildOptionsBuilder setParallelCodeGen(Boolean value) {
+            compilationOptionsBuilder.setParallelCodeGen(value);
+            return this;
+        }
+
         public BuildOptions build() {
             CompilationOptions compilationOptions = compilationOptionsBuilder.build();
             return new BuildOptions(testReport, codeCoverage, dumpBuildTime, skipTests, compilationOptions, targetPath);
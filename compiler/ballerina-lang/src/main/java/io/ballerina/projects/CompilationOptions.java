@@ -36,11 +36,13 @@ public class CompilationOptions {
     Boolean withCodeModifiers;
     Boolean configSchemaGen;
     Boolean exportOpenAPI;
+    Boolean parallelCodeGen;
 
     CompilationOptions(Boolean offlineBuild, Boolean observabilityIncluded, Boolean dumpBir,
                        Boolean dumpBirFile, String cloud, Boolean listConflictedClasses, Boolean sticky,
                        Boolean dumpGraph, Boolean dumpRawGraphs, Boolean withCodeGenerators,
-                       Boolean withCodeModifiers, Boolean configSchemaGen, Boolean exportOpenAPI) {
+                       Boolean withCodeModifiers, Boolean configSchemaGen, Boolean exportOpenAPI,
+                       Boolean parallelCodeGen) {
         this.offlineBuild = offlineBuild;
         this.observabilityIncluded = observabilityIncluded;
         this.dumpBir = dumpBir;
@@ -54,6 +56,7 @@ public class CompilationOptions {
         this.withCodeModifiers = withCodeModifiers;
         this.configSchemaGen = configSchemaGen;
         this.exportOpenAPI = exportOpenAPI;
+        this.parallelCodeGen = parallelCodeGen;
     }
 
     public boolean offlineBuild() {
@@ -108,6 +111,10 @@ public class CompilationOptions {
         return toBooleanDefaultIfNull(this.exportOpenAPI);
     }
 
+    public boolean parallelCodeGen() {
+        return toBooleanDefaultIfNull(this.parallelCodeGen);
+    }
+
     /**
      * Merge the given compilation options by favoring theirs if there are conflicts.
      *
@@ -181,6 +188,11 @@ public class CompilationOptions {
         } else {
             compilationOptionsBuilder.setExportOpenAPI(this.exportOpenAPI);
         }
+        if (theirOptions.parallelCodeGen != null) {
+            compilationOptionsBuilder.setParallelCodeGen(theirOptions.parallelCodeGen);
+        } else {
+            compilationOptionsBuilder.setParallelCodeGen(this.parallelCodeGen);
+        }
         return compilationOptionsBuilder.build();
     }
 
@@ -228,6 +240,7 @@ public class CompilationOptions {
         private Boolean withCodeModifiers;
         private Boolean configSchemaGen;
         private Boolean exportOpenAPI;
+        private Boolean parallelCodeGen;
 
         public CompilationOptionsBuilder setOffline(Boolean value) {
             offline = value;
@@ -294,10 +307,15 @@ public class CompilationOptions {
             return this;
         }
 
+        CompilationOptionsBuilder setParallelCodeGen(Boolean value) {
+            parallelCodeGen = value;
+            return this;
+        }
+
         public CompilationOptions build() {
             return new CompilationOptions(offline, observabilityIncluded, dumpBir,
                     dumpBirFile, cloud, listConflictedClasses, sticky, dumpGraph, dumpRawGraph,
-                    withCodeGenerators, withCodeModifiers, configSchemaGen, exportOpenAPI);
+                    withCodeGenerators, withCodeModifiers, configSchemaGen, exportOpenAPI, parallelCodeGen);
         }
     }
 }
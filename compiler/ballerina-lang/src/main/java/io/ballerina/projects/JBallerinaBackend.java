@@ -38,6 +38,7 @@ import org.ballerinalang.maven.exceptions.MavenResolverException;
 import org.wso2.ballerinalang.compiler.CompiledJarFile;
 import org.wso2.ballerinalang.compiler.bir.codegen.CodeGenerator;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropValidator;
+import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLog;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.ObservabilitySymbolCollectorRunner;
 import org.wso2.ballerinalang.compiler.spi.ObservabilitySymbolCollector;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
@@ -60,9 +61,14 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
@@ -91,6 +97,7 @@ public class JBallerinaBackend extends CompilerBackend {
     private final PackageContext packageContext;
     private final PackageCache packageCache;
     private final CompilerContext compilerContext;
+    private final BLangDiagnosticLog dlog;
     private final CodeGenerator jvmCodeGenerator;
     private final InteropValidator interopValidator;
     private final JarResolver jarResolver;
@@ -98,6 +105,9 @@ public class JBallerinaBackend extends CompilerBackend {
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
     private final List<JarConflict> conflictedJars;
+    // Modules whose JVM code is generated in parallel once the BIR of all the modules is generated
+    private final Map<ModuleContext, CompilationCache> scheduledCodeGen = new LinkedHashMap<>();
+    private boolean scheduleCodeGen;
 
     public static JBallerinaBackend from(PackageCompilation packageCompilation, JvmTarget jdkVersion) {
         // Check if the project has write permissions
@@ -124,6 +134,7 @@ public class JBallerinaBackend extends CompilerBackend {
         this.compilerContext = projectEnvContext.getService(CompilerContext.class);
         this.interopValidator = InteropValidator.getInstance(compilerContext);
         this.jvmCodeGenerator = CodeGenerator.getInstance(compilerContext);
+        this.dlog = BLangDiagnosticLog.getInstance(compilerContext);
         // TODO: Move to a compiler extension once Compiler revamp is complete
         if (packageContext.compilationOptions().observabilityIncluded()) {
             ObservabilitySymbolCollector observabilitySymbolCollector
@@ -150,6 +161,9 @@ public class JBallerinaBackend extends CompilerBackend {
         diagnostics.addAll(this.packageContext.packageManifest().diagnostics().diagnostics());
         // collect compilation diagnostics
         List<Diagnostic> moduleDiagnostics = new ArrayList<>();
+        // modules that have errors or whose code is not generated due to the errors of their dependencies
+        Set<ModuleId> failedModules = new HashSet<>();
+        scheduleCodeGen = packageContext.compilationOptions().parallelCodeGen();
         for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
             // If modules from the current package are being processed
             // we do an overall check on the diagnostics of the package
@@ -161,14 +175,23 @@ public class JBallerinaBackend extends CompilerBackend {
             }
 
             // We can't generate backend code when one of its dependencies have errors.
-            if (hasNoErrors(moduleDiagnostics)) {
+            if (hasFailedDependency(moduleContext, failedModules)) {
+                failedModules.add(moduleContext.moduleId());
+            } else {
                 moduleContext.generatePlatformSpecificCode(compilerContext, this);
             }
-            for (Diagnostic diagnostic : moduleContext.diagnostics()) {
-                moduleDiagnostics.add(
-                        new PackageDiagnostic(diagnostic, moduleContext.descriptor(), moduleContext.project()));
+            // The diagnostics of the scheduled modules are collected after their code is generated
+            if (!scheduledCodeGen.containsKey(moduleContext)) {
+                addModuleDiagnostics(moduleContext, moduleDiagnostics);
+                if (!hasNoErrors(moduleContext.diagnostics())) {
+                    failedModules.add(moduleContext.moduleId());
+                }
             }
         }
+        scheduleCodeGen = false;
+        for (ModuleContext moduleContext : performScheduledCodeGen()) {
+            addModuleDiagnostics(moduleContext, moduleDiagnostics);
+        }
         // add compilation diagnostics
         diagnostics.addAll(moduleDiagnostics);
         // add plugin diagnostics
@@ -180,6 +203,85 @@ public class JBallerinaBackend extends CompilerBackend {
         codeGenCompleted = true;
     }
 
+    private void addModuleDiagnostics(ModuleContext moduleContext, List<Diagnostic> moduleDiagnostics) {
+        for (Diagnostic diagnostic : moduleContext.diagnostics()) {
+            moduleDiagnostics.add(
+                    new PackageDiagnostic(diagnostic, moduleContext.descriptor(), moduleContext.project()));
+        }
+    }
+
+    /**
+     * Generates the JVM code of the scheduled modules on a fork-join pool. The code of a module is generated after
+     * the code of the modules it depends on, as the code generation updates the BIR of the module and reads the BIR
+     * of its dependencies. Modules that do not depend on each other are generated concurrently. As in the sequential
+     * code generation, the code of a module is not generated if one of its dependencies has errors.
+     *
+     * @return the modules whose code generation was scheduled
+     */
+    private List<ModuleContext> performScheduledCodeGen() {
+        if (scheduledCodeGen.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<ModuleContext> scheduledModules = new ArrayList<>(scheduledCodeGen.keySet());
+        Map<ModuleId, CompletableFuture<Boolean>> codeGenResults = new HashMap<>();
+        ForkJoinPool forkJoinPool = new ForkJoinPool();
+        try {
+            // The modules are scheduled in the topological order, so the dependencies are scheduled first
+            for (Map.Entry<ModuleContext, CompilationCache> entry : scheduledCodeGen.entrySet()) {
+                ModuleContext moduleContext = entry.getKey();
+                List<CompletableFuture<Boolean>> dependencyResults = new ArrayList<>();
+                for (ModuleDependency moduleDependency : moduleContext.dependencies()) {
+                    CompletableFuture<Boolean> dependencyResult = codeGenResults.get(moduleDependency.moduleId());
+                    if (dependencyResult != null) {
+                        dependencyResults.add(dependencyResult);
+                    }
+                }
+                CompletableFuture<Boolean> codeGenResult = CompletableFuture
+                        .allOf(dependencyResults.toArray(new CompletableFuture[0]))
+                        .thenApplyAsync(ignored -> {
+                            // We can't generate backend code when one of its dependencies have errors.
+                            for (CompletableFuture<Boolean> dependencyResult : dependencyResults) {
+                                if (!dependencyResult.join()) {
+                                    return false;
+                                }
+                            }
+                            try {
+                                generateJars(moduleContext, entry.getValue());
+                            } finally {
+                                // the pool threads generate the code of other modules later
+                                dlog.clearCurrentPackageId();
+                            }
+                            return moduleContext.bLangPackage().getErrorCount() == 0;
+                        }, forkJoinPool);
+                codeGenResults.put(moduleContext.moduleId(), codeGenResult);
+            }
+            CompletableFuture.allOf(codeGenResults.values().toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ProjectException("Failed to generate the code of the modules", cause);
+        } finally {
+            forkJoinPool.shutdown();
+            scheduledCodeGen.clear();
+        }
+        return scheduledModules;
+    }
+
+    private boolean hasFailedDependency(ModuleContext moduleContext, Set<ModuleId> failedModules) {
+        for (ModuleDependency moduleDependency : moduleContext.dependencies()) {
+            if (failedModules.contains(moduleDependency.moduleId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private boolean hasNoErrors(List<Diagnostic> diagnostics) {
         for (Diagnostic diagnostic : diagnostics) {
             if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
@@ -306,6 +408,15 @@ public class JBallerinaBackend extends CompilerBackend {
         if (bLangPackage.getErrorCount() > 0) {
             return;
         }
+        if (scheduleCodeGen) {
+            scheduledCodeGen.put(moduleContext, compilationCache);
+            return;
+        }
+        generateJars(moduleContext, compilationCache);
+    }
+
+    private void generateJars(ModuleContext moduleContext, CompilationCache compilationCache) {
+        BLangPackage bLangPackage = moduleContext.bLangPackage();
         CompiledJarFile compiledJarFile = jvmCodeGenerator.generate(bLangPackage);
         if (compiledJarFile == null) {
             throw new IllegalStateException("Missing generated jar, module: " + moduleContext.moduleName());
@@ -97,6 +97,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TABLE_VAL
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPEDESC_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE_CHECKER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE_CONVERTER;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VALUE_CACHE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VALUE_OF_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.XML_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.ANY_TO_BYTE;
@@ -691,12 +692,10 @@ public class JvmCastGen {
             case JTypeTags.JSHORT:
             case JTypeTags.JINT:
                 mv.visitInsn(I2L);
-                mv.visitMethodInsn(INVOKESTATIC, LONG_VALUE, VALUE_OF_METHOD, LONG_VALUE_OF,
-                        false);
+                mv.visitMethodInsn(INVOKESTATIC, VALUE_CACHE, VALUE_OF_METHOD, LONG_VALUE_OF, false);
                 break;
             case JTypeTags.JLONG:
-                mv.visitMethodInsn(INVOKESTATIC, LONG_VALUE, VALUE_OF_METHOD, LONG_VALUE_OF,
-                        false);
+                mv.visitMethodInsn(INVOKESTATIC, VALUE_CACHE, VALUE_OF_METHOD, LONG_VALUE_OF, false);
                 break;
             case JTypeTags.JFLOAT:
                 mv.visitInsn(F2D);
@@ -1629,7 +1628,7 @@ public class JvmCastGen {
     private void generateCastToAny(MethodVisitor mv, BType type) {
         BType sourceType = JvmCodeGenUtil.getReferredType(type);
         if (TypeTags.isIntegerTypeTag(sourceType.tag)) {
-            mv.visitMethodInsn(INVOKESTATIC, LONG_VALUE, VALUE_OF_METHOD, LONG_VALUE_OF, false);
+            mv.visitMethodInsn(INVOKESTATIC, VALUE_CACHE, VALUE_OF_METHOD, LONG_VALUE_OF, false);
             return;
         }
 
@@ -40,6 +40,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethodGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropMethodGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JType;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JTypeTags;
+import org.wso2.ballerinalang.compiler.bir.codegen.optimizer.YieldAnalyzer;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmConstantsGen;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
@@ -85,6 +86,7 @@ import static org.objectweb.asm.Opcodes.ICONST_1;
 import static org.objectweb.asm.Opcodes.IFEQ;
 import static org.objectweb.asm.Opcodes.IFGT;
 import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
@@ -102,12 +104,12 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.SCOPE_P
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIONS_METHOD_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_UTILS;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FRAME_STACK;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_ANNOTATIONS_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_STARTED;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_START_ATTEMPTED;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STACK;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND_CLASS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPEDESC_VALUE;
@@ -128,7 +130,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_STRI
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TABLE_VALUE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPEDESC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_XML;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_OBJECT_RETURN_OBJECT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PUSH_FRAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.RETURN_OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.STACK_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.UPDATE_CHANNEL_DETAILS;
@@ -145,6 +147,7 @@ public class MethodGen {
     private final JvmPackageGen jvmPackageGen;
     private final SymbolTable symbolTable;
     private final Types types;
+    private YieldAnalyzer yieldAnalyzer;
 
     public MethodGen(JvmPackageGen jvmPackageGen, Types types) {
         this.jvmPackageGen = jvmPackageGen;
@@ -247,9 +250,7 @@ public class MethodGen {
         mv.visitJumpInsn(GOTO, varinitLabel);
 
         mv.visitLabel(yieldLable);
-        mv.visitTypeInsn(NEW, frameName);
-        mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, frameName, JVM_INIT_METHOD, "()V", false);
+        genNewOrReusedFrame(localVarOffset, mv, frameName);
 
         generateFrameClassFieldUpdate(func.localVars, mv, indexMap, frameName);
 
@@ -270,6 +271,16 @@ public class MethodGen {
         mv.visitEnd();
     }
 
+    /**
+     * Sets the analysis of the functions of the module being generated that can't yield, so that the strand is not
+     * checked for having yielded after calling them.
+     *
+     * @param yieldAnalyzer analysis of the module, or null to check after every call
+     */
+    public void setYieldAnalyzer(YieldAnalyzer yieldAnalyzer) {
+        this.yieldAnalyzer = yieldAnalyzer;
+    }
+
     private BType getReturnType(BIRFunction func) {
         BType retType = func.type.retType;
         if (JvmCodeGenUtil.isExternFunc(func) && Symbols.isFlagOn(retType.flags, Flags.PARAMETERIZED)) {
@@ -494,7 +505,12 @@ public class MethodGen {
             errorGen.generateTryCatch(func, funcName, bb, termGen, labelGen);
 
             BIRBasicBlock thenBB = terminator.thenBB;
-            if (thenBB != null) {
+            if (thenBB == null) {
+                continue;
+            }
+            if (yieldAnalyzer != null && !yieldAnalyzer.canYield(terminator)) {
+                mv.visitJumpInsn(GOTO, termGen.getLabelGenerator().getLabel(funcName + thenBB.id.value));
+            } else {
                 JvmCodeGenUtil.genYieldCheck(mv, termGen.getLabelGenerator(), thenBB, funcName, localVarOffset);
             }
         }
@@ -554,8 +570,30 @@ public class MethodGen {
         mv.visitFieldInsn(PUTFIELD, STRAND_CLASS, RESUME_INDEX, "I");
         mv.visitVarInsn(ALOAD, localVarOffset);
         mv.visitFieldInsn(GETFIELD, STRAND_CLASS, MethodGenUtils.FRAMES, STACK_FRAMES);
-        mv.visitMethodInsn(INVOKEVIRTUAL, STACK, "pop", RETURN_OBJECT, false);
+        mv.visitMethodInsn(INVOKEVIRTUAL, FRAME_STACK, "pop", RETURN_OBJECT, false);
+        mv.visitTypeInsn(CHECKCAST, frameName);
+    }
+
+    private void genNewOrReusedFrame(int localVarOffset, MethodVisitor mv, String frameName) {
+        // A frame of this function left in the slot by an earlier resume is refilled instead of allocating a new one,
+        // as all the fields are written before it is pushed.
+        Label newFrameLabel = new Label();
+        Label frameReadyLabel = new Label();
+        mv.visitVarInsn(ALOAD, localVarOffset);
+        mv.visitFieldInsn(GETFIELD, STRAND_CLASS, MethodGenUtils.FRAMES, STACK_FRAMES);
+        mv.visitMethodInsn(INVOKEVIRTUAL, FRAME_STACK, "getReusableFrame", RETURN_OBJECT, false);
+        mv.visitInsn(DUP);
+        mv.visitTypeInsn(INSTANCEOF, frameName);
+        mv.visitJumpInsn(IFEQ, newFrameLabel);
         mv.visitTypeInsn(CHECKCAST, frameName);
+        mv.visitJumpInsn(GOTO, frameReadyLabel);
+
+        mv.visitLabel(newFrameLabel);
+        mv.visitInsn(POP);
+        mv.visitTypeInsn(NEW, frameName);
+        mv.visitInsn(DUP);
+        mv.visitMethodInsn(INVOKESPECIAL, frameName, JVM_INIT_METHOD, "()V", false);
+        mv.visitLabel(frameReadyLabel);
     }
 
     private void generateFrameClassFieldLoad(List<BIRVariableDcl> localVars, MethodVisitor mv,
@@ -905,8 +943,7 @@ public class MethodGen {
         mv.visitVarInsn(ALOAD, localVarOffset);
         mv.visitFieldInsn(GETFIELD, STRAND_CLASS, MethodGenUtils.FRAMES, STACK_FRAMES);
         mv.visitVarInsn(ALOAD, frameVarIndex);
-        mv.visitMethodInsn(INVOKEVIRTUAL, STACK, "push", PASS_OBJECT_RETURN_OBJECT, false);
-        mv.visitInsn(POP);
+        mv.visitMethodInsn(INVOKEVIRTUAL, FRAME_STACK, "push", PUSH_FRAME, false);
         mv.visitVarInsn(ALOAD, localVarOffset);
         mv.visitInsn(DUP);
         mv.visitFieldInsn(GETFIELD, STRAND_CLASS, RESUME_INDEX, "I");
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.codegen.optimizer;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the functions of a module that can never yield the strand they run on.
+ * <p>
+ * Generated code checks whether the strand has yielded after each terminator that continues to another basic block,
+ * and saves a frame of the function if it has. A call to a function that can never yield doesn't need that check.
+ * A function can yield if it has a terminator other than a jump, a branch, a return, a panic or a direct call to a
+ * function of the same module that can't yield. Calls to other modules, external functions, object methods and
+ * function pointers are assumed to yield.
+ *
+ * @since 2201.2.0
+ */
+public class YieldAnalyzer {
+
+    private final PackageID packageID;
+    private final Map<String, BIRFunction> functions = new HashMap<>();
+    private final Set<String> yieldingFunctions = new HashSet<>();
+
+    public YieldAnalyzer(BIRPackage module) {
+        this.packageID = module.packageID;
+        for (BIRFunction func : module.functions) {
+            if (func != null && !JvmCodeGenUtil.isExternFunc(func)) {
+                functions.put(func.name.value, func);
+            }
+        }
+        // Functions are only marked as yielding once one of their terminators is known to yield, so recursive
+        // functions without any other yield point are found to not yield.
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (BIRFunction func : functions.values()) {
+                if (!yieldingFunctions.contains(func.name.value) && hasYieldingTerminator(func)) {
+                    yieldingFunctions.add(func.name.value);
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether the strand may have yielded once the given terminator completes.
+     *
+     * @param terminator terminator of a function of the analyzed module
+     * @return false if the terminator never yields
+     */
+    public boolean canYield(BIRTerminator terminator) {
+        switch (terminator.kind) {
+            case GOTO:
+            case BRANCH:
+            case RETURN:
+            case PANIC:
+                return false;
+            case CALL:
+                BIRTerminator.Call call = (BIRTerminator.Call) terminator;
+                return call.isVirtual || !packageID.equals(call.calleePkg) ||
+                        !functions.containsKey(call.name.value) || yieldingFunctions.contains(call.name.value);
+            default:
+                return true;
+        }
+    }
+
+    private boolean hasYieldingTerminator(BIRFunction func) {
+        for (BIRBasicBlock bb : func.basicBlocks) {
+            if (bb.terminator != null && canYield(bb.terminator)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -39,7 +39,6 @@ import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.ALOAD;
-import static org.objectweb.asm.Opcodes.BIPUSH;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.IASTORE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
@@ -172,14 +171,14 @@ public class JvmBStringConstantsGen {
         mv.visitTypeInsn(NEW, NON_BMP_STRING_VALUE);
         mv.visitInsn(DUP);
         mv.visitLdcInsn(val);
-        mv.visitIntInsn(BIPUSH, highSurrogates.length);
+        mv.visitLdcInsn(highSurrogates.length);
         mv.visitIntInsn(NEWARRAY, T_INT);
 
         int i = 0;
         for (int ch : highSurrogates) {
             mv.visitInsn(DUP);
-            mv.visitIntInsn(BIPUSH, i);
-            mv.visitIntInsn(BIPUSH, ch);
+            mv.visitLdcInsn(i);
+            mv.visitLdcInsn(ch);
             i = i + 1;
             mv.visitInsn(IASTORE);
         }
@@ -5525,6 +5525,15 @@ public class Desugar extends BLangNodeVisitor {
         return trxOnFailClause;
     }
 
+    /**
+     * Checks whether the node being desugared is within the body of a transaction statement.
+     *
+     * @return true if the node is within a transaction statement
+     */
+    boolean isWithinTransaction() {
+        return trxBlockId != null;
+    }
+
     @Override
     public void visit(BLangTransaction transactionNode) {
         if (transactionNode.onFailClause != null) {
@@ -17,11 +17,14 @@
 package org.wso2.ballerinalang.compiler.desugar;
 
 import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.elements.Flag;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
+import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
 import org.ballerinalang.model.types.TypeKind;
@@ -33,8 +36,10 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStreamType;
@@ -48,6 +53,7 @@ import org.wso2.ballerinalang.compiler.tree.BLangExprFunctionBody;
 import org.wso2.ballerinalang.compiler.tree.BLangFunction;
 import org.wso2.ballerinalang.compiler.tree.BLangFunctionBody;
 import org.wso2.ballerinalang.compiler.tree.BLangIdentifier;
+import org.wso2.ballerinalang.compiler.tree.BLangInvokableNode;
 import org.wso2.ballerinalang.compiler.tree.BLangMarkdownReferenceDocumentation;
 import org.wso2.ballerinalang.compiler.tree.BLangNode;
 import org.wso2.ballerinalang.compiler.tree.BLangNodeVisitor;
@@ -169,9 +175,11 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
@@ -180,6 +188,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.UNDERSCORE;
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
@@ -196,7 +205,10 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_LET_FUNCTION = new Name("createLetFunction");
     private static final Name QUERY_CREATE_INNER_JOIN_FUNCTION = new Name("createInnerJoinFunction");
     private static final Name QUERY_CREATE_OUTER_JOIN_FUNCTION = new Name("createOuterJoinFunction");
+    private static final Name QUERY_CREATE_INDEXED_INNER_JOIN_FUNCTION = new Name("createIndexedInnerJoinFunction");
+    private static final Name QUERY_CREATE_INDEXED_OUTER_JOIN_FUNCTION = new Name("createIndexedOuterJoinFunction");
     private static final Name QUERY_CREATE_FILTER_FUNCTION = new Name("createFilterFunction");
+    private static final Name QUERY_CREATE_INDEXED_FILTER_FUNCTION = new Name("createIndexedFilterFunction");
     private static final Name QUERY_CREATE_ORDER_BY_FUNCTION = new Name("createOrderByFunction");
     private static final Name QUERY_CREATE_SELECT_FUNCTION = new Name("createSelectFunction");
     private static final Name QUERY_CREATE_DO_FUNCTION = new Name("createDoFunction");
@@ -208,6 +220,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_TO_XML_FUNCTION = new Name("toXML");
     private static final Name QUERY_ADD_TO_TABLE_FUNCTION = new Name("addToTable");
     private static final Name QUERY_GET_STREAM_FROM_PIPELINE_FUNCTION = new Name("getStreamFromPipeline");
+    private static final Name QUERY_ENABLE_PARALLEL_EXECUTION_FUNCTION = new Name("enableParallelExecution");
     private static final String FRAME_PARAMETER_NAME = "$frame$";
     private static final CompilerContext.Key<QueryDesugar> QUERY_DESUGAR_KEY = new CompilerContext.Key<>();
     private BLangExpression onConflictExpr;
@@ -220,6 +233,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private final SymbolResolver symResolver;
     private final Names names;
     private final Types types;
+    private final boolean observabilityIncluded;
     private SymbolEnv env;
     private SymbolEnv queryEnv;
     private boolean containsCheckExpr;
@@ -233,6 +247,8 @@ public class QueryDesugar extends BLangNodeVisitor {
         this.names = Names.getInstance(context);
         this.types = Types.getInstance(context);
         this.desugar = Desugar.getInstance(context);
+        this.observabilityIncluded = Boolean.parseBoolean(CompilerOptions.getInstance(context)
+                .get(CompilerOptionName.OBSERVABILITY_INCLUDED));
     }
 
     public static QueryDesugar getInstance(CompilerContext context) {
@@ -373,11 +389,14 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangVariableReference buildStream(List<BLangNode> clauses, BType resultType, SymbolEnv env, BLangBlockStmt block) {
         this.env = env;
+        // checked before the clauses are desugared, as desugaring rewrites their variable references
+        boolean canRunInParallel = canRunInParallel(clauses, resultType);
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
         final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
                 initFromClause.collection, resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause);
         addStreamFunction(block, initPipeline, initFrom);
+        boolean useTableIndexes = canUseTableIndexes(clauses, resultType);
         for (BLangNode clause : clauses.subList(1, clauses.size())) {
             switch (clause.getKind()) {
                 case FROM:
@@ -393,7 +412,8 @@ public class QueryDesugar extends BLangNodeVisitor {
                             joinClause.collection, resultType);
                     BLangVariableReference joinInputFunc = addInputFunction(block, joinClause);
                     addStreamFunction(block, joinPipeline, joinInputFunc);
-                    BLangVariableReference joinFunc = addJoinFunction(block, joinClause, joinPipeline);
+                    BLangVariableReference joinFunc = addJoinFunction(block, joinClause, joinPipeline,
+                            useTableIndexes);
                     addStreamFunction(block, initPipeline, joinFunc);
                     break;
                 case LET_CLAUSE:
@@ -401,7 +421,12 @@ public class QueryDesugar extends BLangNodeVisitor {
                     addStreamFunction(block, initPipeline, letFunc);
                     break;
                 case WHERE:
-                    BLangVariableReference whereFunc = addWhereFunction(block, (BLangWhereClause) clause);
+                    BLangWhereClause whereClause = (BLangWhereClause) clause;
+                    // only a filter applied directly to the rows of the initial from clause can use a table index
+                    List<BLangExpression> indexLookup = useTableIndexes && clause == clauses.get(1)
+                            ? getTableIndexLookup(initFromClause, whereClause.expression) : null;
+                    BLangVariableReference whereFunc = indexLookup == null ? addWhereFunction(block, whereClause)
+                            : addIndexedWhereFunction(block, whereClause, initPipeline, indexLookup);
                     addStreamFunction(block, initPipeline, whereFunc);
                     break;
                 case ORDER_BY:
@@ -426,6 +451,9 @@ public class QueryDesugar extends BLangNodeVisitor {
                     break;
             }
         }
+        if (canRunInParallel) {
+            addEnableParallelExecution(block, initPipeline);
+        }
         return addGetStreamFromPipeline(block, initPipeline);
     }
 
@@ -553,20 +581,34 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @param blockStmt    parent block to write to.
      * @param joinClause   to be desugared.
      * @param joinPipeline previously created _StreamPipeline reference to be joined.
+     * @param useTableIndexes whether the joined rows can be looked up from a table index.
      * @return variableReference to created join _StreamFunction.
      */
     BLangVariableReference addJoinFunction(BLangBlockStmt blockStmt, BLangJoinClause joinClause,
-                                           BLangVariableReference joinPipeline) {
+                                           BLangVariableReference joinPipeline, boolean useTableIndexes) {
         BLangExpression lhsExpr = (BLangExpression) joinClause.onClause.getLeftExpression();
         BLangExpression rhsExpr = (BLangExpression) joinClause.onClause.getRightExpression();
+        // `join var x in tbl on ... equals x.field` can look up the rows to join from an index on the field.
+        String indexedField = useTableIndexes ? getTableIndexField(joinClause, rhsExpr) : null;
         BLangLambdaFunction lhsKeyFunction = createKeyFunction(lhsExpr);
         BLangLambdaFunction rhsKeyFunction = createKeyFunction(rhsExpr);
         if (joinClause.isOuterJoin) {
             List<BVarSymbol> symbols =
                     getIntroducedSymbols((BLangVariable) joinClause.variableDefinitionNode.getVariable());
             final BLangSimpleVarRef nilFrame = defineNilFrameForType(symbols, blockStmt, rhsExpr.pos);
+            if (indexedField != null) {
+                return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INDEXED_OUTER_JOIN_FUNCTION,
+                        Lists.of(joinPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame,
+                                ASTBuilderUtil.createLiteral(rhsExpr.pos, symTable.stringType, indexedField)),
+                        joinClause.pos);
+            }
             return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_OUTER_JOIN_FUNCTION,
                     Lists.of(joinPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame), joinClause.pos);
+        } else if (indexedField != null) {
+            return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INDEXED_INNER_JOIN_FUNCTION,
+                    Lists.of(joinPipeline, lhsKeyFunction, rhsKeyFunction,
+                            ASTBuilderUtil.createLiteral(rhsExpr.pos, symTable.stringType, indexedField)),
+                    joinClause.pos);
         } else {
             return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INNER_JOIN_FUNCTION,
                     Lists.of(joinPipeline, lhsKeyFunction, rhsKeyFunction), joinClause.pos);
@@ -616,6 +658,37 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @return variableReference to created filter _StreamFunction.
      */
     BLangVariableReference addWhereFunction(BLangBlockStmt blockStmt, BLangWhereClause whereClause) {
+        BLangLambdaFunction lambda = createWhereLambda(whereClause);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_FILTER_FUNCTION, Lists.of(lambda),
+                whereClause.pos);
+    }
+
+    /**
+     * Desugar whereClause over the rows of a table to below and return a reference to created filter _StreamFunction.
+     * _StreamFunction xsFilter = createIndexedFilterFunction(pipeline, "field", "==", value,
+     * function(_Frame frame) returns boolean {
+     * return <int>frame["x"] > 0;
+     * });
+     * The pipeline only iterates the rows looked up from an index on the field, if the table can index the field.
+     *
+     * @param blockStmt   parent block to write to.
+     * @param whereClause to be desugared.
+     * @param pipeline    pipeline of the initial from clause.
+     * @param indexLookup field name, operator and value to look up from the table index.
+     * @return variableReference to created filter _StreamFunction.
+     */
+    BLangVariableReference addIndexedWhereFunction(BLangBlockStmt blockStmt, BLangWhereClause whereClause,
+                                                   BLangVariableReference pipeline,
+                                                   List<BLangExpression> indexLookup) {
+        BLangLambdaFunction lambda = createWhereLambda(whereClause);
+        List<BLangExpression> args = new ArrayList<>();
+        args.add(pipeline);
+        args.addAll(indexLookup);
+        args.add(lambda);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INDEXED_FILTER_FUNCTION, args, whereClause.pos);
+    }
+
+    private BLangLambdaFunction createWhereLambda(BLangWhereClause whereClause) {
         Location pos = whereClause.pos;
         BLangLambdaFunction lambda = createFilterLambda(pos);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
@@ -624,7 +697,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         returnNode.setExpression(whereClause.expression);
         body.addStatement(returnNode);
         lambda.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_FILTER_FUNCTION, Lists.of(lambda), pos);
+        return lambda;
     }
 
     /**
@@ -754,6 +827,21 @@ public class QueryDesugar extends BLangNodeVisitor {
         stmt.expr = addStreamFunctionInvocation;
     }
 
+    /**
+     * Desugar to following invocation.
+     * enableParallelExecution(xsPipeline);
+     * The pipeline only runs in parallel if parallel query execution is enabled at runtime.
+     *
+     * @param blockStmt   parent block to write to.
+     * @param pipelineRef variableReference to pipeline.
+     */
+    void addEnableParallelExecution(BLangBlockStmt blockStmt, BLangVariableReference pipelineRef) {
+        BLangInvocation invocation = createQueryLibInvocation(QUERY_ENABLE_PARALLEL_EXECUTION_FUNCTION,
+                Lists.of(pipelineRef), pipelineRef.pos);
+        BLangExpressionStmt stmt = ASTBuilderUtil.createExpressionStmt(pipelineRef.pos, blockStmt);
+        stmt.expr = invocation;
+    }
+
     /**
      * Desugar to following invocation.
      * stream<any|error, error?> result = xsPipeline.getStream();
@@ -1115,6 +1203,419 @@ public class QueryDesugar extends BLangNodeVisitor {
         return Collections.emptyList();
     }
 
+    /**
+     * Table indexes are looked up when the query pipeline is created, while the pipeline itself may run later or
+     * modify the table while running. So they are only used for query expressions that are evaluated eagerly.
+     *
+     * @param clauses    query clauses.
+     * @param resultType result type of the query output.
+     * @return whether table indexes can be used.
+     */
+    private boolean canUseTableIndexes(List<BLangNode> clauses, BType resultType) {
+        if (Types.getReferredType(resultType).tag == TypeTags.STREAM) {
+            return false;
+        }
+        for (BLangNode clause : clauses) {
+            if (clause.getKind() == NodeKind.DO) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the rows of the initial from clause can be processed in parallel. This is the case for a query
+     * over a list or a table that only has let, where and select clauses, when evaluating those clauses for a row
+     * can't affect their evaluation for another row. So the clauses may only read the variables outside the query,
+     * call isolated functions, and pass mutable values to them only if those values come from the row itself.
+     *
+     * @param clauses    query clauses.
+     * @param resultType result type of the query output.
+     * @return true if the query can be executed in parallel.
+     */
+    private boolean canRunInParallel(List<BLangNode> clauses, BType resultType) {
+        if (Types.getReferredType(resultType).tag == TypeTags.STREAM) {
+            return false;
+        }
+        // The strands processing the rows in parallel don't take part in the transaction or the observation of the
+        // strand running the query.
+        if (observabilityIncluded || isTransactionalContext()) {
+            return false;
+        }
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        if (!isListOrTableType(fromClause.collection.getBType())) {
+            return false;
+        }
+        Set<BSymbol> queryVariables =
+                new HashSet<>(getIntroducedSymbols((BLangVariable) fromClause.variableDefinitionNode.getVariable()));
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case LET_CLAUSE:
+                    BLangLetClause letClause = (BLangLetClause) clause;
+                    for (BLangLetVariable letVariable : letClause.letVarDeclarations) {
+                        BLangVariable variable = (BLangVariable) letVariable.definitionNode.getVariable();
+                        if (!isParallelSafeExpr(variable.expr, queryVariables)) {
+                            return false;
+                        }
+                    }
+                    queryVariables.addAll(getIntroducedSymbols(letClause));
+                    break;
+                case WHERE:
+                    if (!isParallelSafeExpr(((BLangWhereClause) clause).expression, queryVariables)) {
+                        return false;
+                    }
+                    break;
+                case SELECT:
+                    if (!isParallelSafeExpr(((BLangSelectClause) clause).expression, queryVariables)) {
+                        return false;
+                    }
+                    break;
+                case ON_CONFLICT:
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isTransactionalContext() {
+        if (desugar.isWithinTransaction()) {
+            return true;
+        }
+        BLangInvokableNode enclInvokable = env.enclInvokable;
+        return enclInvokable != null && enclInvokable.symbol != null &&
+                Symbols.isFlagOn(enclInvokable.symbol.flags, Flags.TRANSACTIONAL);
+    }
+
+    private boolean isListOrTableType(BType type) {
+        BType refType = Types.getReferredType(type);
+        if (refType.tag == TypeTags.INTERSECTION) {
+            refType = Types.getReferredType(((BIntersectionType) refType).effectiveType);
+        }
+        return refType.tag == TypeTags.ARRAY || refType.tag == TypeTags.TUPLE || refType.tag == TypeTags.TABLE;
+    }
+
+    private boolean isParallelSafeExpr(BLangExpression expr, Set<BSymbol> queryVariables) {
+        if (expr == null) {
+            return true;
+        }
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+            case CONSTANT_REF:
+                return true;
+            case SIMPLE_VARIABLE_REF:
+                BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+                if (symbol == null || (symbol.tag & SymTag.FUNCTION) == SymTag.FUNCTION) {
+                    return false;
+                }
+                if (queryVariables.contains(symbol) || (symbol.tag & SymTag.CONSTANT) == SymTag.CONSTANT) {
+                    return true;
+                }
+                // a module level variable can be changed by other strands while the query runs
+                return symbol.owner == null || (symbol.owner.tag & SymTag.PACKAGE) != SymTag.PACKAGE ||
+                        Symbols.isFlagOn(symbol.flags, Flags.FINAL);
+            case FIELD_BASED_ACCESS_EXPR:
+                return isParallelSafeExpr(((BLangFieldBasedAccess) expr).expr, queryVariables);
+            case INDEX_BASED_ACCESS_EXPR:
+                BLangIndexBasedAccess indexAccess = (BLangIndexBasedAccess) expr;
+                return isParallelSafeExpr(indexAccess.expr, queryVariables) &&
+                        isParallelSafeExpr(indexAccess.indexExpr, queryVariables);
+            case BINARY_EXPR:
+                BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+                return isParallelSafeExpr(binaryExpr.lhsExpr, queryVariables) &&
+                        isParallelSafeExpr(binaryExpr.rhsExpr, queryVariables);
+            case ELVIS_EXPR:
+                BLangElvisExpr elvisExpr = (BLangElvisExpr) expr;
+                return isParallelSafeExpr(elvisExpr.lhsExpr, queryVariables) &&
+                        isParallelSafeExpr(elvisExpr.rhsExpr, queryVariables);
+            case TERNARY_EXPR:
+                BLangTernaryExpr ternaryExpr = (BLangTernaryExpr) expr;
+                return isParallelSafeExpr(ternaryExpr.expr, queryVariables) &&
+                        isParallelSafeExpr(ternaryExpr.thenExpr, queryVariables) &&
+                        isParallelSafeExpr(ternaryExpr.elseExpr, queryVariables);
+            case UNARY_EXPR:
+                return isParallelSafeExpr(((BLangUnaryExpr) expr).expr, queryVariables);
+            case GROUP_EXPR:
+                return isParallelSafeExpr(((BLangGroupExpr) expr).expression, queryVariables);
+            case TYPE_CONVERSION_EXPR:
+                return isParallelSafeExpr(((BLangTypeConversionExpr) expr).expr, queryVariables);
+            case TYPE_TEST_EXPR:
+                return isParallelSafeExpr(((BLangTypeTestExpr) expr).expr, queryVariables);
+            case CHECK_EXPR:
+            case CHECK_PANIC_EXPR:
+                return isParallelSafeExpr(((BLangCheckedExpr) expr).expr, queryVariables);
+            case STRING_TEMPLATE_LITERAL:
+                return areParallelSafeExprs(((BLangStringTemplateLiteral) expr).exprs, queryVariables);
+            case LIST_CONSTRUCTOR_EXPR:
+            case ARRAY_LITERAL_EXPR:
+            case TUPLE_LITERAL_EXPR:
+                return areParallelSafeExprs(((BLangListConstructorExpr) expr).exprs, queryVariables);
+            case RECORD_LITERAL_EXPR:
+                return isParallelSafeRecordLiteral((BLangRecordLiteral) expr, queryVariables);
+            case INVOCATION:
+                return isParallelSafeInvocation((BLangInvocation) expr, queryVariables);
+            default:
+                return false;
+        }
+    }
+
+    private boolean areParallelSafeExprs(List<BLangExpression> exprs, Set<BSymbol> queryVariables) {
+        for (BLangExpression expr : exprs) {
+            if (!isParallelSafeExpr(expr, queryVariables)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isParallelSafeRecordLiteral(BLangRecordLiteral recordLiteral, Set<BSymbol> queryVariables) {
+        for (RecordLiteralNode.RecordField field : recordLiteral.fields) {
+            if (field.isKeyValueField()) {
+                BLangRecordKeyValueField keyValueField = (BLangRecordKeyValueField) field;
+                if ((keyValueField.key.computedKey && !isParallelSafeExpr(keyValueField.key.expr, queryVariables)) ||
+                        !isParallelSafeExpr(keyValueField.valueExpr, queryVariables)) {
+                    return false;
+                }
+            } else if (field.getKind() == NodeKind.RECORD_LITERAL_SPREAD_OP) {
+                if (!isParallelSafeExpr(((BLangRecordSpreadOperatorField) field).expr, queryVariables)) {
+                    return false;
+                }
+            } else if (!isParallelSafeExpr((BLangExpression) field, queryVariables)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isParallelSafeInvocation(BLangInvocation invocation, Set<BSymbol> queryVariables) {
+        // remote method calls, object method calls and calls through function pointers may have side effects
+        if (invocation instanceof BLangInvocation.BLangActionInvocation || invocation.async ||
+                invocation.functionPointerInvocation || (invocation.expr != null && !invocation.langLibInvocation)) {
+            return false;
+        }
+        if (invocation.symbol == null || !Symbols.isFlagOn(invocation.symbol.flags, Flags.ISOLATED)) {
+            return false;
+        }
+        List<BLangExpression> args = new ArrayList<>(invocation.requiredArgs);
+        args.addAll(invocation.restArgs);
+        for (BLangExpression arg : args) {
+            // an isolated function can still change the mutable values passed to it
+            if (!isParallelSafeExpr(arg, queryVariables) || isSharedMutableValue(arg, queryVariables)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSharedMutableValue(BLangExpression expr, Set<BSymbol> queryVariables) {
+        BType type = expr.getBType();
+        if (type == null || types.isInherentlyImmutableType(type) || Symbols.isFlagOn(type.flags, Flags.READONLY)) {
+            return false;
+        }
+        switch (expr.getKind()) {
+            case SIMPLE_VARIABLE_REF:
+                return !queryVariables.contains(((BLangSimpleVarRef) expr).symbol);
+            case FIELD_BASED_ACCESS_EXPR:
+                return isSharedMutableValue(((BLangFieldBasedAccess) expr).expr, queryVariables);
+            case INDEX_BASED_ACCESS_EXPR:
+                return isSharedMutableValue(((BLangIndexBasedAccess) expr).expr, queryVariables);
+            case GROUP_EXPR:
+                return isSharedMutableValue(((BLangGroupExpr) expr).expression, queryVariables);
+            case TYPE_CONVERSION_EXPR:
+                return isSharedMutableValue(((BLangTypeConversionExpr) expr).expr, queryVariables);
+            case CHECK_EXPR:
+            case CHECK_PANIC_EXPR:
+                return isSharedMutableValue(((BLangCheckedExpr) expr).expr, queryVariables);
+            case ELVIS_EXPR:
+                BLangElvisExpr elvisExpr = (BLangElvisExpr) expr;
+                return isSharedMutableValue(elvisExpr.lhsExpr, queryVariables) ||
+                        isSharedMutableValue(elvisExpr.rhsExpr, queryVariables);
+            case TERNARY_EXPR:
+                BLangTernaryExpr ternaryExpr = (BLangTernaryExpr) expr;
+                return isSharedMutableValue(ternaryExpr.thenExpr, queryVariables) ||
+                        isSharedMutableValue(ternaryExpr.elseExpr, queryVariables);
+            case LIST_CONSTRUCTOR_EXPR:
+            case ARRAY_LITERAL_EXPR:
+            case TUPLE_LITERAL_EXPR:
+                // a new list is not shared, but the values it is constructed with can be
+                for (BLangExpression memberExpr : ((BLangListConstructorExpr) expr).exprs) {
+                    if (isSharedMutableValue(memberExpr, queryVariables)) {
+                        return true;
+                    }
+                }
+                return false;
+            case RECORD_LITERAL_EXPR:
+                return hasSharedMutableField((BLangRecordLiteral) expr, queryVariables);
+            case LITERAL:
+            case NUMERIC_LITERAL:
+            case CONSTANT_REF:
+            case BINARY_EXPR:
+            case UNARY_EXPR:
+            case TYPE_TEST_EXPR:
+            case STRING_TEMPLATE_LITERAL:
+            case INVOCATION:
+                // these create a new value, and the arguments of an invocation are checked separately
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private boolean hasSharedMutableField(BLangRecordLiteral recordLiteral, Set<BSymbol> queryVariables) {
+        for (RecordLiteralNode.RecordField field : recordLiteral.fields) {
+            BLangExpression valueExpr;
+            if (field.isKeyValueField()) {
+                valueExpr = ((BLangRecordKeyValueField) field).valueExpr;
+            } else if (field.getKind() == NodeKind.RECORD_LITERAL_SPREAD_OP) {
+                valueExpr = ((BLangRecordSpreadOperatorField) field).expr;
+            } else {
+                valueExpr = (BLangExpression) field;
+            }
+            if (isSharedMutableValue(valueExpr, queryVariables)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isTableType(BType type) {
+        BType refType = Types.getReferredType(type);
+        if (refType.tag == TypeTags.INTERSECTION) {
+            refType = Types.getReferredType(((BIntersectionType) refType).effectiveType);
+        }
+        return refType.tag == TypeTags.TABLE;
+    }
+
+    /**
+     * Returns the name of the field of the join variable used as the join key, if the join is over a table and the
+     * rows to join can be looked up from an index on that field.
+     *
+     * @param joinClause join clause.
+     * @param rhsExpr    right hand side of the join condition.
+     * @return the field name, or null if an index can't be used.
+     */
+    private String getTableIndexField(BLangJoinClause joinClause, BLangExpression rhsExpr) {
+        BLangVariable variable = (BLangVariable) joinClause.variableDefinitionNode.getVariable();
+        if (!isTableType(joinClause.collection.getBType()) || variable.getKind() != NodeKind.VARIABLE) {
+            return null;
+        }
+        return getFieldOfVariable(rhsExpr, variable.symbol);
+    }
+
+    /**
+     * Returns the field name, operator and value of a comparison in the given where condition that can be looked up
+     * from an index of the table iterated by the given from clause, e.g. `x.field == value` for `from var x in tbl`.
+     * The value must not change while the query runs, so it can only be a literal, a constant or a final variable.
+     *
+     * @param fromClause initial from clause.
+     * @param condition  where condition.
+     * @return arguments to look up the table index, or null if there is no such comparison.
+     */
+    private List<BLangExpression> getTableIndexLookup(BLangFromClause fromClause, BLangExpression condition) {
+        BLangVariable variable = (BLangVariable) fromClause.variableDefinitionNode.getVariable();
+        if (!isTableType(fromClause.collection.getBType()) || variable.getKind() != NodeKind.VARIABLE) {
+            return null;
+        }
+        if (condition.getKind() == NodeKind.GROUP_EXPR) {
+            return getTableIndexLookup(fromClause, ((BLangGroupExpr) condition).expression);
+        }
+        if (condition.getKind() != NodeKind.BINARY_EXPR) {
+            return null;
+        }
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) condition;
+        if (binaryExpr.opKind == OperatorKind.AND) {
+            List<BLangExpression> lookup = getTableIndexLookup(fromClause, binaryExpr.lhsExpr);
+            return lookup != null ? lookup : getTableIndexLookup(fromClause, binaryExpr.rhsExpr);
+        }
+        OperatorKind operator = binaryExpr.opKind;
+        if (operator != OperatorKind.EQUAL && operator != OperatorKind.LESS_THAN &&
+                operator != OperatorKind.LESS_EQUAL && operator != OperatorKind.GREATER_THAN &&
+                operator != OperatorKind.GREATER_EQUAL) {
+            return null;
+        }
+        String fieldName = getFieldOfVariable(binaryExpr.lhsExpr, variable.symbol);
+        BLangExpression valueExpr = binaryExpr.rhsExpr;
+        if (fieldName == null) {
+            // `value < x.field` is looked up as `x.field > value`
+            fieldName = getFieldOfVariable(binaryExpr.rhsExpr, variable.symbol);
+            valueExpr = binaryExpr.lhsExpr;
+            operator = getMirroredOperator(operator);
+        }
+        BLangExpression value = copyInvariantExpr(valueExpr);
+        if (fieldName == null || value == null) {
+            return null;
+        }
+        Location pos = condition.pos;
+        return Lists.of(ASTBuilderUtil.createLiteral(pos, symTable.stringType, fieldName),
+                ASTBuilderUtil.createLiteral(pos, symTable.stringType, operator.value()),
+                desugar.addConversionExprIfRequired(value, symTable.anyType));
+    }
+
+    private OperatorKind getMirroredOperator(OperatorKind operator) {
+        switch (operator) {
+            case LESS_THAN:
+                return OperatorKind.GREATER_THAN;
+            case LESS_EQUAL:
+                return OperatorKind.GREATER_EQUAL;
+            case GREATER_THAN:
+                return OperatorKind.LESS_THAN;
+            case GREATER_EQUAL:
+                return OperatorKind.LESS_EQUAL;
+            default:
+                return operator;
+        }
+    }
+
+    /**
+     * Returns the field name of a field access like `x.field` on the given variable.
+     *
+     * @param expr   expression to check.
+     * @param symbol symbol of the variable.
+     * @return the field name, or null if the expression is not a field access on the variable.
+     */
+    private String getFieldOfVariable(BLangExpression expr, BSymbol symbol) {
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return null;
+        }
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) expr;
+        if (fieldAccess.optionalFieldAccess || fieldAccess.expr.getKind() != NodeKind.SIMPLE_VARIABLE_REF ||
+                ((BLangSimpleVarRef) fieldAccess.expr).symbol != symbol) {
+            return null;
+        }
+        return fieldAccess.field.value;
+    }
+
+    /**
+     * Creates a copy of the given expression, if it evaluates to the same value wherever it is evaluated.
+     *
+     * @param expr expression to copy.
+     * @return the copy, or null if the expression is not a literal, a constant or a final variable.
+     */
+    private BLangExpression copyInvariantExpr(BLangExpression expr) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                BType type = Types.getReferredType(expr.getBType());
+                if (!TypeTags.isIntegerTypeTag(type.tag) && !TypeTags.isStringTypeTag(type.tag) &&
+                        type.tag != TypeTags.FLOAT && type.tag != TypeTags.DECIMAL && type.tag != TypeTags.BOOLEAN) {
+                    return null;
+                }
+                return ASTBuilderUtil.createLiteral(expr.pos, expr.getBType(), ((BLangLiteral) expr).value);
+            case CONSTANT_REF:
+                return ASTBuilderUtil.createLiteral(expr.pos, expr.getBType(), ((BLangConstRef) expr).value);
+            case SIMPLE_VARIABLE_REF:
+                BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+                if ((symbol.tag & SymTag.CONSTANT) != SymTag.CONSTANT && !Symbols.isFlagOn(symbol.flags, Flags.FINAL)) {
+                    return null;
+                }
+                return ASTBuilderUtil.createVariableRef(expr.pos, (BVarSymbol) symbol);
+            default:
+                return null;
+        }
+    }
+
     /**
      * Creates a lambda key function for a given expression.
      * function (_Frame _frame) returns any {
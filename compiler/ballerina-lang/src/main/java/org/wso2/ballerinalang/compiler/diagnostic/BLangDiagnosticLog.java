@@ -68,6 +68,8 @@ public class BLangDiagnosticLog implements DiagnosticLog {
     private TypesFactory typesFactory;
     private SymbolFactory symbolFactory;
     private PackageID currentPackageId;
+    // The modules whose code is generated in parallel set their package in a thread confined manner.
+    private final ThreadLocal<PackageID> threadPackageId = new ThreadLocal<>();
     private boolean isMute = false;
 
     private BLangDiagnosticLog(CompilerContext context) {
@@ -88,6 +90,15 @@ public class BLangDiagnosticLog implements DiagnosticLog {
 
     public void setCurrentPackageId(PackageID packageID) {
         this.currentPackageId = packageID;
+        this.threadPackageId.set(packageID);
+    }
+
+    /**
+     * Clears the current package of the calling thread, so that a thread that generated the code of a module does
+     * not keep reporting to it.
+     */
+    public void clearCurrentPackageId() {
+        this.threadPackageId.remove();
     }
 
     /**
@@ -254,7 +265,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         if (packageID != null) {
             storeDiagnosticInModule(packageID, diagnostic);
         } else {
-            storeDiagnosticInModule(currentPackageId, diagnostic);
+            storeDiagnosticInModule(getCurrentPackageId(), diagnostic);
         }
     }
 
@@ -285,6 +296,11 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         return diagArgs;
     }
 
+    private PackageID getCurrentPackageId() {
+        PackageID packageID = this.threadPackageId.get();
+        return packageID != null ? packageID : this.currentPackageId;
+    }
+
     private void storeDiagnosticInModule(PackageID pkgId, Diagnostic diagnostic) {
         BLangPackage pkgNode = this.packageCache.get(pkgId);
         pkgNode.addDiagnostic(diagnostic);
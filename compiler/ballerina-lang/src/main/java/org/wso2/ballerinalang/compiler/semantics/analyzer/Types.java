@@ -20,6 +20,7 @@ package org.wso2.ballerinalang.compiler.semantics.analyzer;
 import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.tools.diagnostics.DiagnosticCode;
 import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.compiler.CompilerPhase;
 import org.ballerinalang.model.Name;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.elements.Flag;
@@ -39,6 +40,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.BErrorTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BObjectTypeSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BRecordTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BStructureTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
@@ -115,9 +117,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.UNDERSCORE;
+import static org.ballerinalang.model.symbols.SymbolOrigin.COMPILED_SOURCE;
 import static org.ballerinalang.model.symbols.SymbolOrigin.SOURCE;
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
 import static org.wso2.ballerinalang.compiler.semantics.model.SymbolTable.BBYTE_MAX_VALUE;
@@ -148,7 +152,6 @@ public class Types {
 
     private static final CompilerContext.Key<Types> TYPES_KEY =
             new CompilerContext.Key<>();
-    private final Unifier unifier;
 
     private SymbolTable symTable;
     private SymbolResolver symResolver;
@@ -160,6 +163,9 @@ public class Types {
     private int recordCount = 0;
     private SymbolEnv env;
     private boolean ignoreObjectTypeIds = false;
+    // Results of top level isAssignable and isSameType checks between types that are no longer being defined.
+    private final Map<TypePair, Boolean> assignableTypeCache = new ConcurrentHashMap<>();
+    private final Map<TypePair, Boolean> sameTypeCache = new ConcurrentHashMap<>();
 
     public static Types getInstance(CompilerContext context) {
         Types types = context.get(TYPES_KEY);
@@ -180,7 +186,6 @@ public class Types {
         this.expandedXMLBuiltinSubtypes = BUnionType.create(null,
                                                             symTable.xmlElementType, symTable.xmlCommentType,
                                                             symTable.xmlPIType, symTable.xmlTextType);
-        this.unifier = new Unifier();
         this.anonymousModelHelper = BLangAnonymousModelHelper.getInstance(context);
     }
 
@@ -320,7 +325,17 @@ public class Types {
     }
 
     public boolean isSameType(BType source, BType target) {
-        return isSameType(source, target, new HashSet<>());
+        if (!isCacheableTypePair(source, target)) {
+            return isSameType(source, target, new HashSet<>());
+        }
+
+        TypePair pair = new TypePair(source, target);
+        Boolean result = sameTypeCache.get(pair);
+        if (result == null) {
+            result = isSameType(source, target, new HashSet<>());
+            sameTypeCache.put(pair, result);
+        }
+        return result;
     }
 
     public boolean isSameOrderedType(BType source, BType target) {
@@ -687,7 +702,65 @@ public class Types {
      * @return true if source type is assignable to the target type.
      */
     public boolean isAssignable(BType source, BType target) {
-        return isAssignable(source, target, new HashSet<>());
+        if (!isCacheableTypePair(source, target)) {
+            return isAssignable(source, target, new HashSet<>());
+        }
+
+        TypePair pair = new TypePair(source, target);
+        Boolean result = assignableTypeCache.get(pair);
+        if (result == null) {
+            result = isAssignable(source, target, new HashSet<>());
+            assignableTypeCache.put(pair, result);
+        }
+        return result;
+    }
+
+    /**
+     * Clears the cached results of the type relation checks. Called at the start of a compilation since the cached
+     * types are not reused by later compilations.
+     */
+    public void clearTypeRelationCache() {
+        assignableTypeCache.clear();
+        sameTypeCache.clear();
+    }
+
+    private boolean isCacheableTypePair(BType source, BType target) {
+        // checking two simple basic types is cheaper than looking them up, so only pairs with a named type are cached
+        if (source.tag != TypeTags.TYPEREFDESC && target.tag != TypeTags.TYPEREFDESC) {
+            return false;
+        }
+        return !this.ignoreObjectTypeIds && isDefinedType(source) && isDefinedType(target);
+    }
+
+    /**
+     * Checks whether a type can no longer change. Types created while checking expressions are updated after they
+     * are first checked, and the types of a module are completed only at the end of its define phase, so only simple
+     * basic types and references to the type definitions of modules that have been defined are considered.
+     *
+     * @param type type to check
+     * @return true if the structure of the type is final
+     */
+    private boolean isDefinedType(BType type) {
+        if (isSimpleBasicType(type.tag)) {
+            return true;
+        }
+
+        if (type.tag != TypeTags.TYPEREFDESC || ((BTypeReferenceType) type).referredType == null) {
+            return false;
+        }
+
+        BTypeSymbol tsymbol = type.tsymbol;
+        if (tsymbol.origin == COMPILED_SOURCE) {
+            return true;
+        }
+
+        if (tsymbol.owner == null || tsymbol.owner.tag != SymTag.PACKAGE) {
+            return false;
+        }
+
+        SymbolEnv pkgEnv = symTable.pkgEnvMap.get((BPackageSymbol) tsymbol.owner);
+        return pkgEnv != null && pkgEnv.enclPkg != null &&
+                pkgEnv.enclPkg.completedPhases.contains(CompilerPhase.DEFINE);
     }
 
     public boolean isAssignableIgnoreObjectTypeIds(BType source, BType target) {
@@ -889,22 +962,20 @@ public class Types {
             return true;
         }
 
+        // Does not mark the union as readonly, since the code generation of modules checks the assignability of
+        // types concurrently.
         BUnionType unionType = (BUnionType) type;
         for (BType memberType : unionType.getMemberTypes()) {
             if (!Symbols.isFlagOn(memberType.flags, Flags.READONLY)) {
                 return true;
             }
         }
-
-        unionType.flags |= Flags.READONLY;
-        BTypeSymbol tsymbol = unionType.tsymbol;
-        if (tsymbol != null) {
-            tsymbol.flags |= Flags.READONLY;
-        }
         return false;
     }
 
     private boolean isParameterizedTypeAssignable(BType source, BType target, Set<TypePair> unresolvedTypes) {
+        // The unifier keeps the state of a build, so a new one is used for each check.
+        Unifier unifier = new Unifier();
         BType resolvedSourceType = unifier.build(source);
 
         if (target.tag != TypeTags.PARAMETERIZED_TYPE) {
@@ -18,15 +18,23 @@
 
 package org.ballerinalang.langlib.array;
 
+import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.DecimalValueKind;
 import io.ballerina.runtime.internal.ValueComparisonUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.values.DecimalValue;
+
+import java.util.Arrays;
+import java.util.Comparator;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INVALID_TYPE_TO_SORT;
@@ -35,81 +43,364 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyO
 
 /**
  * Native implementation of lang.array:sort((any|error)[], direction, function).
+ * <p>
+ * Arrays of int, float, string, byte, boolean and decimal values that are sorted without a key function are sorted
+ * directly on a copy of their values, using a parallel sort for large arrays. Otherwise the keys are computed once
+ * and an array of indices is sorted by the keys, comparing them without boxing if they are all int, float or string
+ * values.
  *
  * @since 1.0
  */
 public class Sort {
 
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+    private static final Comparator<BString> STRING_ORDER = (x, y) -> compareStrings(x.getValue(), y.getValue());
+
     public static BArray sort(BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
         BFunctionPointer<Object, Object> function = (BFunctionPointer<Object, Object>) func;
+        boolean ascending = ASCENDING.equals(direction.toString());
+        Type elementType = arr.getElementType();
 
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
+        if (function == null) {
+            switch (elementType.getTag()) {
+                case TypeTags.INT_TAG:
+                case TypeTags.SIGNED32_INT_TAG:
+                case TypeTags.SIGNED16_INT_TAG:
+                case TypeTags.SIGNED8_INT_TAG:
+                case TypeTags.UNSIGNED32_INT_TAG:
+                case TypeTags.UNSIGNED16_INT_TAG:
+                case TypeTags.UNSIGNED8_INT_TAG:
+                    return createIntArray(elementType, sortInts(arr.getIntArray(), ascending));
+                case TypeTags.FLOAT_TAG:
+                    return ValueCreator.createArrayValue(sortFloats(arr.getFloatArray(), ascending));
+                case TypeTags.STRING_TAG:
+                case TypeTags.CHAR_STRING_TAG:
+                    return createStringArray(elementType, sortStrings(arr, ascending));
+                case TypeTags.BYTE_TAG:
+                    return ValueCreator.createArrayValue(sortBytes(arr.getByteArray(), ascending));
+                case TypeTags.BOOLEAN_TAG:
+                    return ValueCreator.createArrayValue(sortBooleans(arr.getBooleanArray(), ascending));
+                case TypeTags.DECIMAL_TAG:
+                    return createArray(elementType, sortDecimals(arr, ascending));
+                default:
+                    break;
+            }
+        }
 
+        int size = arr.size();
+        Object[] keys = new Object[size];
         if (function != null) {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
-                sortArr[i][1] = arr.get(i);
+            for (int i = 0; i < size; i++) {
+                keys[i] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
             }
         } else {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
+            for (int i = 0; i < size; i++) {
+                keys[i] = arr.get(i);
             }
         }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, direction.toString());
+        int[] order = sortByKeys(keys, ascending);
+        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(elementType));
+        for (int k = 0; k < size; k++) {
+            sortedArray.add(k, arr.get(order[k]));
+        }
+        return sortedArray;
+    }
 
-        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(arr.getElementType()));
+    private static long[] sortInts(long[] values, boolean ascending) {
+        if (values.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values);
+        } else {
+            Arrays.sort(values);
+        }
+        if (!ascending) {
+            for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+                long temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
+        }
+        return values;
+    }
 
-        for (int k = 0; k < sortArr.length; k++) {
-            sortedArray.add(k, sortArr[k][1]);
+    private static double[] sortFloats(double[] values, boolean ascending) {
+        double[] sorted = values.clone();
+        if (sorted.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(sorted);
+        } else {
+            Arrays.sort(sorted);
+        }
+        // NaN is placed last in both directions.
+        int end = sorted.length;
+        while (end > 0 && Double.isNaN(sorted[end - 1])) {
+            end--;
+        }
+        if (!ascending) {
+            for (int i = 0, j = end - 1; i < j; i++, j--) {
+                double temp = sorted[i];
+                sorted[i] = sorted[j];
+                sorted[j] = temp;
+            }
+        }
+        // Arrays.sort places -0.0 before 0.0, but they are equal when sorting, so they keep their original order.
+        int zeroIndex = 0;
+        while (zeroIndex < end && sorted[zeroIndex] != 0) {
+            zeroIndex++;
         }
+        if (zeroIndex < end) {
+            for (double value : values) {
+                if (value == 0) {
+                    sorted[zeroIndex++] = value;
+                }
+            }
+        }
+        return sorted;
+    }
 
-        return sortedArray;
+    private static BString[] sortStrings(BArray arr, boolean ascending) {
+        BString[] values = new BString[arr.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = arr.getBString(i);
+        }
+        Comparator<BString> comparator = ascending ? STRING_ORDER : STRING_ORDER.reversed();
+        if (values.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(values, comparator);
+        } else {
+            Arrays.sort(values, comparator);
+        }
+        return values;
+    }
+
+    private static byte[] sortBytes(byte[] values, boolean ascending) {
+        int[] counts = new int[256];
+        for (byte value : values) {
+            counts[Byte.toUnsignedInt(value)]++;
+        }
+        int index = 0;
+        for (int i = 0; i < counts.length; i++) {
+            int value = ascending ? i : counts.length - 1 - i;
+            Arrays.fill(values, index, index + counts[value], (byte) value);
+            index += counts[value];
+        }
+        return values;
+    }
+
+    private static boolean[] sortBooleans(boolean[] values, boolean ascending) {
+        int falseCount = 0;
+        for (boolean value : values) {
+            if (!value) {
+                falseCount++;
+            }
+        }
+        if (ascending) {
+            Arrays.fill(values, 0, falseCount, false);
+            Arrays.fill(values, falseCount, values.length, true);
+        } else {
+            Arrays.fill(values, 0, values.length - falseCount, true);
+            Arrays.fill(values, values.length - falseCount, values.length, false);
+        }
+        return values;
+    }
+
+    private static Object[] sortDecimals(BArray arr, boolean ascending) {
+        Object[] values = new Object[arr.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = arr.get(i);
+        }
+        // Decimal values that are numerically equal can differ in precision, so this relies on the sort being stable.
+        Comparator<Object> comparator = ascending ? (x, y) -> compareDecimals(x, y, ASCENDING)
+                : (x, y) -> compareDecimals(y, x, DESCENDING);
+        try {
+            if (values.length >= PARALLEL_SORT_THRESHOLD) {
+                Arrays.parallelSort(values, comparator);
+            } else {
+                Arrays.sort(values, comparator);
+            }
+        } catch (BError error) {
+            throw createSortError(error);
+        }
+        return values;
+    }
+
+    private static int[] sortByKeys(Object[] keys, boolean ascending) {
+        IndexComparator comparator = getKeyComparator(keys, ascending);
+        int[] order = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        try {
+            mergesort(order, new int[order.length], 0, order.length - 1, comparator);
+        } catch (BError error) {
+            throw createSortError(error);
+        }
+        return order;
+    }
+
+    private static IndexComparator getKeyComparator(Object[] keys, boolean ascending) {
+        if (keys.length == 0) {
+            return (i, j) -> 0;
+        }
+        if (keys[0] instanceof Long) {
+            long[] intKeys = new long[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                if (!(keys[i] instanceof Long)) {
+                    return getValueComparator(keys, ascending);
+                }
+                intKeys[i] = (Long) keys[i];
+            }
+            return ascending ? (i, j) -> Long.compare(intKeys[i], intKeys[j])
+                    : (i, j) -> Long.compare(intKeys[j], intKeys[i]);
+        }
+        if (keys[0] instanceof Double) {
+            double[] floatKeys = new double[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                if (!(keys[i] instanceof Double)) {
+                    return getValueComparator(keys, ascending);
+                }
+                floatKeys[i] = (Double) keys[i];
+            }
+            return (i, j) -> compareFloats(floatKeys[i], floatKeys[j], ascending);
+        }
+        if (keys[0] instanceof BString) {
+            String[] stringKeys = new String[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                if (!(keys[i] instanceof BString)) {
+                    return getValueComparator(keys, ascending);
+                }
+                stringKeys[i] = ((BString) keys[i]).getValue();
+            }
+            return ascending ? (i, j) -> compareStrings(stringKeys[i], stringKeys[j])
+                    : (i, j) -> compareStrings(stringKeys[j], stringKeys[i]);
+        }
+        return getValueComparator(keys, ascending);
+    }
+
+    private static IndexComparator getValueComparator(Object[] keys, boolean ascending) {
+        return ascending ? (i, j) -> ValueComparisonUtils.compareValues(keys[i], keys[j], ASCENDING)
+                : (i, j) -> ValueComparisonUtils.compareValues(keys[j], keys[i], DESCENDING);
     }
 
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, String direction) {
+    private static void mergesort(int[] input, int[] aux, int lo, int hi, IndexComparator comparator) {
         if (hi <= lo) {
             return;
         }
 
         int mid = lo + (hi - lo) / 2;
 
-        mergesort(input, aux, lo, mid, direction);
-        mergesort(input, aux, mid + 1, hi, direction);
+        mergesort(input, aux, lo, mid, comparator);
+        mergesort(input, aux, mid + 1, hi, comparator);
 
-        merge(input, aux, lo, mid, hi, direction);
+        merge(input, aux, lo, mid, hi, comparator);
     }
 
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, String direction) {
-        if (hi + 1 - lo >= 0) {
-            System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
+    private static void merge(int[] input, int[] aux, int lo, int mid, int hi, IndexComparator comparator) {
+        if (comparator.compare(input[mid], input[mid + 1]) <= 0) {
+            // already in order
+            return;
         }
+        System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
 
         for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
-            int index;
-            try {
-                if (i > mid) {
-                    index = j++;
-                } else if (j > hi) {
-                    index = i++;
-                } else if (direction.equals("ascending") && ValueComparisonUtils.compareValues(aux[j][0],
-                        aux[i][0], direction) < 0) {
-                    index = j++;
-                } else if (direction.equals("descending") && ValueComparisonUtils.compareValues(aux[i][0],
-                        aux[j][0], direction) < 0) {
-                    index = j++;
-                } else {
-                    index = i++;
-                }
-                input[k] = aux[index];
+            if (i > mid) {
+                input[k] = aux[j++];
+            } else if (j > hi) {
+                input[k] = aux[i++];
+            } else if (comparator.compare(aux[j], aux[i]) < 0) {
+                input[k] = aux[j++];
+            } else {
+                input[k] = aux[i++];
+            }
+        }
+    }
+
+    private static int compareFloats(double x, double y, boolean ascending) {
+        if (Double.isNaN(x) || Double.isNaN(y)) {
+            // NaN is placed last in both directions
+            return Boolean.compare(Double.isNaN(x), Double.isNaN(y));
+        }
+        // -0.0 and +0.0 are equal
+        if (x == y) {
+            return 0;
+        }
+        return ascending ? Double.compare(x, y) : Double.compare(y, x);
+    }
+
+    private static int compareDecimals(Object x, Object y, String direction) {
+        DecimalValue lhs = (DecimalValue) x;
+        DecimalValue rhs = (DecimalValue) y;
+        if (isRealNumber(lhs) && isRealNumber(rhs)) {
+            return lhs.decimalValue().compareTo(rhs.decimalValue());
+        }
+        return ValueComparisonUtils.compareValues(x, y, direction);
+    }
+
+    private static boolean isRealNumber(DecimalValue value) {
+        return value.valueKind == DecimalValueKind.OTHER || value.valueKind == DecimalValueKind.ZERO;
+    }
 
-            } catch (BError error) {
-                throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
-                        (BMap) error.getDetails());
+    /**
+     * Compares two strings by their code points, without decoding them. UTF-16 code units order the same as code
+     * points, except that surrogates have to be ordered after the code units above them.
+     */
+    private static int compareStrings(String x, String y) {
+        int length = Math.min(x.length(), y.length());
+        for (int i = 0; i < length; i++) {
+            char c1 = x.charAt(i);
+            char c2 = y.charAt(i);
+            if (c1 != c2) {
+                return Integer.compare(codePointOrder(c1), codePointOrder(c2));
             }
         }
+        return Integer.compare(x.length(), y.length());
+    }
+
+    private static int codePointOrder(char c) {
+        if (c >= Character.MIN_SURROGATE) {
+            return c > Character.MAX_SURROGATE ? c - 0x800 : c + 0x2000;
+        }
+        return c;
+    }
+
+    private static BArray createIntArray(Type elementType, long[] values) {
+        if (elementType.getTag() == TypeTags.INT_TAG) {
+            return ValueCreator.createArrayValue(values);
+        }
+        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(elementType));
+        for (int k = 0; k < values.length; k++) {
+            sortedArray.add(k, values[k]);
+        }
+        return sortedArray;
+    }
+
+    private static BArray createStringArray(Type elementType, BString[] values) {
+        if (elementType.getTag() == TypeTags.STRING_TAG) {
+            return ValueCreator.createArrayValue(values);
+        }
+        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(elementType));
+        for (int k = 0; k < values.length; k++) {
+            sortedArray.add(k, values[k]);
+        }
+        return sortedArray;
+    }
+
+    private static BArray createArray(Type elementType, Object[] values) {
+        return ValueCreator.createArrayValue(values, TypeCreator.createArrayType(elementType));
+    }
+
+    private static BError createSortError(BError error) {
+        return ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
+                (BMap) error.getDetails());
+    }
+
+    /**
+     * Compares two elements of the array being sorted, given their indices.
+     */
+    private interface IndexComparator {
+
+        int compare(int i, int j);
     }
 }
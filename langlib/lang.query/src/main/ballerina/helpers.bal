@@ -52,11 +52,32 @@ function createOuterJoinFunction(
     return new _OuterJoinFunction(joinedPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame);
 }
 
+function createIndexedInnerJoinFunction(
+        _StreamPipeline joinedPipeline,
+        function (_Frame _frame) returns any lhsKeyFunction,
+        function (_Frame _frame) returns any rhsKeyFunction, string rhsIndexedField) returns _StreamFunction {
+    return new _InnerJoinFunction(joinedPipeline, lhsKeyFunction, rhsKeyFunction, rhsIndexedField);
+}
+
+function createIndexedOuterJoinFunction(
+        _StreamPipeline joinedPipeline,
+        function (_Frame _frame) returns any lhsKeyFunction,
+        function (_Frame _frame) returns any rhsKeyFunction, _Frame nilFrame,
+        string rhsIndexedField) returns _StreamFunction {
+    return new _OuterJoinFunction(joinedPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame, rhsIndexedField);
+}
+
 function createFilterFunction(function(_Frame _frame) returns boolean filterFunc)
         returns _StreamFunction {
     return new _FilterFunction(filterFunc);
 }
 
+function createIndexedFilterFunction(_StreamPipeline pipeline, string fieldName, string operator, any value,
+        function(_Frame _frame) returns boolean filterFunc) returns _StreamFunction {
+    pipeline.restrictByIndex(fieldName, operator, value);
+    return new _FilterFunction(filterFunc);
+}
+
 function createOrderByFunction(function(_Frame _frame) orderFunc)
         returns _StreamFunction {
     return new _OrderByFunction(orderFunc);
@@ -79,6 +100,10 @@ function addStreamFunction(@tainted _StreamPipeline pipeline, @tainted _StreamFu
     pipeline.addStreamFunction(streamFunction);
 }
 
+function enableParallelExecution(_StreamPipeline pipeline) {
+    pipeline.enableParallelExecution();
+}
+
 function getStreamFromPipeline(_StreamPipeline pipeline) returns stream<Type, CompletionType> {
     return pipeline.getStream();
 }
@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/jballerina.java;
 import ballerina/lang.__internal as internal;
 import ballerina/lang.'array as lang_array;
 import ballerina/lang.'map as lang_map;
@@ -69,6 +70,16 @@ type _StreamFunction object {
     public function reset();
 };
 
+# A stream function that keeps no state between frames, and can therefore be applied to a frame without pulling
+# it from the previous stream function itself.
+type _FrameFunction object {
+    *_StreamFunction;
+
+    # Applies the clause to the given frame.
+    # + return - the resulting frame, `false` if the frame is filtered out, or the error or nil that ends the stream
+    public function apply(_Frame _frame) returns _Frame|boolean|error?;
+};
+
 type _Frame record {|
     (any|error|())...;
 |};
@@ -101,6 +112,20 @@ class _StreamPipeline {
 
     function addStreamFunction(_StreamFunction streamFunction) {
         _StreamFunction existingFunc = self.streamFunction;
+        if (streamFunction is _FrameFunction) {
+            if (existingFunc is _FusedFunction) {
+                existingFunc.add(streamFunction);
+            } else {
+                _FusedFunction fusedFunc = new (streamFunction);
+                fusedFunc.prevFunc = existingFunc;
+                self.streamFunction = fusedFunc;
+            }
+            return;
+        }
+        if (streamFunction is _LimitFunction && existingFunc is _OrderByFunction) {
+            // only the frames within the limit need to be ordered
+            existingFunc.limitFunc = streamFunction.limitFunc;
+        }
         streamFunction.prevFunc = existingFunc;
         self.streamFunction = streamFunction;
     }
@@ -110,6 +135,62 @@ class _StreamPipeline {
         var strm = internal:construct(self.constraintTd, self.completionTd, itrObj);
         return strm;
     }
+
+    # Applies the frame functions that follow the initial from clause to chunks of its rows in parallel, if parallel
+    # query execution is enabled and the rows are enough to be split into chunks.
+    function enableParallelExecution() {
+        _StreamFunction sf = self.streamFunction;
+        if (sf is _FusedFunction) {
+            _StreamFunction? pf = sf.prevFunc;
+            if (pf is _InitFunction) {
+                var collection = pf.collection;
+                int rowCount;
+                if (collection is Type[]) {
+                    rowCount = collection.length();
+                } else if (collection is table<map<Type>>) {
+                    rowCount = collection.length();
+                } else {
+                    return;
+                }
+                int chunkSize = getParallelChunkSize(rowCount);
+                if (chunkSize > 0) {
+                    _ParallelFunction parallelFunc = new (sf, chunkSize);
+                    parallelFunc.prevFunc = pf;
+                    self.streamFunction = parallelFunc;
+                }
+            }
+        }
+    }
+
+    # Restricts the rows iterated by the initial from clause to the ones looked up from an index of the table
+    # being iterated, if it is a table that can index the given field.
+    function restrictByIndex(string fieldName, string operator, any value) {
+        _StreamFunction? sf = self.streamFunction;
+        while (sf is _StreamFunction) {
+            if (sf is _InitFunction) {
+                sf.restrictByIndex(fieldName, operator, value);
+                return;
+            }
+            sf = sf.prevFunc;
+        }
+    }
+
+    # Returns the table to look up the rows to join from, if this pipeline iterates a table that can index the
+    # given field.
+    function getIndexedJoinTable(string fieldName) returns _IndexedJoinTable? {
+        _StreamFunction sf = self.streamFunction;
+        if (sf is _FusedFunction && sf.frameFunctions.length() == 1) {
+            _FrameFunction inputFunc = sf.frameFunctions[0];
+            _StreamFunction? pf = sf.prevFunc;
+            if (inputFunc is _InputFunction && pf is _InitFunction) {
+                var collection = pf.collection;
+                if (collection is table<map<Type>> && hasTableIndex(collection, fieldName)) {
+                    return new _IndexedJoinTable(collection, fieldName, inputFunc.inputFunc);
+                }
+            }
+        }
+        return ();
+    }
 }
 
 class _InitFunction {
@@ -144,6 +225,17 @@ class _InitFunction {
         }
     }
 
+    function restrictByIndex(string fieldName, string operator, any value) {
+        var collection = self.collection;
+        if (collection is table<map<Type>>) {
+            (any|error)[]? rows = lookupTableIndex(collection, fieldName, operator, value);
+            if (rows is Type[]) {
+                self.collection = rows;
+                self.itr = self._getIterator(rows);
+            }
+        }
+    }
+
     function _getIterator(
             Type[]|map<Type>|record {}|string|xml|table<map<Type>>|stream<Type, CompletionType>|_Iterable collection)
                 returns _Iterator {
@@ -170,7 +262,7 @@ class _InitFunction {
 }
 
 class _InputFunction {
-    *_StreamFunction;
+    *_FrameFunction;
 
     # Desugared function to do;
     # from var { firstName: nm1, lastName: nm2 } in personList
@@ -195,6 +287,11 @@ class _InputFunction {
         return pFrame;
     }
 
+    public function apply(_Frame _frame) returns _Frame|boolean|error? {
+        function (_Frame _frame) returns _Frame|error? f = self.inputFunc;
+        return f(_frame);
+    }
+
     public function reset() {
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
@@ -224,36 +321,37 @@ class _NestedFromFunction {
     public function process() returns _Frame|error? {
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
         function (_Frame frame) returns any|error? collectionFunc = self.collectionFunc;
-        _Frame|error? cf = self.currentFrame;
-        _Iterator? itr = self.itr;
-        if (cf is ()) {
-            cf = pf.process();
-            self.currentFrame = cf;
-            if (cf is _Frame) {
-                any|error? collection = collectionFunc(cf);
-                if (collection is any) {
-                    itr = self._getIterator(collection);
-                    self.itr = itr;
+        while true {
+            _Frame|error? cf = self.currentFrame;
+            _Iterator? itr = self.itr;
+            if (cf is ()) {
+                cf = pf.process();
+                self.currentFrame = cf;
+                if (cf is _Frame) {
+                    any|error? collection = collectionFunc(cf);
+                    if (collection is any) {
+                        itr = self._getIterator(collection);
+                        self.itr = itr;
+                    }
                 }
             }
-        }
-        if (cf is _Frame && itr is _Iterator) {
-            record {|(any|error) value;|}|error? v = itr.next();
-            if (v is record {|(any|error) value;|}) {
-                _Frame _frame = {...cf};
-                foreach var [k, val] in v.entries() {
-                    _frame[k] = val;
+            if (cf is _Frame && itr is _Iterator) {
+                record {|(any|error) value;|}|error? v = itr.next();
+                if (v is record {|(any|error) value;|}) {
+                    _Frame _frame = {...cf};
+                    foreach var [k, val] in v.entries() {
+                        _frame[k] = val;
+                    }
+                    return _frame;
+                } else if (v is error) {
+                    return v;
                 }
-                return _frame;
-            } else if (v is error) {
-                return v;
-            } else {
                 // Move to next frame
                 self.currentFrame = ();
-                return self.process();
+                continue;
             }
+            return cf;
         }
-        return cf;
     }
 
     public function reset() {
@@ -289,7 +387,7 @@ class _NestedFromFunction {
 }
 
 class _LetFunction {
-    *_StreamFunction;
+    *_FrameFunction;
 
     # Desugared function to do;
     # let Company companyRecord = { name: "WSO2" }
@@ -312,6 +410,11 @@ class _LetFunction {
         return pFrame;
     }
 
+    public function apply(_Frame _frame) returns _Frame|boolean|error? {
+        function (_Frame _frame) returns _Frame|error? f = self.letFunc;
+        return f(_frame);
+    }
+
     public function reset() {
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
@@ -325,22 +428,27 @@ class _InnerJoinFunction {
     function (_Frame _frame) returns any lhsKeyFunction;
     function (_Frame _frame) returns any rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
+    _IndexedJoinTable? rhsTable;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex = 0;
     _Frame|error? lhsFrame;
 
     function init(
             _StreamPipeline pipelineToJoin,
             function (_Frame _frame) returns any lhsKeyFunction,
-            function (_Frame _frame) returns any rhsKeyFunction) {
+            function (_Frame _frame) returns any rhsKeyFunction, string? rhsIndexedField = ()) {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
         self.rhsCandidates = ();
         self.prevFunc = ();
         self.lhsFrame = ();
-        _Frame|error? f = pipelineToJoin.next();
-        while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
-            f = pipelineToJoin.next();
+        self.rhsTable = rhsIndexedField is string ? pipelineToJoin.getIndexedJoinTable(rhsIndexedField) : ();
+        if (self.rhsTable is ()) {
+            _Frame|error? f = pipelineToJoin.next();
+            while (f is _Frame) {
+                self.rhsFramesMap.put(rhsKeyFunction(f), f);
+                f = pipelineToJoin.next();
+            }
         }
     }
 
@@ -351,49 +459,58 @@ class _InnerJoinFunction {
     public function process() returns _Frame|error? {
         function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
-        _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-        _Frame[]? rhsCandidates = self.rhsCandidates;
-        _Frame|error? lhsFrame = self.lhsFrame;
-        string lhsKey = "";
+        while true {
+            _Frame[]? rhsCandidates = self.rhsCandidates;
+            _Frame|error? lhsFrame = self.lhsFrame;
 
-        if (lhsFrame is ()) {
-            lhsFrame = pf.process();
-            self.lhsFrame = lhsFrame;
-        }
-
-        if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
-            if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
-                self.rhsCandidates = rhsCandidates;
+            if (lhsFrame is ()) {
+                lhsFrame = pf.process();
+                self.lhsFrame = lhsFrame;
             }
-            if (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                self.rhsCandidates = rhsCandidates;
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in rhsFrame.entries() {
-                    joinedFrame[k] = val;
+
+            if (lhsFrame is _Frame) {
+                if (rhsCandidates is ()) {
+                    rhsCandidates = self.getRhsCandidates(lhsKF(lhsFrame));
+                    self.rhsCandidates = rhsCandidates;
+                    self.rhsCandidateIndex = 0;
+                }
+                int index = self.rhsCandidateIndex;
+                if (rhsCandidates is _Frame[] && index < rhsCandidates.length()) {
+                    _Frame rhsFrame = rhsCandidates[index];
+                    self.rhsCandidateIndex = index + 1;
+                    _Frame joinedFrame = {...lhsFrame};
+                    foreach var [k, val] in rhsFrame.entries() {
+                        joinedFrame[k] = val;
+                    }
+                    return joinedFrame;
                 }
-                return joinedFrame;
-            } else {
                 // Move to next lhs frame
                 self.lhsFrame = ();
                 self.rhsCandidates = ();
-                return self.process();
+                continue;
             }
+            return lhsFrame;
         }
-        return lhsFrame;
     }
 
     public function reset() {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
         }
     }
+
+    function getRhsCandidates(any lhsKey) returns _Frame[]? {
+        _IndexedJoinTable? rhsTable = self.rhsTable;
+        if (rhsTable is _IndexedJoinTable) {
+            return rhsTable.get(lhsKey);
+        }
+        return self.rhsFramesMap.get(lhsKey);
+    }
 }
 
 class _OuterJoinFunction {
@@ -401,24 +518,29 @@ class _OuterJoinFunction {
     function (_Frame _frame) returns any lhsKeyFunction;
     function (_Frame _frame) returns any rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
+    _IndexedJoinTable? rhsTable;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex = 0;
     _Frame|error? lhsFrame;
     _Frame nilFrame;
 
     function init(
             _StreamPipeline pipelineToJoin,
             function (_Frame _frame) returns any lhsKeyFunction,
-            function (_Frame _frame) returns any rhsKeyFunction, _Frame nilFrame) {
+            function (_Frame _frame) returns any rhsKeyFunction, _Frame nilFrame, string? rhsIndexedField = ()) {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
         self.rhsCandidates = ();
         self.prevFunc = ();
         self.lhsFrame = ();
         self.nilFrame = nilFrame;
-        _Frame|error? f = pipelineToJoin.next();
-        while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
-            f = pipelineToJoin.next();
+        self.rhsTable = rhsIndexedField is string ? pipelineToJoin.getIndexedJoinTable(rhsIndexedField) : ();
+        if (self.rhsTable is ()) {
+            _Frame|error? f = pipelineToJoin.next();
+            while (f is _Frame) {
+                self.rhsFramesMap.put(rhsKeyFunction(f), f);
+                f = pipelineToJoin.next();
+            }
         }
     }
 
@@ -429,11 +551,9 @@ class _OuterJoinFunction {
     public function process() returns _Frame|error? {
         function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
-        _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
         _Frame[]? rhsCandidates = self.rhsCandidates;
         _Frame|error? lhsFrame = self.lhsFrame;
         _Frame nilFrame = self.nilFrame;
-        string lhsKey = "";
 
         if (lhsFrame is ()) {
             lhsFrame = pf.process();
@@ -441,16 +561,17 @@ class _OuterJoinFunction {
         }
 
         if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                rhsCandidates = self.getRhsCandidates(lhsKF(lhsFrame));
                 self.rhsCandidates = rhsCandidates;
+                self.rhsCandidateIndex = 0;
             }
 
             if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
+                int index = self.rhsCandidateIndex;
+                _Frame rhsFrame = rhsCandidates[index];
+                if (index + 1 < rhsCandidates.length()) {
+                    self.rhsCandidateIndex = index + 1;
                 } else {
                     // Move to next lhs frame in next iteration.
                     self.rhsCandidates = ();
@@ -478,15 +599,24 @@ class _OuterJoinFunction {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
         }
     }
+
+    function getRhsCandidates(any lhsKey) returns _Frame[]? {
+        _IndexedJoinTable? rhsTable = self.rhsTable;
+        if (rhsTable is _IndexedJoinTable) {
+            return rhsTable.get(lhsKey);
+        }
+        return self.rhsFramesMap.get(lhsKey);
+    }
 }
 
 class _FilterFunction {
-    *_StreamFunction;
+    *_FrameFunction;
 
     # Desugared function to do;
     # where person.age >= 70
@@ -508,6 +638,11 @@ class _FilterFunction {
         return pFrame;
     }
 
+    public function apply(_Frame _frame) returns _Frame|boolean|error? {
+        function (_Frame _frame) returns boolean filterFunc = self.filterFunc;
+        return filterFunc(_frame) ? _frame : false;
+    }
+
     public function reset() {
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
@@ -522,10 +657,13 @@ class _OrderByFunction {
     # Desugared function to do;
     # order by person.fname true, person.age false
     function (_Frame _frame) orderKeyFunc;
+    # The limit of the limit clause that directly follows the order by clause, if any
+    (function (_Frame _frame) returns int)? limitFunc;
     stream<_Frame>? orderedStream;
 
     function init(function (_Frame _frame) orderKeyFunc) {
         self.orderKeyFunc = orderKeyFunc;
+        self.limitFunc = ();
         self.orderedStream = ();
         self.prevFunc = ();
     }
@@ -535,18 +673,24 @@ class _OrderByFunction {
             _StreamFunction pf = <_StreamFunction>self.prevFunc;
             function (_Frame _frame) orderKeyFunc = self.orderKeyFunc;
             _Frame|error? f = pf.process();
-            boolean[] directions = [];
-            _OrderTreeNode oTree = new;
+            handle sorter = createFrameSorter();
+            var limitFunc = self.limitFunc;
+            if (f is _Frame && limitFunc !is ()) {
+                setFrameSorterLimit(sorter, limitFunc(f));
+            }
             // consume all events for ordering.
             while (f is _Frame) {
                 orderKeyFunc(f);
-                oTree.add(f, <any[]>(checkpanic f["$orderDirection$"]), <any[]>(checkpanic f["$orderKey$"]));
+                addToFrameSorter(sorter, f, <any[]>(checkpanic f["$orderDirection$"]),
+                        <any[]>(checkpanic f["$orderKey$"]));
                 f = pf.process();
             }
             if (f is error) {
                 return f;
             }
-            self.orderedStream = oTree.get().toStream();
+            _Frame[] orderedFrames = [];
+            fillSortedFrames(sorter, orderedFrames);
+            self.orderedStream = orderedFrames.toStream();
         }
 
         stream<_Frame> s = <stream<_Frame>>self.orderedStream;
@@ -567,7 +711,7 @@ class _OrderByFunction {
 }
 
 class _SelectFunction {
-    *_StreamFunction;
+    *_FrameFunction;
 
     # Desugared function to do;
     # select {
@@ -593,6 +737,11 @@ class _SelectFunction {
         return pFrame;
     }
 
+    public function apply(_Frame _frame) returns _Frame|boolean|error? {
+        function (_Frame _frame) returns _Frame|error? f = self.selectFunc;
+        return f(_frame);
+    }
+
     public function reset() {
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
@@ -602,7 +751,7 @@ class _SelectFunction {
 }
 
 class _DoFunction {
-    *_StreamFunction;
+    *_FrameFunction;
 
     # Desugared function to do;
     # do {
@@ -632,6 +781,91 @@ class _DoFunction {
         return pFrame;
     }
 
+    public function apply(_Frame _frame) returns _Frame|boolean|error? {
+        function (_Frame _frame) returns any|error f = self.doFunc;
+        any|error cFrame = f(_frame);
+        if (cFrame is error) {
+            return cFrame;
+        }
+        if cFrame !is () {
+            return {"$value$": cFrame};
+        }
+        return _frame;
+    }
+
+    public function reset() {
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
+        }
+    }
+}
+
+# Applies a run of consecutive frame functions to the frames pulled from the previous stream function. A frame goes
+# through the whole run in a single `process()` call, instead of each clause pulling it from the clause before.
+class _FusedFunction {
+    *_StreamFunction;
+    _FrameFunction[] frameFunctions;
+
+    function init(_FrameFunction frameFunction) {
+        self.frameFunctions = [frameFunction];
+        self.prevFunc = ();
+    }
+
+    function add(_FrameFunction frameFunction) {
+        self.frameFunctions.push(frameFunction);
+    }
+
+    public function process() returns _Frame|error? {
+        _StreamFunction pf = <_StreamFunction>self.prevFunc;
+        while true {
+            _Frame|error? pFrame = pf.process();
+            if (pFrame !is _Frame) {
+                return pFrame;
+            }
+            _Frame|boolean|error? result = self.applyAll(pFrame);
+            // A filtered out frame moves to the next frame.
+            if (result !is boolean) {
+                return result;
+            }
+        }
+    }
+
+    # Applies the frame functions to the frames of the rows from `startIndex` up to `endIndex`. This is called on a
+    # separate strand for each chunk of the rows processed by a `_ParallelFunction`.
+    function applyToRows((any|error)[] rows, int startIndex, int endIndex) returns _ChunkResult {
+        _Frame[] frames = [];
+        int i = startIndex;
+        while (i < endIndex) {
+            _Frame|boolean|error? result = self.applyAll({"value": rows[i]});
+            if (result is _Frame) {
+                frames.push(result);
+            } else if (result !is boolean) {
+                return {frames, ended: true, err: result};
+            }
+            i += 1;
+        }
+        return {frames, ended: false, err: ()};
+    }
+
+    # Applies the frame functions to the given frame.
+    # + return - the resulting frame, `false` if the frame is filtered out, or the error or nil that ends the stream
+    function applyAll(_Frame frame) returns _Frame|boolean|error? {
+        _FrameFunction[] frameFunctions = self.frameFunctions;
+        int count = frameFunctions.length();
+        _Frame current = frame;
+        int i = 0;
+        while (i < count) {
+            _Frame|boolean|error? result = frameFunctions[i].apply(current);
+            if (result !is _Frame) {
+                return result;
+            }
+            current = result;
+            i += 1;
+        }
+        return current;
+    }
+
     public function reset() {
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
@@ -640,6 +874,74 @@ class _DoFunction {
     }
 }
 
+# Applies the frame functions of a fused function to the rows of the initial from clause in parallel, when the query
+# iterates a list or a table. The rows are split into chunks that are processed on separate strands, and the resulting
+# frames are emitted in the order of the rows. The compiler only enables this for the queries whose clauses can't
+# affect each other's evaluation across rows.
+class _ParallelFunction {
+    *_StreamFunction;
+    _FusedFunction fusedFunc;
+    int chunkSize;
+    _Frame[]? frames;
+    int index = 0;
+    error? err;
+
+    function init(_FusedFunction fusedFunc, int chunkSize) {
+        self.fusedFunc = fusedFunc;
+        self.chunkSize = chunkSize;
+        self.frames = ();
+        self.err = ();
+        self.prevFunc = ();
+    }
+
+    public function process() returns _Frame|error? {
+        if (self.frames is ()) {
+            self.frames = self.processChunks();
+        }
+        _Frame[] frames = <_Frame[]>self.frames;
+        int index = self.index;
+        if (index < frames.length()) {
+            self.index = index + 1;
+            return frames[index];
+        }
+        return self.err;
+    }
+
+    public function reset() {
+        self.frames = ();
+        self.index = 0;
+        self.err = ();
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
+        }
+    }
+
+    function processChunks() returns _Frame[] {
+        _InitFunction initFunc = <_InitFunction>self.prevFunc;
+        var collection = initFunc.collection;
+        (any|error)[] rows = collection is table<map<Type>> ? lang_table:toArray(collection)
+            : <(any|error)[]>collection;
+        (any|error)[] results = [];
+        processChunksInParallel(self.fusedFunc, rows, self.chunkSize, results);
+        _Frame[] frames = [];
+        foreach var result in results {
+            if (result is error) {
+                // the chunk panicked
+                panic result;
+            }
+            _ChunkResult chunk = <_ChunkResult>result;
+            frames.push(...chunk.frames);
+            if (chunk.ended) {
+                // the stream ends within this chunk, so the frames of the later chunks are not emitted
+                self.err = chunk.err;
+                break;
+            }
+        }
+        return frames;
+    }
+}
+
 class _LimitFunction {
     *_StreamFunction;
 
@@ -681,38 +983,70 @@ class _LimitFunction {
 
 // ---- helper types ----
 
+# Maps join keys to the frames that have the key. Keys are matched using value equality, instead of comparing their
+# string representations. The frames returned by `get` are shared, and must not be modified.
 class _FrameMultiMap {
-    map<_Frame[]> m;
+    handle m;
 
     function init() {
-        self.m = {};
+        self.m = createJoinKeyMap();
     }
 
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
+    function put(any k, _Frame v) {
+        _Frame[]? vals = getJoinFrames(self.m, k);
         if (vals is _Frame[]) {
             vals.push(v);
         } else {
-            self.m[k] = [v];
+            putJoinFrames(self.m, k, [v]);
         }
     }
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
+    function get(any k) returns _Frame[]? {
+        return getJoinFrames(self.m, k);
+    }
+}
+
+# Looks up the frames to join from an index of the joined table, instead of collecting all the frames of the
+# joined pipeline up front.
+class _IndexedJoinTable {
+    table<map<Type>> tbl;
+    string fieldName;
+    function (_Frame _frame) returns _Frame|error? inputFunc;
+
+    function init(table<map<Type>> tbl, string fieldName, function (_Frame _frame) returns _Frame|error? inputFunc) {
+        self.tbl = tbl;
+        self.fieldName = fieldName;
+        self.inputFunc = inputFunc;
+    }
+
+    function get(any key) returns _Frame[]? {
+        (any|error)[]? rows = lookupTableIndex(self.tbl, self.fieldName, "==", key);
+        if (rows is ()) {
+            return ();
+        }
+        function (_Frame _frame) returns _Frame|error? f = self.inputFunc;
+        _Frame[] frames = [];
+        foreach var row in rows {
+            _Frame|error? frame = f({"value": row});
+            if (frame is _Frame) {
+                frames.push(frame);
             }
+        }
+        if (frames.length() > 0) {
             return frames;
         }
     }
-
 }
 
+# The frames resulting from a chunk of the rows processed by a `_ParallelFunction`.
+type _ChunkResult record {|
+    _Frame[] frames;
+    # whether a frame function ended the stream within the chunk
+    boolean ended;
+    # the error that ended the stream, if any
+    error? err;
+|};
+
 class IterHelper {
     public _StreamPipeline pipeline;
     public typedesc<Type> outputType;
@@ -734,106 +1068,59 @@ class IterHelper {
     }
 }
 
-class _OrderTreeNode {
-    any? key = ();
-    _Frame[]? frames = ();
-    lang_array:SortDirection nodesDirection = lang_array:ASCENDING;
-    map<_OrderTreeNode> nodes = {};
-    any[] keys = [];
-
-    # adds a _Frame into the _OrderTreeNode tree structure.
-    function add(_Frame f, any[] directions, any[] keys) {
-        if (keys.length() == 0 && directions.length() == 0) {
-            _Frame[]? currentFrames = self.frames;
-            if (currentFrames is _Frame[]) {
-                currentFrames.push(f);
-            } else {
-                self.frames = [f];
-            }
-
-        } else {
-            if (!<boolean>directions.shift()) {
-                self.nodesDirection = lang_array:DESCENDING;
-            }
-            any key = keys.shift();
-            string keyStr = key.toString();
-            _OrderTreeNode o;
-            if (self.nodes.hasKey(keyStr)) {
-                o = self.nodes.get(keyStr);
-            } else {
-                o = new;
-                o.key = key;
-                self.nodes[keyStr] = o;
-                self.keys.push(key);
-            }
-            o.add(f, directions, keys);
-        }
-    }
-
-    # do a pre-order tree traversal and return collected leaf frames as orderedFrames.
-    # + return - ordered frames.
-    function get() returns _Frame[] {
-        _Frame[] orderedFrames = [];
-        if (self.frames is _Frame[]) {
-            _Frame[] frames = <_Frame[]>self.frames;
-            int l = frames.length();
-            int i = 0;
-            while (i < l) {
-                orderedFrames.push(frames[i]);
-                i += 1;
-            }
-        } else {
-            any[] keys = self.getSortedArray(self.keys);
-            foreach any k in keys {
-                _OrderTreeNode o = self.nodes.get(k.toString());
-                _Frame[] frms = o.get();
-                foreach _Frame f in frms {
-                    orderedFrames.push(f);
-                }
-            }
-        }
-        return orderedFrames;
-    }
-
-    # sorting is not supported for any[], therefore have to resolve runtime type and sort it.
-    # + return - ordered array.
-    function getSortedArray(any[] arr) returns any[] {
-        if (arr.length() > 0) {
-            int i = 0;
-            while (i < arr.length()) {
-                if (arr[i] is ()) {
-                    i += 1;
-                    continue;
-                } else if (arr[i] is boolean) {
-                    boolean?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is int) {
-                    int?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is float) {
-                    float?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is decimal) {
-                    decimal?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is string) {
-                    string?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                }
-            }
-        }
-        return arr;
-    }
-
-    # copy every element of source array into empty target array.
-    function copyArray(any[] 'source, any[] 'target) {
-        foreach var v in 'source {
-            'target.push(v);
-        }
-    }
-}
+isolated function lookupTableIndex(table<map<any|error>> tbl, string fieldName, string operator, any value)
+        returns (any|error)[]? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.LookupTableIndex",
+    name: "lookupTableIndex"
+} external;
+
+isolated function hasTableIndex(table<map<any|error>> tbl, string fieldName) returns boolean = @java:Method {
+    'class: "org.ballerinalang.langlib.query.LookupTableIndex",
+    name: "hasTableIndex"
+} external;
+
+isolated function createJoinKeyMap() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinKeyMap",
+    name: "createJoinKeyMap"
+} external;
+
+isolated function getJoinFrames(handle joinKeyMap, any key) returns _Frame[]? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinKeyMap",
+    name: "getJoinFrames"
+} external;
+
+isolated function putJoinFrames(handle joinKeyMap, any key, _Frame[] frames) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinKeyMap",
+    name: "putJoinFrames"
+} external;
+
+isolated function createFrameSorter() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "createFrameSorter"
+} external;
+
+isolated function setFrameSorterLimit(handle sorter, int 'limit) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "setFrameSorterLimit"
+} external;
+
+isolated function addToFrameSorter(handle sorter, _Frame frame, any[] directions, any[] keys) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "addToFrameSorter"
+} external;
+
+isolated function fillSortedFrames(handle sorter, _Frame[] frames) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "fillSortedFrames"
+} external;
+
+isolated function getParallelChunkSize(int rowCount) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.ParallelQuery",
+    name: "getParallelChunkSize"
+} external;
+
+isolated function processChunksInParallel(_FusedFunction fusedFunc, (any|error)[] rows, int chunkSize,
+        (any|error)[] results) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.ParallelQuery",
+    name: "processChunksInParallel"
+} external;
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BHandle;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Implementation of the lang.query natives used to order the frames of an order by clause.
+ * <p>
+ * Frames are ordered by their order keys with a stable sort, comparing the keys the same way as lang.array:sort.
+ * If the order by clause is followed by a limit clause, only the frames that can be within the limit are kept, in a
+ * bounded heap, so that taking the first few frames of a large ordered stream does not hold every frame in memory.
+ *
+ * @since 2201.2.0
+ */
+public class FrameSorter {
+
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+
+    private final List<OrderedFrame> frames = new ArrayList<>();
+    private PriorityQueue<OrderedFrame> boundedFrames;
+    private int limit;
+    private boolean[] ascending;
+    private long count;
+
+    public static BHandle createFrameSorter() {
+        return ValueCreator.createHandleValue(new FrameSorter());
+    }
+
+    public static void setFrameSorterLimit(BHandle sorter, long limit) {
+        FrameSorter frameSorter = (FrameSorter) sorter.getValue();
+        // a limit less than one is reported by the limit clause itself
+        if (limit >= 1 && limit < Integer.MAX_VALUE) {
+            frameSorter.limit = (int) limit;
+            frameSorter.boundedFrames = new PriorityQueue<>((x, y) -> frameSorter.compare(y, x));
+        }
+    }
+
+    public static void addToFrameSorter(BHandle sorter, Object frame, BArray directions, BArray keys) {
+        ((FrameSorter) sorter.getValue()).add(frame, directions, keys);
+    }
+
+    public static void fillSortedFrames(BHandle sorter, BArray frames) {
+        for (OrderedFrame orderedFrame : ((FrameSorter) sorter.getValue()).getSortedFrames()) {
+            frames.append(orderedFrame.frame);
+        }
+    }
+
+    private void add(Object frame, BArray directions, BArray keys) {
+        if (ascending == null) {
+            ascending = new boolean[directions.size()];
+            for (int i = 0; i < ascending.length; i++) {
+                ascending[i] = (Boolean) directions.get(i);
+            }
+        }
+        Object[] keyValues = new Object[ascending.length];
+        for (int i = 0; i < keyValues.length; i++) {
+            keyValues[i] = keys.get(i);
+        }
+        OrderedFrame orderedFrame = new OrderedFrame(frame, keyValues, count++);
+        if (boundedFrames == null) {
+            frames.add(orderedFrame);
+        } else if (boundedFrames.size() < limit) {
+            boundedFrames.add(orderedFrame);
+        } else if (compare(orderedFrame, boundedFrames.peek()) < 0) {
+            // the frame ordered last so far can no longer be within the limit
+            boundedFrames.poll();
+            boundedFrames.add(orderedFrame);
+        }
+    }
+
+    private List<OrderedFrame> getSortedFrames() {
+        List<OrderedFrame> sortedFrames = boundedFrames == null ? frames : new ArrayList<>(boundedFrames);
+        sortedFrames.sort(this::compare);
+        return sortedFrames;
+    }
+
+    /**
+     * Compares two frames by their order keys. Frames with equal keys keep the order in which they were added.
+     */
+    private int compare(OrderedFrame x, OrderedFrame y) {
+        for (int i = 0; i < ascending.length; i++) {
+            // () and NaN are ordered last in both directions, which compareValues handles based on the direction
+            int result = ascending[i] ? ValueComparisonUtils.compareValues(x.keys[i], y.keys[i], ASCENDING)
+                    : ValueComparisonUtils.compareValues(y.keys[i], x.keys[i], DESCENDING);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Long.compare(x.index, y.index);
+    }
+
+    /**
+     * A frame along with its order keys and the position it was added at.
+     */
+    private static class OrderedFrame {
+
+        private final Object frame;
+        private final Object[] keys;
+        private final long index;
+
+        private OrderedFrame(Object frame, Object[] keys, long index) {
+            this.frame = frame;
+            this.keys = keys;
+            this.index = index;
+        }
+    }
+}
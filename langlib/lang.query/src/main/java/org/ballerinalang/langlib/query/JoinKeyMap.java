@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BHandle;
+import io.ballerina.runtime.internal.TableUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+
+/**
+ * Implementation of the lang.query natives used to build the hash table of a join.
+ * <p>
+ * Maps join keys to the frames of the joined pipeline that have the key. Keys are hashed with
+ * {@link TableUtils#hash} and compared with value equality, so keys only match if they are {@code ==}. The entries
+ * are chained in buckets indexed by the primitive hash, so looking up a key does not box its hash.
+ *
+ * @since 2201.2.0
+ */
+public class JoinKeyMap {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Entry[] buckets = new Entry[INITIAL_CAPACITY];
+    private int size;
+
+    public static BHandle createJoinKeyMap() {
+        return ValueCreator.createHandleValue(new JoinKeyMap());
+    }
+
+    public static Object getJoinFrames(BHandle joinKeyMap, Object key) {
+        return ((JoinKeyMap) joinKeyMap.getValue()).get(key);
+    }
+
+    public static void putJoinFrames(BHandle joinKeyMap, Object key, Object frames) {
+        ((JoinKeyMap) joinKeyMap.getValue()).put(key, frames);
+    }
+
+    private Object get(Object key) {
+        long hash = TableUtils.hash(key, null);
+        for (Entry entry = buckets[bucketIndex(hash, buckets.length)]; entry != null; entry = entry.next) {
+            if (entry.hash == hash && TypeChecker.isEqual(entry.key, key)) {
+                return entry.frames;
+            }
+        }
+        return null;
+    }
+
+    private void put(Object key, Object frames) {
+        long hash = TableUtils.hash(key, null);
+        int index = bucketIndex(hash, buckets.length);
+        for (Entry entry = buckets[index]; entry != null; entry = entry.next) {
+            if (entry.hash == hash && TypeChecker.isEqual(entry.key, key)) {
+                entry.frames = frames;
+                return;
+            }
+        }
+        buckets[index] = new Entry(hash, key, frames, buckets[index]);
+        if (++size > buckets.length - (buckets.length >> 2)) {
+            resize();
+        }
+    }
+
+    private void resize() {
+        Entry[] newBuckets = new Entry[buckets.length << 1];
+        for (Entry head : buckets) {
+            Entry entry = head;
+            while (entry != null) {
+                Entry next = entry.next;
+                int index = bucketIndex(entry.hash, newBuckets.length);
+                entry.next = newBuckets[index];
+                newBuckets[index] = entry;
+                entry = next;
+            }
+        }
+        buckets = newBuckets;
+    }
+
+    private static int bucketIndex(long hash, int capacity) {
+        int h = (int) (hash ^ (hash >>> 32));
+        return (h ^ (h >>> 16)) & (capacity - 1);
+    }
+
+    /**
+     * Frames of a join key, chained with the entries of the other keys in the same bucket.
+     */
+    private static class Entry {
+
+        private final long hash;
+        private final Object key;
+        private Object frames;
+        private Entry next;
+
+        private Entry(long hash, Object key, Object frames, Entry next) {
+            this.hash = hash;
+            this.key = key;
+            this.frames = frames;
+            this.next = next;
+        }
+    }
+}
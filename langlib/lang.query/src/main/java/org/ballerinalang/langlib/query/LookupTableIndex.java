@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+
+import java.util.List;
+
+/**
+ * Implementation of lang.query:lookupTableIndex(table, string, string, any).
+ * <p>
+ * Looks up the rows of a table matching a comparison on one of its fields, using a secondary index of the table.
+ *
+ * @since 2201.2.0
+ */
+public class LookupTableIndex {
+
+    private static final String EQUAL = "==";
+    private static final String LESS_THAN = "<";
+    private static final String LESS_THAN_OR_EQUAL = "<=";
+    private static final String GREATER_THAN = ">";
+    private static final String GREATER_THAN_OR_EQUAL = ">=";
+
+    public static Object lookupTableIndex(BTable tbl, BString fieldName, BString operator, Object value) {
+        if (!(tbl instanceof TableValueImpl)) {
+            return null;
+        }
+        TableValueImpl<?, ?> table = (TableValueImpl<?, ?>) tbl;
+        List<?> rows;
+        switch (operator.getValue()) {
+            case EQUAL:
+                rows = table.lookupByIndex(fieldName, value);
+                break;
+            case LESS_THAN:
+                rows = table.lookupRangeByIndex(fieldName, value, true, false);
+                break;
+            case LESS_THAN_OR_EQUAL:
+                rows = table.lookupRangeByIndex(fieldName, value, true, true);
+                break;
+            case GREATER_THAN:
+                rows = table.lookupRangeByIndex(fieldName, value, false, false);
+                break;
+            case GREATER_THAN_OR_EQUAL:
+                rows = table.lookupRangeByIndex(fieldName, value, false, true);
+                break;
+            default:
+                return null;
+        }
+        if (rows == null) {
+            return null;
+        }
+        return ValueCreator.createArrayValue(rows.toArray(),
+                TypeCreator.createArrayType(((TableType) table.getType()).getConstrainedType()));
+    }
+
+    public static boolean hasTableIndex(BTable tbl, BString fieldName) {
+        return tbl instanceof TableValueImpl && ((TableValueImpl<?, ?>) tbl).createIndex(fieldName);
+    }
+}
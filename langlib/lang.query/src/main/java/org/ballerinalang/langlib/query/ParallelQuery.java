@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.observability.ObservabilityConstants;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of the lang.query natives used to process the rows of a query in parallel.
+ * <p>
+ * Parallel query execution is enabled by setting the {@value #QUERY_PARALLELISM_ENV_VAR} environment variable to the
+ * number of strands the rows of a query are split into. It only applies to the queries the compiler finds safe to
+ * run in parallel, and only if each strand gets at least {@link #MIN_CHUNK_SIZE} rows, as smaller chunks don't make
+ * up for the cost of scheduling the strands.
+ * <p>
+ * Each chunk is processed by calling {@code _FusedFunction.applyToRows} on a strand of its own, which the scheduler
+ * can run on any of its threads. The chunk strands get the name, metadata and a copy of the strand locals of the
+ * parent strand, which is blocked until all the chunks are processed. The rows are processed sequentially within
+ * transactions and observed strands, as their contexts are not meant to be used by strands running concurrently.
+ *
+ * @since 2201.2.0
+ */
+public class ParallelQuery {
+
+    static final String QUERY_PARALLELISM_ENV_VAR = "BALLERINA_QUERY_PARALLELISM";
+    static final int MIN_CHUNK_SIZE = 4096;
+    private static final String APPLY_TO_ROWS_METHOD = "applyToRows";
+    private static final int PARALLELISM = getParallelism(System.getenv(QUERY_PARALLELISM_ENV_VAR));
+
+    private ParallelQuery() {
+    }
+
+    /**
+     * Returns the number of rows to process on each strand, or 0 if the rows should be processed sequentially.
+     *
+     * @param rowCount number of rows iterated by the query
+     * @return the chunk size
+     */
+    public static long getParallelChunkSize(Environment env, long rowCount) {
+        if (isTransactionalOrObserved(env)) {
+            return 0;
+        }
+        return getChunkSize(rowCount, PARALLELISM);
+    }
+
+    public static void processChunksInParallel(Environment env, BObject fusedFunction, BArray rows, long chunkSize,
+                                               BArray results) {
+        int rowCount = rows.size();
+        int chunkCount = (int) ((rowCount + chunkSize - 1) / chunkSize);
+        String strandName = env.getStrandName().orElse(null);
+        StrandMetadata metadata = env.getStrandMetadata();
+        ChunkCallbacks callbacks = new ChunkCallbacks(env.markAsync(), results, chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            long startIndex = i * chunkSize;
+            long endIndex = Math.min(startIndex + chunkSize, rowCount);
+            env.getRuntime().invokeMethodAsyncConcurrently(fusedFunction, APPLY_TO_ROWS_METHOD, strandName, metadata,
+                    callbacks.forChunk(i), getChunkStrandLocals(env), PredefinedTypes.TYPE_ANY, rows, true,
+                    startIndex, true, endIndex, true);
+        }
+    }
+
+    // The transaction context is checked at runtime too, as a query in a non transactional function can be run
+    // within a transaction.
+    private static boolean isTransactionalOrObserved(Environment env) {
+        // the transaction context is left in the strand locals once the transaction is over
+        if (env.getStrandLocal(RuntimeConstants.CURRENT_TRANSACTION_CONTEXT_PROPERTY) != null &&
+                TransactionResourceManager.getInstance().isInTransaction()) {
+            return true;
+        }
+        return env.getStrandLocal(ObservabilityConstants.KEY_OBSERVER_CONTEXT) != null;
+    }
+
+    private static Map<String, Object> getChunkStrandLocals(Environment env) {
+        // each chunk gets its own copy, as a strand may update its locals
+        Map<String, Object> strandLocals = env.getStrandLocals();
+        // a transaction context left behind by an earlier transaction would start a transaction branch in the strand
+        strandLocals.remove(RuntimeConstants.CURRENT_TRANSACTION_CONTEXT_PROPERTY);
+        return strandLocals;
+    }
+
+    static long getChunkSize(long rowCount, int parallelism) {
+        if (parallelism < 2 || rowCount < 2L * MIN_CHUNK_SIZE) {
+            return 0;
+        }
+        return Math.max(MIN_CHUNK_SIZE, (rowCount + parallelism - 1) / parallelism);
+    }
+
+    static int getParallelism(String value) {
+        if (value == null) {
+            return 1;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    /**
+     * Collects the results of the chunks, and completes the call once all of them are processed. The result of a
+     * chunk is the value returned by {@code applyToRows}, or the error if it panicked.
+     */
+    private static class ChunkCallbacks {
+
+        private final Future future;
+        private final BArray results;
+        private final Object[] chunkResults;
+        private final AtomicInteger pendingCount;
+
+        ChunkCallbacks(Future future, BArray results, int chunkCount) {
+            this.future = future;
+            this.results = results;
+            this.chunkResults = new Object[chunkCount];
+            this.pendingCount = new AtomicInteger(chunkCount);
+        }
+
+        Callback forChunk(int chunkIndex) {
+            return new Callback() {
+                @Override
+                public void notifySuccess(Object result) {
+                    complete(chunkIndex, result);
+                }
+
+                @Override
+                public void notifyFailure(BError error) {
+                    complete(chunkIndex, error);
+                }
+            };
+        }
+
+        private void complete(int chunkIndex, Object result) {
+            chunkResults[chunkIndex] = result;
+            // the atomic decrement makes the results of the other chunks visible to the last one to complete
+            if (pendingCount.decrementAndGet() > 0) {
+                return;
+            }
+            for (int i = 0; i < chunkResults.length; i++) {
+                results.add(i, chunkResults[i]);
+            }
+            future.complete(null);
+        }
+    }
+}
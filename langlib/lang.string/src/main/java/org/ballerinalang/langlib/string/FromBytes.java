@@ -44,19 +44,32 @@ import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReason
 //)
 public class FromBytes {
 
-    private static final CharsetDecoder charsetDecoder = StandardCharsets.UTF_8.newDecoder();
-
     private FromBytes() {
     }
 
     public static Object fromBytes(BArray bytes) {
+        byte[] byteValues = bytes.getBytes();
+        if (isAscii(byteValues)) {
+            // ASCII is valid UTF-8 and decodes to the same chars, which the string holds in one byte each
+            return StringUtils.fromString(new String(byteValues, StandardCharsets.ISO_8859_1));
+        }
         try {
-            String str = charsetDecoder.decode(ByteBuffer.wrap(bytes.getBytes())).toString();
-            charsetDecoder.reset();
+            // a decoder is not thread safe, so each call creates its own
+            CharsetDecoder charsetDecoder = StandardCharsets.UTF_8.newDecoder();
+            String str = charsetDecoder.decode(ByteBuffer.wrap(byteValues)).toString();
             return StringUtils.fromString(str);
         } catch (CharacterCodingException e) {
             return ErrorCreator.createError(FAILED_TO_DECODE_BYTES,
                     BLangExceptionHelper.getErrorDetails(RuntimeErrors.INVALID_UTF_8_BYTE_ARRAY_VALUE));
         }
     }
+
+    private static boolean isAscii(byte[] bytes) {
+        for (byte b : bytes) {
+            if (b < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
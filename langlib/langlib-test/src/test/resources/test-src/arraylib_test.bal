@@ -1333,6 +1333,57 @@ function testSort10() {
     assertValueEquality(sortedArr6, []);
 }
 
+function testSort11() {
+    int[] largeArr = [];
+    foreach int i in 0 ..< 10000 {
+        largeArr.push((i * 7919) % 10000 - 5000);
+    }
+    int[] sortedLargeArr = largeArr.sort();
+    assertValueEquality(sortedLargeArr.length(), 10000);
+    assertValueEquality(sortedLargeArr[0], -5000);
+    assertValueEquality(sortedLargeArr[9999], 4999);
+    assertValueEquality(largeArr.sort(array:DESCENDING)[0], 4999);
+
+    int:Signed8[] arr1 = [3, -128, 127, 0];
+    int:Signed8[] sortedArr1 = arr1.sort(array:DESCENDING);
+    assertValueEquality(sortedArr1, [127, 3, 0, -128]);
+
+    float[] arr2 = [2.5, -0.0, float:NaN, 0.0, -1.0, float:Infinity];
+    float[] sortedArr2 = arr2.sort();
+    assertValueEquality(sortedArr2.toString(), "[-1.0,-0.0,0.0,2.5,Infinity,NaN]");
+    float[] sortedArr3 = arr2.sort(array:DESCENDING);
+    assertValueEquality(sortedArr3.toString(), "[Infinity,2.5,-0.0,0.0,-1.0,NaN]");
+
+    string[] arr3 = ["b", "\u{1F600}", "\u{FFFD}", "", "ab", "a"];
+    string[] sortedArr4 = arr3.sort();
+    assertValueEquality(sortedArr4, ["", "a", "ab", "b", "\u{FFFD}", "\u{1F600}"]);
+
+    byte[] arr4 = [200, 1, 255, 0, 128];
+    byte[] sortedArr5 = arr4.sort(array:DESCENDING);
+    assertValueEquality(sortedArr5, [255, 200, 128, 1, 0]);
+
+    boolean[] arr5 = [true, false, true, false];
+    boolean[] sortedArr6 = arr5.sort();
+    assertValueEquality(sortedArr6, [false, false, true, true]);
+
+    decimal[] arr6 = [2.50, 1, 2.5, -3.1];
+    decimal[] sortedArr7 = arr6.sort();
+    assertValueEquality(sortedArr7, [-3.1d, 1d, 2.5d, 2.5d]);
+
+    string[] arr7 = ["ccc", "a", "bb", "dd"];
+    string[] sortedArr8 = arr7.sort(array:DESCENDING, (s) => <float>s.length());
+    assertValueEquality(sortedArr8, ["ccc", "bb", "dd", "a"]);
+
+    float?[] arr8 = [1.5, (), float:NaN, -2.0];
+    float?[] sortedArr9 = arr8.sort(array:DESCENDING, (f) => f);
+    assertValueEquality(sortedArr9.toString(), "[1.5,-2.0,NaN,null]");
+
+    // equal elements are kept in their original order
+    record {|string name; int age;|}[] arr9 = [{name: "A", age: 3}, {name: "B", age: 1}, {name: "C", age: 3}];
+    string[] names = from var p in arr9.sort(array:DESCENDING, (r) => r.age) select p.name;
+    assertValueEquality(names, ["A", "C", "B"]);
+}
+
 function testTupleReverse() {
     [int, string, float] tupleArr = [2, "abc", 2.4];
     anydata[] y = tupleArr.reverse();
@@ -17,6 +17,7 @@
  */
 package io.ballerina.projects.test;
 
+import io.ballerina.projects.BuildOptions;
 import io.ballerina.projects.CompilationCache;
 import io.ballerina.projects.CompilationCacheFactory;
 import io.ballerina.projects.CompilerBackend;
@@ -32,7 +33,9 @@ import io.ballerina.projects.ProjectEnvironmentBuilder;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.repos.FileSystemCache;
 import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.tools.diagnostics.Diagnostic;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.ByteArrayOutputStream;
@@ -40,7 +43,12 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -103,6 +111,141 @@ public class TestBirAndJarCache {
         }
     }
 
+    @Test(description = "tests writing of the Jar files when the code of the modules is generated in parallel")
+    public void testParallelJarCaching() throws IOException {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("balawriter").resolve("projectOne");
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(new TestCompilationCacheFactory(cacheDirPath));
+        BuildOptions buildOptions = BuildOptions.builder().setSkipTests(false).setParallelCodeGen(true).build();
+        BuildProject project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
+
+        Package currentPackage = project.currentPackage();
+        PackageCompilation pkgCompilation = currentPackage.getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(pkgCompilation, JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
+
+        List<String> foundPaths;
+        try (Stream<Path> pathStream = Files.find(cacheDirPath, 100,
+                (path, fileAttributes) -> path.getFileName().toString().endsWith(BLANG_COMPILED_JAR_EXT))) {
+            foundPaths = pathStream.map(path -> path.getFileName().toString()).collect(Collectors.toList());
+        }
+        for (ModuleId moduleId : currentPackage.moduleIds()) {
+            Module module = currentPackage.module(moduleId);
+            String jarName = getThinJarFileName(module.descriptor().org(),
+                                                module.moduleName().toString(),
+                                                module.descriptor().version());
+            Assert.assertTrue(foundPaths.contains(jarName + BLANG_COMPILED_JAR_EXT));
+            Assert.assertTrue(foundPaths.contains(jarName + "-testable" + BLANG_COMPILED_JAR_EXT));
+        }
+    }
+
+    @DataProvider(name = "codeGenModes")
+    public Object[][] codeGenModes() {
+        return new Object[][]{{false}, {true}};
+    }
+
+    @Test(description = "tests skipping the modules whose dependencies fail the code generation",
+            dataProvider = "codeGenModes")
+    public void testCodeGenWithFailedDependency(boolean parallelCodeGen) throws IOException {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("parallel_codegen");
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(new TestCompilationCacheFactory(cacheDirPath));
+        BuildOptions buildOptions = BuildOptions.builder().setParallelCodeGen(parallelCodeGen).build();
+        BuildProject project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
+
+        Package currentPackage = project.currentPackage();
+        PackageCompilation pkgCompilation = currentPackage.getCompilation();
+        Assert.assertFalse(pkgCompilation.diagnosticResult().hasErrors());
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(pkgCompilation, JvmTarget.JAVA_11);
+
+        // The error of the code generation is reported against the module that failed
+        Collection<Diagnostic> errors = jBallerinaBackend.diagnosticResult().errors();
+        Assert.assertEquals(errors.size(), 1);
+        Diagnostic error = errors.iterator().next();
+        Assert.assertEquals(error.message(), "method is too large: 'getXML'");
+        Assert.assertEquals(error.location().lineRange().filePath(),
+                Paths.get("modules", "large", "large.bal").toString());
+
+        // Both modes skip only the modules that depend on the failed module, so the code of the independent util
+        // module is generated while the code of the default module is not
+        List<String> foundPaths = getCachedJarNames(cacheDirPath);
+        Assert.assertTrue(foundPaths.contains(getJarName(currentPackage, "parallel_codegen.util")));
+        Assert.assertFalse(foundPaths.contains(getJarName(currentPackage, "parallel_codegen")));
+    }
+
+    @Test(description = "tests that the parallel code generation writes the same Jar files as the sequential one")
+    public void testParallelJarsMatchSequentialJars() throws IOException {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("balawriter").resolve("projectOne");
+        Path sequentialCacheDirPath = generateJars(projectPath, false);
+        Path parallelCacheDirPath = generateJars(projectPath, true);
+
+        List<Path> sequentialJars = findCachedJars(sequentialCacheDirPath);
+        List<Path> parallelJars = findCachedJars(parallelCacheDirPath);
+        Assert.assertFalse(sequentialJars.isEmpty());
+        Assert.assertEquals(parallelJars.size(), sequentialJars.size());
+        for (Path sequentialJar : sequentialJars) {
+            Path parallelJar = parallelCacheDirPath.resolve(sequentialCacheDirPath.relativize(sequentialJar));
+            Assert.assertTrue(Files.exists(parallelJar), "missing jar: " + parallelJar);
+            Map<String, byte[]> sequentialEntries = readJarEntries(sequentialJar);
+            Map<String, byte[]> parallelEntries = readJarEntries(parallelJar);
+            Assert.assertEquals(parallelEntries.keySet(), sequentialEntries.keySet());
+            for (Map.Entry<String, byte[]> entry : sequentialEntries.entrySet()) {
+                Assert.assertEquals(parallelEntries.get(entry.getKey()), entry.getValue(),
+                        "entry " + entry.getKey() + " of " + sequentialJar.getFileName() + " differs");
+            }
+        }
+    }
+
+    private Path generateJars(Path projectPath, boolean parallelCodeGen) throws IOException {
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(new TestCompilationCacheFactory(cacheDirPath));
+        BuildOptions buildOptions = BuildOptions.builder()
+                .setSkipTests(false).setParallelCodeGen(parallelCodeGen).build();
+        BuildProject project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
+        PackageCompilation pkgCompilation = project.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(pkgCompilation, JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
+        return cacheDirPath;
+    }
+
+    private List<Path> findCachedJars(Path cacheDirPath) throws IOException {
+        try (Stream<Path> pathStream = Files.find(cacheDirPath, 100,
+                (path, fileAttributes) -> path.getFileName().toString().endsWith(BLANG_COMPILED_JAR_EXT))) {
+            return pathStream.sorted().collect(Collectors.toList());
+        }
+    }
+
+    private List<String> getCachedJarNames(Path cacheDirPath) throws IOException {
+        return findCachedJars(cacheDirPath).stream()
+                .map(path -> path.getFileName().toString()).collect(Collectors.toList());
+    }
+
+    private String getJarName(Package currentPackage, String moduleName) {
+        return getThinJarFileName(currentPackage.packageOrg(), moduleName, currentPackage.packageVersion())
+                + BLANG_COMPILED_JAR_EXT;
+    }
+
+    // The entries are compared by their content, as the jar files record the time they are written.
+    private Map<String, byte[]> readJarEntries(Path jarPath) throws IOException {
+        Map<String, byte[]> entries = new HashMap<>();
+        try (JarInputStream jarInputStream = new JarInputStream(Files.newInputStream(jarPath))) {
+            JarEntry entry;
+            while ((entry = jarInputStream.getNextJarEntry()) != null) {
+                ByteArrayOutputStream content = new ByteArrayOutputStream();
+                byte[] buffer = new byte[8192];
+                int length;
+                while ((length = jarInputStream.read(buffer)) != -1) {
+                    content.write(buffer, 0, length);
+                }
+                entries.put(entry.getName(), content.toByteArray());
+            }
+        }
+        return entries;
+    }
+
     /**
      * An instance of {@code CompilationCacheFactory} used for testing purposes.
      */
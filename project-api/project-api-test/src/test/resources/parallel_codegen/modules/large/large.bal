@@ -0,0 +1,1021 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// The XML literal makes the JVM method of the function too large.
+public function getXML() {
+        xml person = xml `<employees>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                          <name>Kashyapa</name>
+                          <age>35</age>
+                          <address>
+                              <line1>Rock palace</line1>
+                              <line2>Sigiriya</line2>
+                          </address>
+                        </employee>
+                        <employee id="1">
+                            <name>Parakum</name>
+                            <age>32</age>
+                            <address>
+                                <line1>King's palace</line1>
+                                <line2>Polonnaruwa</line2>
+                            </address>
+                        </employee>
+                        <employee id="2">
+                            <name>Kashyapa</name>
+                            <age>35</age>
+                            <address>
+                                <line1>Rock palace</line1>
+                                <line2>Sigiriya</line2>
+                            </address>
+                        </employee>
+                        <employee id="1">
+                          <name>Parakum</name>
+                          <age>32</age>
+                          <address>
+                              <line1>King's palace</line1>
+                              <line2>Polonnaruwa</line2>
+                          </address>
+                        </employee>
+                      </employees>`;
+}
@@ -23,10 +23,22 @@ package io.ballerina.semtype;
  * @since 2.0.0
  */
 public class BddMemo {
-    Bdd bddNode;
-    MemoStatus isEmpty;
+    public final Bdd bdd;
+    public MemoStatus isEmpty;
 
-    enum MemoStatus {
-        NOT_SET, TRUE, FALSE;
+    public BddMemo(Bdd bdd) {
+        this.bdd = bdd;
+        this.isEmpty = MemoStatus.NOT_SET;
+    }
+
+    /**
+     * Status of the emptiness check of a BDD.
+     * <p>
+     * {@code LOOP} marks a BDD whose check is in progress. It becomes {@code CYCLIC} when the check reaches the same
+     * BDD again, which is then assumed to be empty. A BDD found to be empty while such an assumption is pending is
+     * {@code PROVISIONAL} until the outer check completes.
+     */
+    public enum MemoStatus {
+        NOT_SET, TRUE, FALSE, LOOP, CYCLIC, PROVISIONAL;
     }
 }
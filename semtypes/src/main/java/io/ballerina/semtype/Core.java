@@ -0,0 +1,239 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype;
+
+import io.ballerina.semtype.subtypedata.AllOrNothingSubtype;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Operations on semantic types.
+ *
+ * @since 2.0.0
+ */
+public class Core {
+
+    private Core() {
+    }
+
+    public static SemType union(SemType t1, SemType t2) {
+        if (t1 instanceof UniformTypeBitSet && t2 instanceof UniformTypeBitSet) {
+            return new UniformTypeBitSet(((UniformTypeBitSet) t1).bitset | ((UniformTypeBitSet) t2).bitset);
+        }
+        int all = allBits(t1) | allBits(t2);
+        int some = (someBits(t1) | someBits(t2)) & ~all;
+        if (some == 0) {
+            return new UniformTypeBitSet(all);
+        }
+        List<UniformSubtype> subtypes = new ArrayList<>();
+        for (int code : codes(some)) {
+            SubtypeData data1 = subtypeData(t1, code);
+            SubtypeData data2 = subtypeData(t2, code);
+            SubtypeData data;
+            if (data1 == null) {
+                data = data2;
+            } else if (data2 == null) {
+                data = data1;
+            } else {
+                data = OpsTable.OPS[code].union(data1, data2);
+            }
+            if (data instanceof AllOrNothingSubtype) {
+                if (((AllOrNothingSubtype) data).isAllSubtype()) {
+                    all |= 1 << code;
+                }
+            } else {
+                subtypes.add(new UniformSubtype(code, data));
+            }
+        }
+        return createSemType(all, subtypes);
+    }
+
+    public static SemType intersect(SemType t1, SemType t2) {
+        if (t1 instanceof UniformTypeBitSet) {
+            int bits1 = ((UniformTypeBitSet) t1).bitset;
+            if (t2 instanceof UniformTypeBitSet) {
+                return new UniformTypeBitSet(bits1 & ((UniformTypeBitSet) t2).bitset);
+            }
+            if (bits1 == 0) {
+                return t1;
+            }
+            if (bits1 == UniformTypeCode.UT_MASK) {
+                return t2;
+            }
+        } else if (t2 instanceof UniformTypeBitSet) {
+            int bits2 = ((UniformTypeBitSet) t2).bitset;
+            if (bits2 == 0) {
+                return t2;
+            }
+            if (bits2 == UniformTypeCode.UT_MASK) {
+                return t1;
+            }
+        }
+        int all1 = allBits(t1);
+        int all2 = allBits(t2);
+        int all = all1 & all2;
+        int some = (someBits(t1) | all1) & (someBits(t2) | all2);
+        some &= ~all;
+        if (some == 0) {
+            return new UniformTypeBitSet(all);
+        }
+        List<UniformSubtype> subtypes = new ArrayList<>();
+        for (int code : codes(some)) {
+            SubtypeData data1 = subtypeData(t1, code);
+            SubtypeData data2 = subtypeData(t2, code);
+            SubtypeData data;
+            if (data1 == null) {
+                data = data2;
+            } else if (data2 == null) {
+                data = data1;
+            } else {
+                data = OpsTable.OPS[code].intersect(data1, data2);
+            }
+            if (!(data instanceof AllOrNothingSubtype)) {
+                subtypes.add(new UniformSubtype(code, data));
+            } else if (((AllOrNothingSubtype) data).isAllSubtype()) {
+                all |= 1 << code;
+            }
+        }
+        return createSemType(all, subtypes);
+    }
+
+    public static SemType diff(SemType t1, SemType t2) {
+        if (t1 instanceof UniformTypeBitSet) {
+            int bits1 = ((UniformTypeBitSet) t1).bitset;
+            if (t2 instanceof UniformTypeBitSet) {
+                return new UniformTypeBitSet(bits1 & ~((UniformTypeBitSet) t2).bitset);
+            }
+            if (bits1 == 0) {
+                return t1;
+            }
+        } else if (t2 instanceof UniformTypeBitSet) {
+            int bits2 = ((UniformTypeBitSet) t2).bitset;
+            if (bits2 == UniformTypeCode.UT_MASK) {
+                return PredefinedType.NEVER;
+            }
+            if (bits2 == 0) {
+                return t1;
+            }
+        }
+        int all1 = allBits(t1);
+        int all2 = allBits(t2);
+        int some1 = someBits(t1);
+        int some2 = someBits(t2);
+        int all = all1 & ~(all2 | some2);
+        int some = (all1 | some1) & ~all2;
+        some &= ~all;
+        if (some == 0) {
+            return new UniformTypeBitSet(all);
+        }
+        List<UniformSubtype> subtypes = new ArrayList<>();
+        for (int code : codes(some)) {
+            SubtypeData data1 = subtypeData(t1, code);
+            SubtypeData data2 = subtypeData(t2, code);
+            SubtypeData data;
+            if (data1 == null) {
+                data = OpsTable.OPS[code].complement(data2);
+            } else if (data2 == null) {
+                data = data1;
+            } else {
+                data = OpsTable.OPS[code].diff(data1, data2);
+            }
+            if (!(data instanceof AllOrNothingSubtype)) {
+                subtypes.add(new UniformSubtype(code, data));
+            } else if (((AllOrNothingSubtype) data).isAllSubtype()) {
+                all |= 1 << code;
+            }
+        }
+        return createSemType(all, subtypes);
+    }
+
+    public static SemType complement(SemType t) {
+        return diff(PredefinedType.TOP, t);
+    }
+
+    public static boolean isNever(SemType t) {
+        return t instanceof UniformTypeBitSet && ((UniformTypeBitSet) t).bitset == 0;
+    }
+
+    public static boolean isEmpty(TypeCheckContext tc, SemType t) {
+        if (t instanceof UniformTypeBitSet) {
+            return ((UniformTypeBitSet) t).bitset == 0;
+        }
+        ComplexSemType ct = (ComplexSemType) t;
+        if (ct.all.bitset != 0) {
+            return false;
+        }
+        int i = 0;
+        for (int code : codes(ct.some.bitset)) {
+            if (!OpsTable.OPS[code].isEmpty(tc, ct.subtypeDataList[i])) {
+                return false;
+            }
+            i++;
+        }
+        return true;
+    }
+
+    public static boolean isSubtype(TypeCheckContext tc, SemType t1, SemType t2) {
+        return isEmpty(tc, diff(t1, t2));
+    }
+
+    public static boolean isReadOnly(SemType t) {
+        int bits = allBits(t) | someBits(t);
+        return (bits & UniformTypeCode.UT_RW_MASK) == 0;
+    }
+
+    private static int allBits(SemType t) {
+        return t instanceof UniformTypeBitSet ? ((UniformTypeBitSet) t).bitset : ((ComplexSemType) t).all.bitset;
+    }
+
+    private static int someBits(SemType t) {
+        return t instanceof UniformTypeBitSet ? 0 : ((ComplexSemType) t).some.bitset;
+    }
+
+    // Returns the subtype data of the given uniform type, or null if it is not partially contained in the type.
+    private static SubtypeData subtypeData(SemType t, int code) {
+        if (t instanceof UniformTypeBitSet) {
+            return null;
+        }
+        ComplexSemType ct = (ComplexSemType) t;
+        int some = ct.some.bitset;
+        if ((some & (1 << code)) == 0) {
+            return null;
+        }
+        return ct.subtypeDataList[Integer.bitCount(some & ((1 << code) - 1))];
+    }
+
+    private static int[] codes(int bits) {
+        int[] codes = new int[Integer.bitCount(bits)];
+        int i = 0;
+        while (bits != 0) {
+            int code = Integer.numberOfTrailingZeros(bits);
+            codes[i++] = code;
+            bits &= bits - 1;
+        }
+        return codes;
+    }
+
+    private static SemType createSemType(int all, List<UniformSubtype> subtypes) {
+        if (subtypes.isEmpty()) {
+            return new UniformTypeBitSet(all);
+        }
+        return ComplexSemType.createComplexSemType(all, subtypes.toArray(new UniformSubtype[0]));
+    }
+}
@@ -18,29 +18,111 @@
 package io.ballerina.semtype;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Env node.
+ * <p>
+ * An environment can be shared by the threads type checking against it. Atomic types are interned without locking,
+ * and the recursive atoms are guarded by the lock of their list.
  *
  * @since 2.0.0
  */
 public class Env {
-    private final HashMap<AtomicType, TypeAtom> atomTable;
-    private final ArrayList<ListAtomicType> recListAtoms;
-    private final ArrayList<MappingAtomicType> recMappingAtoms;
-    private final ArrayList<FunctionAtomicType> recFunctionAtoms;
+    private final ConcurrentHashMap<AtomicType, TypeAtom> atomTable;
+    private final AtomicLong nextAtomIndex;
+    private final List<ListAtomicType> recListAtoms;
+    private final List<MappingAtomicType> recMappingAtoms;
+    private final List<FunctionAtomicType> recFunctionAtoms;
 
     public Env() {
-        this.atomTable = new HashMap<>();
+        this.atomTable = new ConcurrentHashMap<>();
+        this.nextAtomIndex = new AtomicLong();
         // Set up index 0 for use by bddFixReadOnly
         this.recListAtoms = new ArrayList<>();
         this.recListAtoms.add(ListAtomicType.LIST_SUBTYPE_RO);
 
         this.recMappingAtoms = new ArrayList<>();
-        // todo: add MAPPING_SUBTYPE_RO
+        this.recMappingAtoms.add(MappingAtomicType.MAPPING_SUBTYPE_RO);
         this.recFunctionAtoms = new ArrayList<>();
     }
 
+    public TypeAtom listAtom(ListAtomicType atomicType) {
+        return this.typeAtom(atomicType);
+    }
+
+    public TypeAtom mappingAtom(MappingAtomicType atomicType) {
+        return this.typeAtom(atomicType);
+    }
+
+    private TypeAtom typeAtom(AtomicType atomicType) {
+        TypeAtom typeAtom = this.atomTable.get(atomicType);
+        if (typeAtom != null) {
+            return typeAtom;
+        }
+        return this.atomTable.computeIfAbsent(atomicType,
+                t -> TypeAtom.createTypeAtom(this.nextAtomIndex.getAndIncrement(), t));
+    }
+
+    public RecAtom recListAtom() {
+        synchronized (this.recListAtoms) {
+            int result = this.recListAtoms.size();
+            this.recListAtoms.add(null);
+            return RecAtom.createRecAtom(result);
+        }
+    }
+
+    public RecAtom recMappingAtom() {
+        synchronized (this.recMappingAtoms) {
+            int result = this.recMappingAtoms.size();
+            this.recMappingAtoms.add(null);
+            return RecAtom.createRecAtom(result);
+        }
+    }
+
+    public RecAtom recFunctionAtom() {
+        synchronized (this.recFunctionAtoms) {
+            int result = this.recFunctionAtoms.size();
+            this.recFunctionAtoms.add(null);
+            return RecAtom.createRecAtom(result);
+        }
+    }
 
+    public void setRecListAtomType(RecAtom ra, ListAtomicType atomicType) {
+        synchronized (this.recListAtoms) {
+            this.recListAtoms.set(ra.index, atomicType);
+        }
+    }
+
+    public void setRecMappingAtomType(RecAtom ra, MappingAtomicType atomicType) {
+        synchronized (this.recMappingAtoms) {
+            this.recMappingAtoms.set(ra.index, atomicType);
+        }
+    }
+
+    public void setRecFunctionAtomType(RecAtom ra, FunctionAtomicType atomicType) {
+        synchronized (this.recFunctionAtoms) {
+            this.recFunctionAtoms.set(ra.index, atomicType);
+        }
+    }
+
+    public ListAtomicType getRecListAtomType(RecAtom ra) {
+        synchronized (this.recListAtoms) {
+            return this.recListAtoms.get(ra.index);
+        }
+    }
+
+    public MappingAtomicType getRecMappingAtomType(RecAtom ra) {
+        synchronized (this.recMappingAtoms) {
+            return this.recMappingAtoms.get(ra.index);
+        }
+    }
+
+    public FunctionAtomicType getRecFunctionAtomType(RecAtom ra) {
+        synchronized (this.recFunctionAtoms) {
+            return this.recFunctionAtoms.get(ra.index);
+        }
+    }
 }
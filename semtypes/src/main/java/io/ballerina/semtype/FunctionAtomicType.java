@@ -22,7 +22,29 @@ package io.ballerina.semtype;
  *
  * @since 2.0.0
  */
-public class FunctionAtomicType {
-    SemType paramType;
-    SemType retType;
+public class FunctionAtomicType implements AtomicType {
+    public final SemType paramType;
+    public final SemType retType;
+
+    public FunctionAtomicType(SemType paramType, SemType retType) {
+        this.paramType = paramType;
+        this.retType = retType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FunctionAtomicType)) {
+            return false;
+        }
+        FunctionAtomicType that = (FunctionAtomicType) o;
+        return this.paramType.equals(that.paramType) && this.retType.equals(that.retType);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.paramType.hashCode() + this.retType.hashCode();
+    }
 }
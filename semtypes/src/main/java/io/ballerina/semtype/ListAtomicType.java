@@ -17,7 +17,7 @@
  */
 package io.ballerina.semtype;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * ListAtomicType node.
@@ -25,13 +25,30 @@ import java.util.ArrayList;
  * @since 2.0.0
  */
 public class ListAtomicType implements AtomicType {
-    final ArrayList<SemType> members;
-    final SemType rest;
+    public final SemType[] members;
+    public final SemType rest;
 
-    public static final ListAtomicType LIST_SUBTYPE_RO = new ListAtomicType(new ArrayList<>(), PredefinedType.READONLY);
+    public static final ListAtomicType LIST_SUBTYPE_RO = new ListAtomicType(new SemType[0], PredefinedType.READONLY);
 
-    public ListAtomicType(ArrayList<SemType> members, SemType rest) {
+    public ListAtomicType(SemType[] members, SemType rest) {
         this.members = members;
         this.rest = rest;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ListAtomicType)) {
+            return false;
+        }
+        ListAtomicType that = (ListAtomicType) o;
+        return Arrays.equals(this.members, that.members) && this.rest.equals(that.rest);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(this.members) + this.rest.hashCode();
+    }
 }
@@ -17,10 +17,43 @@
  */
 package io.ballerina.semtype;
 
+import java.util.Arrays;
+
 /**
  * MappingAtomicType node.
  *
  * @since 2.0.0
  */
 public class MappingAtomicType implements AtomicType {
+    // sorted
+    public final String[] names;
+    public final SemType[] types;
+    public final SemType rest;
+
+    public static final MappingAtomicType MAPPING_SUBTYPE_RO =
+            new MappingAtomicType(new String[0], new SemType[0], PredefinedType.READONLY);
+
+    public MappingAtomicType(String[] names, SemType[] types, SemType rest) {
+        this.names = names;
+        this.types = types;
+        this.rest = rest;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MappingAtomicType)) {
+            return false;
+        }
+        MappingAtomicType that = (MappingAtomicType) o;
+        return Arrays.equals(this.names, that.names) && Arrays.equals(this.types, that.types) &&
+                this.rest.equals(that.rest);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(this.names) + Arrays.hashCode(this.types)) + this.rest.hashCode();
+    }
 }
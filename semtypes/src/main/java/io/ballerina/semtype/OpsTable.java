@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype;
+
+import io.ballerina.semtype.typeops.FunctionOps;
+import io.ballerina.semtype.typeops.ListTypeRWOps;
+import io.ballerina.semtype.typeops.ListTypeRoOps;
+import io.ballerina.semtype.typeops.MappingRWOps;
+import io.ballerina.semtype.typeops.MappingRoOps;
+import io.ballerina.semtype.typeops.UniformTypeOpsPanicImpl;
+
+import java.util.Arrays;
+
+/**
+ * Lookup table containing subtype ops for each uniform type indexed by uniform type code.
+ *
+ * @since 2.0.0
+ */
+public class OpsTable {
+    static final UniformTypeOps[] OPS;
+
+    static {
+        OPS = new UniformTypeOps[UniformTypeCode.UT_COUNT];
+        Arrays.fill(OPS, new UniformTypeOpsPanicImpl());
+        OPS[UniformTypeCode.UT_LIST_RO] = new ListTypeRoOps();
+        OPS[UniformTypeCode.UT_MAPPING_RO] = new MappingRoOps();
+        OPS[UniformTypeCode.UT_FUNCTION] = new FunctionOps();
+        OPS[UniformTypeCode.UT_LIST_RW] = new ListTypeRWOps();
+        OPS[UniformTypeCode.UT_MAPPING_RW] = new MappingRWOps();
+    }
+
+    private OpsTable() {
+    }
+}
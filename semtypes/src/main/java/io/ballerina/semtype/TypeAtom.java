@@ -19,12 +19,15 @@ package io.ballerina.semtype;
 
 /**
  * Represent a TypeAtom.
+ * <p>
+ * Type atoms are interned by the {@link Env}, so two type atoms of the same environment are equal only if they are
+ * the same object.
  *
  * @since 2.0.0
  */
 public class TypeAtom implements Atom {
-    long index;
-    AtomicType atomicType;
+    public final long index;
+    public final AtomicType atomicType;
 
     public TypeAtom(long index, AtomicType atomicType) {
         this.index = index;
@@ -17,42 +17,48 @@
  */
 package io.ballerina.semtype;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * TypeCheckContext node.
+ * <p>
+ * A context holds the memoized emptiness of the BDDs checked through it and is meant to be used by one thread at a
+ * time. Several contexts can share an {@link Env}.
  *
  * @since 2.0.0
  */
 public class TypeCheckContext {
-    private final Env env;
-    // todo: Normal hash tables should do here
-    //    BddMemoTable listMemo = table [];
-    //    BddMemoTable mappingMemo = table [];
-    //    BddMemoTable functionMemo = table [];
+    public final Env env;
+    public final Map<Bdd, BddMemo> listMemo = new HashMap<>();
+    public final Map<Bdd, BddMemo> mappingMemo = new HashMap<>();
+    public final Map<Bdd, BddMemo> functionMemo = new HashMap<>();
+    // BDDs whose emptiness is being checked or depends on a check in progress
+    public final List<BddMemo> memoStack = new ArrayList<>();
 
     public TypeCheckContext(Env env) {
         this.env = env;
     }
 
+    public ListAtomicType listAtomType(Atom atom) {
+        if (atom instanceof RecAtom) {
+            return this.env.getRecListAtomType((RecAtom) atom);
+        } else {
+            return (ListAtomicType) ((TypeAtom) atom).atomicType;
+        }
+    }
 
-//    function listAtomType(Atom atom) returns ListAtomicType {
-//        if atom is RecAtom {
-//            return self.env.getRecListAtomType(atom);
-//        }
-//        else {
-//            return <ListAtomicType>atom.atomicType;
-//        }
-//    }
-//
-//    function mappingAtomType(Atom atom) returns MappingAtomicType {
-//        if atom is RecAtom {
-//            return self.env.getRecMappingAtomType(atom);
-//        }
-//        else {
-//            return <MappingAtomicType>atom.atomicType;
-//        }
-//    }
-//
-//    function functionAtomType(Atom atom) returns FunctionAtomicType {
-//        return self.env.getRecFunctionAtomType(<RecAtom>atom);
-//    }
+    public MappingAtomicType mappingAtomType(Atom atom) {
+        if (atom instanceof RecAtom) {
+            return this.env.getRecMappingAtomType((RecAtom) atom);
+        } else {
+            return (MappingAtomicType) ((TypeAtom) atom).atomicType;
+        }
+    }
+
+    public FunctionAtomicType functionAtomType(Atom atom) {
+        return this.env.getRecFunctionAtomType((RecAtom) atom);
+    }
 }
@@ -23,9 +23,19 @@ package io.ballerina.semtype;
  * @since 2.0.0
  */
 public class UniformTypeBitSet implements SemType {
-    int bitset;
+    final int bitset;
 
     public UniformTypeBitSet(int bitset) {
         this.bitset = bitset;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof UniformTypeBitSet && ((UniformTypeBitSet) o).bitset == this.bitset;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(this.bitset);
+    }
 }
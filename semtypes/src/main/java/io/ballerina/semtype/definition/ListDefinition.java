@@ -17,9 +17,19 @@
  */
 package io.ballerina.semtype.definition;
 
+import io.ballerina.semtype.Atom;
+import io.ballerina.semtype.ComplexSemType;
+import io.ballerina.semtype.Core;
 import io.ballerina.semtype.Definition;
 import io.ballerina.semtype.Env;
+import io.ballerina.semtype.ListAtomicType;
+import io.ballerina.semtype.PredefinedType;
+import io.ballerina.semtype.RecAtom;
 import io.ballerina.semtype.SemType;
+import io.ballerina.semtype.UniformSubtype;
+import io.ballerina.semtype.UniformTypeCode;
+import io.ballerina.semtype.subtypedata.BddNode;
+import io.ballerina.semtype.typeops.BddCommonOps;
 
 /**
  * Represent list/tuple type desc.
@@ -27,8 +37,89 @@ import io.ballerina.semtype.SemType;
  * @since 2.0.0
  */
 public class ListDefinition implements Definition {
+    private RecAtom roRec = null;
+    private RecAtom rwRec = null;
+
+    // The SemType is created lazily so that we have the possibility
+    // to share the Bdd between the RO and RW cases.
+    private ComplexSemType semType = null;
+
     @Override
     public SemType getSemType(Env env) {
-        throw new AssertionError();
+        ComplexSemType s = this.semType;
+        if (s == null) {
+            RecAtom ro = env.recListAtom();
+            RecAtom rw = env.recListAtom();
+            this.roRec = ro;
+            this.rwRec = rw;
+            return this.createSemType(ro, rw);
+        }
+        return s;
+    }
+
+    public static SemType tuple(Env env, SemType... members) {
+        ListDefinition def = new ListDefinition();
+        return def.define(env, members, PredefinedType.NEVER);
+    }
+
+    public ComplexSemType define(Env env, SemType[] members, SemType rest) {
+        ListAtomicType rwType = new ListAtomicType(members.clone(), rest);
+        Atom rw;
+        RecAtom rwRec = this.rwRec;
+        if (rwRec != null) {
+            rw = rwRec;
+            env.setRecListAtomType(rwRec, rwType);
+        } else {
+            rw = env.listAtom(rwType);
+        }
+        Atom ro;
+        ListAtomicType roType = readOnlyListAtomicType(rwType);
+        RecAtom roRec = this.roRec;
+        if (roRec != null) {
+            ro = roRec;
+            env.setRecListAtomType(roRec, roType);
+        } else if (roType == rwType) {
+            // share the definitions
+            ro = rw;
+        } else {
+            ro = env.listAtom(roType);
+        }
+        return this.createSemType(ro, rw);
+    }
+
+    private ComplexSemType createSemType(Atom ro, Atom rw) {
+        BddNode roBdd = BddCommonOps.bddAtom(ro);
+        BddNode rwBdd;
+        if (BddCommonOps.atomCmp(ro, rw) == 0) {
+            // share the BDD
+            rwBdd = roBdd;
+        } else {
+            rwBdd = BddCommonOps.bddAtom(rw);
+        }
+        ComplexSemType s = ComplexSemType.createComplexSemType(0,
+                new UniformSubtype(UniformTypeCode.UT_LIST_RO, roBdd),
+                new UniformSubtype(UniformTypeCode.UT_LIST_RW, rwBdd));
+        this.semType = s;
+        return s;
+    }
+
+    private static ListAtomicType readOnlyListAtomicType(ListAtomicType ty) {
+        if (typeListIsReadOnly(ty.members) && Core.isReadOnly(ty.rest)) {
+            return ty;
+        }
+        SemType[] members = new SemType[ty.members.length];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = Core.intersect(ty.members[i], PredefinedType.READONLY);
+        }
+        return new ListAtomicType(members, Core.intersect(ty.rest, PredefinedType.READONLY));
+    }
+
+    private static boolean typeListIsReadOnly(SemType[] list) {
+        for (SemType t : list) {
+            if (!Core.isReadOnly(t)) {
+                return false;
+            }
+        }
+        return true;
     }
 }
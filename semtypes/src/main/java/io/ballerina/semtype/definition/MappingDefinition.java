@@ -17,9 +17,23 @@
  */
 package io.ballerina.semtype.definition;
 
+import io.ballerina.semtype.Atom;
+import io.ballerina.semtype.ComplexSemType;
+import io.ballerina.semtype.Core;
 import io.ballerina.semtype.Definition;
 import io.ballerina.semtype.Env;
+import io.ballerina.semtype.MappingAtomicType;
+import io.ballerina.semtype.PredefinedType;
+import io.ballerina.semtype.RecAtom;
 import io.ballerina.semtype.SemType;
+import io.ballerina.semtype.UniformSubtype;
+import io.ballerina.semtype.UniformTypeCode;
+import io.ballerina.semtype.subtypedata.BddNode;
+import io.ballerina.semtype.typeops.BddCommonOps;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * Represent mapping type desc.
@@ -27,8 +41,84 @@ import io.ballerina.semtype.SemType;
  * @since 2.0.0
  */
 public class MappingDefinition implements Definition {
+    private RecAtom roRec = null;
+    private RecAtom rwRec = null;
+    private ComplexSemType semType = null;
+
     @Override
     public SemType getSemType(Env env) {
-        throw new AssertionError();
+        ComplexSemType s = this.semType;
+        if (s == null) {
+            RecAtom ro = env.recMappingAtom();
+            RecAtom rw = env.recMappingAtom();
+            this.roRec = ro;
+            this.rwRec = rw;
+            return this.createSemType(ro, rw);
+        }
+        return s;
+    }
+
+    public ComplexSemType define(Env env, List<Field> fields, SemType rest) {
+        List<Field> sortedFields = new ArrayList<>(fields);
+        sortedFields.sort(Comparator.comparing(field -> field.name));
+        String[] names = new String[sortedFields.size()];
+        SemType[] types = new SemType[sortedFields.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = sortedFields.get(i).name;
+            types[i] = sortedFields.get(i).type;
+        }
+        MappingAtomicType rwType = new MappingAtomicType(names, types, rest);
+        Atom rw;
+        RecAtom rwRec = this.rwRec;
+        if (rwRec != null) {
+            rw = rwRec;
+            env.setRecMappingAtomType(rwRec, rwType);
+        } else {
+            rw = env.mappingAtom(rwType);
+        }
+        Atom ro;
+        MappingAtomicType roType = readOnlyMappingAtomicType(rwType);
+        RecAtom roRec = this.roRec;
+        if (roRec != null) {
+            ro = roRec;
+            env.setRecMappingAtomType(roRec, roType);
+        } else if (roType == rwType) {
+            // share the definitions
+            ro = rw;
+        } else {
+            ro = env.mappingAtom(roType);
+        }
+        return this.createSemType(ro, rw);
+    }
+
+    private ComplexSemType createSemType(Atom ro, Atom rw) {
+        BddNode roBdd = BddCommonOps.bddAtom(ro);
+        BddNode rwBdd;
+        if (BddCommonOps.atomCmp(ro, rw) == 0) {
+            // share the BDD
+            rwBdd = roBdd;
+        } else {
+            rwBdd = BddCommonOps.bddAtom(rw);
+        }
+        ComplexSemType s = ComplexSemType.createComplexSemType(0,
+                new UniformSubtype(UniformTypeCode.UT_MAPPING_RO, roBdd),
+                new UniformSubtype(UniformTypeCode.UT_MAPPING_RW, rwBdd));
+        this.semType = s;
+        return s;
+    }
+
+    private static MappingAtomicType readOnlyMappingAtomicType(MappingAtomicType ty) {
+        boolean isReadOnly = Core.isReadOnly(ty.rest);
+        for (SemType t : ty.types) {
+            isReadOnly &= Core.isReadOnly(t);
+        }
+        if (isReadOnly) {
+            return ty;
+        }
+        SemType[] types = new SemType[ty.types.length];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = Core.intersect(ty.types[i], PredefinedType.READONLY);
+        }
+        return new MappingAtomicType(ty.names, types, Core.intersect(ty.rest, PredefinedType.READONLY));
     }
 }
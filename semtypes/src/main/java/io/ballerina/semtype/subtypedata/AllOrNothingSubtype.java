@@ -26,6 +26,9 @@ import io.ballerina.semtype.SubtypeData;
  * @since 2.0.0
  */
 public class AllOrNothingSubtype implements SubtypeData {
+    private static final AllOrNothingSubtype ALL = new AllOrNothingSubtype(true);
+    private static final AllOrNothingSubtype NOTHING = new AllOrNothingSubtype(false);
+
     private final boolean isAll;
 
     private AllOrNothingSubtype(boolean isAll) {
@@ -33,11 +36,11 @@ public class AllOrNothingSubtype implements SubtypeData {
     }
 
     public static AllOrNothingSubtype createAll() {
-        return new AllOrNothingSubtype(true);
+        return ALL;
     }
 
     public static AllOrNothingSubtype createNothing() {
-        return new AllOrNothingSubtype(false);
+        return NOTHING;
     }
 
     public boolean isAllSubtype() {
@@ -20,14 +20,68 @@ package io.ballerina.semtype.subtypedata;
 import io.ballerina.semtype.Atom;
 import io.ballerina.semtype.Bdd;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
  * Bdd node.
+ * <p>
+ * Nodes are hash-consed: {@link #create} returns the existing node for an atom and children that are already in use,
+ * so two nodes denote the same BDD only if they are the same object. Nodes are kept in the table only while they are
+ * reachable from elsewhere.
  *
  * @since 2.0.0
  */
 public class BddNode implements Bdd {
-    Atom atom;
-    BddNode left;
-    BddNode middle;
-    BddNode right;
+    private static final Map<BddNode, WeakReference<BddNode>> UNIQUE_TABLE = new WeakHashMap<>();
+
+    public final Atom atom;
+    public final Bdd left;
+    public final Bdd middle;
+    public final Bdd right;
+    private final int hash;
+
+    private BddNode(Atom atom, Bdd left, Bdd middle, Bdd right) {
+        this.atom = atom;
+        this.left = left;
+        this.middle = middle;
+        this.right = right;
+        this.hash = 31 * (31 * (31 * atom.hashCode() + System.identityHashCode(left)) +
+                System.identityHashCode(middle)) + System.identityHashCode(right);
+    }
+
+    public static BddNode create(Atom atom, Bdd left, Bdd middle, Bdd right) {
+        BddNode node = new BddNode(atom, left, middle, right);
+        synchronized (UNIQUE_TABLE) {
+            WeakReference<BddNode> existing = UNIQUE_TABLE.get(node);
+            if (existing != null) {
+                BddNode existingNode = existing.get();
+                if (existingNode != null) {
+                    return existingNode;
+                }
+            }
+            UNIQUE_TABLE.put(node, new WeakReference<>(node));
+        }
+        return node;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BddNode)) {
+            return false;
+        }
+        // The children are hash-consed, so they are compared by identity.
+        BddNode that = (BddNode) o;
+        return this.left == that.left && this.middle == that.middle && this.right == that.right &&
+                this.atom.equals(that.atom);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
 }
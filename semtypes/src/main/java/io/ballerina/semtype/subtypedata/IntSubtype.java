@@ -133,6 +133,16 @@ public class IntSubtype implements ProperSubtypeData {
         return Optional.of(min);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof IntSubtype && Arrays.equals(this.ranges, ((IntSubtype) o).ranges);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.ranges);
+    }
+
     /**
      * Int Range node.
      */
@@ -144,5 +154,19 @@ public class IntSubtype implements ProperSubtypeData {
             this.min = min;
             this.max = max;
         }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Range)) {
+                return false;
+            }
+            Range that = (Range) o;
+            return this.min == that.min && this.max == that.max;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(this.min) + Long.hashCode(this.max);
+        }
     }
 }
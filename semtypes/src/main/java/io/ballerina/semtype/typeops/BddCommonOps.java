@@ -0,0 +1,309 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype.typeops;
+
+import io.ballerina.semtype.Atom;
+import io.ballerina.semtype.Bdd;
+import io.ballerina.semtype.BddMemo;
+import io.ballerina.semtype.BddMemo.MemoStatus;
+import io.ballerina.semtype.RecAtom;
+import io.ballerina.semtype.TypeAtom;
+import io.ballerina.semtype.TypeCheckContext;
+import io.ballerina.semtype.subtypedata.BddAllOrNothing;
+import io.ballerina.semtype.subtypedata.BddNode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+/**
+ * Operations on BDDs.
+ * <p>
+ * The results of union, intersection and difference of two nodes are kept in a bounded cache keyed on the identity
+ * of the operands, which is sound since the nodes are hash-consed. Without it, combining BDDs that share subgraphs
+ * repeats the work for every path reaching a shared node.
+ *
+ * @since 2.0.0
+ */
+public class BddCommonOps {
+
+    private static final int OP_UNION = 0;
+    private static final int OP_INTERSECT = 1;
+    private static final int OP_DIFF = 2;
+    private static final int OP_CACHE_SIZE = 1 << 14;
+    private static final OpCacheEntry[] OP_CACHE = new OpCacheEntry[OP_CACHE_SIZE];
+
+    private BddCommonOps() {
+    }
+
+    public static BddNode bddAtom(Atom atom) {
+        return BddNode.create(atom, BddAllOrNothing.bddAll(), BddAllOrNothing.bddNothing(),
+                BddAllOrNothing.bddNothing());
+    }
+
+    public static Bdd bddUnion(Bdd b1, Bdd b2) {
+        if (b1 == b2) {
+            return b1;
+        } else if (b1 instanceof BddAllOrNothing) {
+            return ((BddAllOrNothing) b1).isAll() ? b1 : b2;
+        } else if (b2 instanceof BddAllOrNothing) {
+            return ((BddAllOrNothing) b2).isAll() ? b2 : b1;
+        }
+        Bdd cached = lookUp(OP_UNION, b1, b2);
+        if (cached != null) {
+            return cached;
+        }
+        BddNode n1 = (BddNode) b1;
+        BddNode n2 = (BddNode) b2;
+        Bdd result;
+        long cmp = atomCmp(n1.atom, n2.atom);
+        if (cmp < 0L) {
+            result = bddCreate(n1.atom, n1.left, bddUnion(n1.middle, b2), n1.right);
+        } else if (cmp > 0L) {
+            result = bddCreate(n2.atom, n2.left, bddUnion(b1, n2.middle), n2.right);
+        } else {
+            result = bddCreate(n1.atom, bddUnion(n1.left, n2.left), bddUnion(n1.middle, n2.middle),
+                    bddUnion(n1.right, n2.right));
+        }
+        return store(OP_UNION, b1, b2, result);
+    }
+
+    public static Bdd bddIntersect(Bdd b1, Bdd b2) {
+        if (b1 == b2) {
+            return b1;
+        } else if (b1 instanceof BddAllOrNothing) {
+            return ((BddAllOrNothing) b1).isAll() ? b2 : b1;
+        } else if (b2 instanceof BddAllOrNothing) {
+            return ((BddAllOrNothing) b2).isAll() ? b1 : b2;
+        }
+        Bdd cached = lookUp(OP_INTERSECT, b1, b2);
+        if (cached != null) {
+            return cached;
+        }
+        BddNode n1 = (BddNode) b1;
+        BddNode n2 = (BddNode) b2;
+        Bdd result;
+        long cmp = atomCmp(n1.atom, n2.atom);
+        if (cmp < 0L) {
+            result = bddCreate(n1.atom, bddIntersect(n1.left, b2), bddIntersect(n1.middle, b2),
+                    bddIntersect(n1.right, b2));
+        } else if (cmp > 0L) {
+            result = bddCreate(n2.atom, bddIntersect(b1, n2.left), bddIntersect(b1, n2.middle),
+                    bddIntersect(b1, n2.right));
+        } else {
+            result = bddCreate(n1.atom,
+                    bddIntersect(bddUnion(n1.left, n1.middle), bddUnion(n2.left, n2.middle)),
+                    BddAllOrNothing.bddNothing(),
+                    bddIntersect(bddUnion(n1.right, n1.middle), bddUnion(n2.right, n2.middle)));
+        }
+        return store(OP_INTERSECT, b1, b2, result);
+    }
+
+    public static Bdd bddDiff(Bdd b1, Bdd b2) {
+        if (b1 == b2) {
+            return BddAllOrNothing.bddNothing();
+        } else if (b2 instanceof BddAllOrNothing) {
+            return ((BddAllOrNothing) b2).isAll() ? BddAllOrNothing.bddNothing() : b1;
+        } else if (b1 instanceof BddAllOrNothing) {
+            return ((BddAllOrNothing) b1).isAll() ? bddComplement(b2) : b1;
+        }
+        Bdd cached = lookUp(OP_DIFF, b1, b2);
+        if (cached != null) {
+            return cached;
+        }
+        BddNode n1 = (BddNode) b1;
+        BddNode n2 = (BddNode) b2;
+        Bdd result;
+        long cmp = atomCmp(n1.atom, n2.atom);
+        if (cmp < 0L) {
+            result = bddCreate(n1.atom, bddDiff(bddUnion(n1.left, n1.middle), b2), BddAllOrNothing.bddNothing(),
+                    bddDiff(bddUnion(n1.right, n1.middle), b2));
+        } else if (cmp > 0L) {
+            result = bddCreate(n2.atom, bddDiff(b1, bddUnion(n2.left, n2.middle)), BddAllOrNothing.bddNothing(),
+                    bddDiff(b1, bddUnion(n2.right, n2.middle)));
+        } else {
+            // There is an error in the Castagna paper for this formula.
+            // The union needs to be materialized here.
+            // The original formula does not work in a case like (a0|a1) - a0.
+            // Castagna confirms that the following formula is the correct one.
+            result = bddCreate(n1.atom,
+                    bddDiff(bddUnion(n1.left, n1.middle), bddUnion(n2.left, n2.middle)),
+                    BddAllOrNothing.bddNothing(),
+                    bddDiff(bddUnion(n1.right, n1.middle), bddUnion(n2.right, n2.middle)));
+        }
+        return store(OP_DIFF, b1, b2, result);
+    }
+
+    public static Bdd bddComplement(Bdd b) {
+        if (b instanceof BddAllOrNothing) {
+            return ((BddAllOrNothing) b).complement();
+        }
+        return bddNodeComplement((BddNode) b);
+    }
+
+    private static Bdd bddNodeComplement(BddNode b) {
+        BddAllOrNothing bddFalse = BddAllOrNothing.bddNothing();
+        if (b.right == bddFalse) {
+            return bddCreate(b.atom, bddFalse, bddComplement(bddUnion(b.left, b.middle)), bddComplement(b.middle));
+        } else if (b.left == bddFalse) {
+            return bddCreate(b.atom, bddComplement(b.middle), bddComplement(bddUnion(b.right, b.middle)), bddFalse);
+        } else if (b.middle == bddFalse) {
+            return bddCreate(b.atom, bddComplement(b.left), bddComplement(bddUnion(b.left, b.right)),
+                    bddComplement(b.right));
+        } else {
+            // There is a typo in the Frisch PhD thesis for this formula.
+            // (It has left and right swapped.)
+            // Castagna (the PhD supervisor) confirms that this is the correct formula.
+            return bddCreate(b.atom, bddComplement(bddUnion(b.left, b.middle)), bddFalse,
+                    bddComplement(bddUnion(b.right, b.middle)));
+        }
+    }
+
+    private static Bdd bddCreate(Atom atom, Bdd left, Bdd middle, Bdd right) {
+        if (middle == BddAllOrNothing.bddAll()) {
+            return middle;
+        }
+        if (left == right) {
+            return bddUnion(left, middle);
+        }
+        return BddNode.create(atom, left, middle, right);
+    }
+
+    // order RecAtom < TypeAtom
+    public static long atomCmp(Atom a1, Atom a2) {
+        if (a1 instanceof RecAtom) {
+            if (a2 instanceof RecAtom) {
+                return (long) ((RecAtom) a1).index - ((RecAtom) a2).index;
+            }
+            return -1L;
+        } else if (a2 instanceof RecAtom) {
+            return 1L;
+        }
+        return Long.compare(((TypeAtom) a1).index, ((TypeAtom) a2).index);
+    }
+
+    public static boolean bddEvery(TypeCheckContext tc, Bdd b, Conjunction pos, Conjunction neg,
+                                   BddPredicate predicate) {
+        if (b instanceof BddAllOrNothing) {
+            return !((BddAllOrNothing) b).isAll() || predicate.apply(tc, pos, neg);
+        }
+        BddNode bn = (BddNode) b;
+        return bddEvery(tc, bn.left, Conjunction.and(bn.atom, pos), neg, predicate)
+                && bddEvery(tc, bn.middle, pos, neg, predicate)
+                && bddEvery(tc, bn.right, pos, Conjunction.and(bn.atom, neg), predicate);
+    }
+
+    // If the BDD has a path without a positive atom, constrains it by the read-only atom at index 0.
+    public static Bdd bddFixReadOnly(Bdd b) {
+        return bddPosMaybeEmpty(b) ? bddIntersect(b, bddAtom(RecAtom.createRecAtom(0))) : b;
+    }
+
+    private static boolean bddPosMaybeEmpty(Bdd b) {
+        if (b instanceof BddAllOrNothing) {
+            return ((BddAllOrNothing) b).isAll();
+        }
+        BddNode bn = (BddNode) b;
+        return bddPosMaybeEmpty(bn.middle) || bddPosMaybeEmpty(bn.right);
+    }
+
+    /**
+     * Checks whether a BDD is empty, memoizing the result in the given table of the context.
+     * <p>
+     * A BDD reached again while its own check is in progress is taken to be empty, since types are defined
+     * inductively. A BDD found empty under such an assumption stays provisional on the memo stack until the check it
+     * depends on is complete: it is confirmed if that check finds its BDD empty too, and discarded otherwise.
+     *
+     * @param tc               type check context
+     * @param memoTable        memo table of the kind of the BDD
+     * @param isEmptyPredicate checks the emptiness of the BDD
+     * @param b                BDD to check
+     * @return true if the BDD is empty
+     */
+    public static boolean memoSubtypeIsEmpty(TypeCheckContext tc, Map<Bdd, BddMemo> memoTable,
+                                             BiPredicate<TypeCheckContext, Bdd> isEmptyPredicate, Bdd b) {
+        BddMemo m = memoTable.get(b);
+        if (m != null) {
+            switch (m.isEmpty) {
+                case TRUE:
+                    return true;
+                case FALSE:
+                    return false;
+                case LOOP:
+                case CYCLIC:
+                    m.isEmpty = MemoStatus.CYCLIC;
+                    return true;
+                case PROVISIONAL:
+                    return true;
+                default:
+                    break;
+            }
+        } else {
+            m = new BddMemo(b);
+            memoTable.put(b, m);
+        }
+        m.isEmpty = MemoStatus.LOOP;
+        List<BddMemo> memoStack = tc.memoStack;
+        int initStackDepth = memoStack.size();
+        memoStack.add(m);
+        boolean isEmpty = isEmptyPredicate.test(tc, b);
+        if (!isEmpty || initStackDepth == 0) {
+            for (int i = initStackDepth + 1; i < memoStack.size(); i++) {
+                BddMemo provisional = memoStack.get(i);
+                provisional.isEmpty = isEmpty ? MemoStatus.TRUE : MemoStatus.NOT_SET;
+            }
+            memoStack.subList(initStackDepth, memoStack.size()).clear();
+            m.isEmpty = isEmpty ? MemoStatus.TRUE : MemoStatus.FALSE;
+        } else {
+            m.isEmpty = MemoStatus.PROVISIONAL;
+        }
+        return isEmpty;
+    }
+
+    private static Bdd lookUp(int op, Bdd b1, Bdd b2) {
+        OpCacheEntry entry = OP_CACHE[indexOf(op, b1, b2)];
+        if (entry == null || entry.op != op || entry.b1 != b1 || entry.b2 != b2) {
+            return null;
+        }
+        return entry.result;
+    }
+
+    private static Bdd store(int op, Bdd b1, Bdd b2, Bdd result) {
+        OP_CACHE[indexOf(op, b1, b2)] = new OpCacheEntry(op, b1, b2, result);
+        return result;
+    }
+
+    private static int indexOf(int op, Bdd b1, Bdd b2) {
+        int hash = (b1.hashCode() * 31 + b2.hashCode()) * 31 + op;
+        return (hash ^ (hash >>> 16)) & (OP_CACHE_SIZE - 1);
+    }
+
+    // Entries are immutable, so the cache is shared by threads without locking; a racing write loses an entry.
+    private static class OpCacheEntry {
+        private final int op;
+        private final Bdd b1;
+        private final Bdd b2;
+        private final Bdd result;
+
+        private OpCacheEntry(int op, Bdd b1, Bdd b2, Bdd result) {
+            this.op = op;
+            this.b1 = b1;
+            this.b2 = b2;
+            this.result = result;
+        }
+    }
+}
@@ -17,32 +17,44 @@
  */
 package io.ballerina.semtype.typeops;
 
+import io.ballerina.semtype.Bdd;
 import io.ballerina.semtype.CommonUniformTypeOps;
 import io.ballerina.semtype.SubtypeData;
+import io.ballerina.semtype.subtypedata.AllOrNothingSubtype;
+import io.ballerina.semtype.subtypedata.BddAllOrNothing;
 
 /**
  * Common methods operate on SubtypeData.
+ * The subtype data of the uniform types using these operations are BDDs.
  *
  * @since 2.0.0
  */
 public abstract class CommonOps implements CommonUniformTypeOps {
     @Override
     public SubtypeData union(SubtypeData t1, SubtypeData t2) {
-        throw new AssertionError();
+        return bddSubtypeData(BddCommonOps.bddUnion((Bdd) t1, (Bdd) t2));
     }
 
     @Override
     public SubtypeData intersect(SubtypeData t1, SubtypeData t2) {
-        throw new AssertionError();
+        return bddSubtypeData(BddCommonOps.bddIntersect((Bdd) t1, (Bdd) t2));
     }
 
     @Override
     public SubtypeData diff(SubtypeData t1, SubtypeData t2) {
-        throw new AssertionError();
+        return bddSubtypeData(BddCommonOps.bddDiff((Bdd) t1, (Bdd) t2));
     }
 
     @Override
     public SubtypeData complement(SubtypeData t) {
-        throw new AssertionError();
+        return bddSubtypeData(BddCommonOps.bddComplement((Bdd) t));
+    }
+
+    private static SubtypeData bddSubtypeData(Bdd b) {
+        if (b instanceof BddAllOrNothing) {
+            return ((BddAllOrNothing) b).isAll() ? AllOrNothingSubtype.createAll() :
+                    AllOrNothingSubtype.createNothing();
+        }
+        return b;
     }
 }
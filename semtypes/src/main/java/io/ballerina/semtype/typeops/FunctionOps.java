@@ -17,6 +17,11 @@
  */
 package io.ballerina.semtype.typeops;
 
+import io.ballerina.semtype.Bdd;
+import io.ballerina.semtype.Core;
+import io.ballerina.semtype.FunctionAtomicType;
+import io.ballerina.semtype.PredefinedType;
+import io.ballerina.semtype.SemType;
 import io.ballerina.semtype.SubtypeData;
 import io.ballerina.semtype.TypeCheckContext;
 import io.ballerina.semtype.UniformTypeOps;
@@ -29,6 +34,47 @@ import io.ballerina.semtype.UniformTypeOps;
 public class FunctionOps extends CommonOps implements UniformTypeOps {
     @Override
     public boolean isEmpty(TypeCheckContext tc, SubtypeData t) {
-        throw new AssertionError();
+        return BddCommonOps.memoSubtypeIsEmpty(tc, tc.functionMemo,
+                (cx, bdd) -> BddCommonOps.bddEvery(cx, bdd, null, null, FunctionOps::functionFormulaIsEmpty),
+                (Bdd) t);
+    }
+
+    private static boolean functionFormulaIsEmpty(TypeCheckContext tc, Conjunction pos, Conjunction neg) {
+        return functionPathIsEmpty(tc, functionUnionParams(tc, pos), pos, neg);
+    }
+
+    private static boolean functionPathIsEmpty(TypeCheckContext tc, SemType params, Conjunction pos,
+                                               Conjunction neg) {
+        while (neg != null) {
+            FunctionAtomicType t = tc.functionAtomType(neg.atom);
+            if (Core.isSubtype(tc, t.paramType, params) &&
+                    functionTheta(tc, t.paramType, Core.complement(t.retType), pos)) {
+                return true;
+            }
+            neg = neg.next;
+        }
+        return false;
+    }
+
+    // Corresponds to phi' in AMK tutorial.
+    private static boolean functionTheta(TypeCheckContext tc, SemType t0, SemType t1, Conjunction pos) {
+        if (pos == null) {
+            return Core.isEmpty(tc, t0) || Core.isEmpty(tc, t1);
+        }
+        // t0 is type of parameter, t1 is return type
+        FunctionAtomicType s = tc.functionAtomType(pos.atom);
+        return (Core.isSubtype(tc, t0, s.paramType) ||
+                functionTheta(tc, Core.diff(t0, s.paramType), t1, pos.next))
+                && (Core.isSubtype(tc, t1, Core.complement(s.retType)) ||
+                functionTheta(tc, t0, Core.intersect(t1, s.retType), pos.next));
+    }
+
+    private static SemType functionUnionParams(TypeCheckContext tc, Conjunction pos) {
+        SemType params = PredefinedType.NEVER;
+        while (pos != null) {
+            params = Core.union(params, tc.functionAtomType(pos.atom).paramType);
+            pos = pos.next;
+        }
+        return params;
     }
 }
@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype.typeops;
+
+import io.ballerina.semtype.Bdd;
+import io.ballerina.semtype.Core;
+import io.ballerina.semtype.ListAtomicType;
+import io.ballerina.semtype.PredefinedType;
+import io.ballerina.semtype.SemType;
+import io.ballerina.semtype.TypeCheckContext;
+import io.ballerina.semtype.UniformTypeOps;
+
+import java.util.Arrays;
+
+/**
+ * Common list related methods operate on SubtypeData.
+ *
+ * @since 2.0.0
+ */
+public abstract class ListCommonOps extends CommonOps implements UniformTypeOps {
+
+    static boolean listSubtypeIsEmpty(TypeCheckContext tc, Bdd b) {
+        return BddCommonOps.memoSubtypeIsEmpty(tc, tc.listMemo,
+                (cx, bdd) -> BddCommonOps.bddEvery(cx, bdd, null, null, ListCommonOps::listFormulaIsEmpty), b);
+    }
+
+    static boolean listFormulaIsEmpty(TypeCheckContext tc, Conjunction pos, Conjunction neg) {
+        SemType[] members;
+        SemType rest;
+        if (pos == null) {
+            members = new SemType[0];
+            rest = PredefinedType.TOP;
+        } else {
+            // combine all the positive tuples using intersection
+            ListAtomicType lt = tc.listAtomType(pos.atom);
+            members = lt.members;
+            rest = lt.rest;
+            Conjunction p = pos.next;
+            if (p != null) {
+                members = members.clone();
+            }
+            while (p != null) {
+                lt = tc.listAtomType(p.atom);
+                p = p.next;
+                int newLen = Math.max(members.length, lt.members.length);
+                if (members.length < newLen) {
+                    if (Core.isNever(rest)) {
+                        return true;
+                    }
+                    members = withLength(members, newLen, rest);
+                }
+                for (int i = 0; i < lt.members.length; i++) {
+                    members[i] = Core.intersect(members[i], lt.members[i]);
+                }
+                if (lt.members.length < newLen) {
+                    if (Core.isNever(lt.rest)) {
+                        return true;
+                    }
+                    for (int i = lt.members.length; i < newLen; i++) {
+                        members[i] = Core.intersect(members[i], lt.rest);
+                    }
+                }
+                rest = Core.intersect(rest, lt.rest);
+            }
+            for (SemType m : members) {
+                if (Core.isEmpty(tc, m)) {
+                    return true;
+                }
+            }
+        }
+        return !listInhabited(tc, members, rest, neg);
+    }
+
+    // This function returns true if there is a list shape v such that
+    // is in the type described by `members` and `rest`, and
+    // for each tuple t in `neg`, v is not in t.
+    // `neg` represents a set of negated list types.
+    // Precondition is that each of `members` is not empty.
+    // This is formula Phi' in section 7.3.1 of Alain Frisch's PhD thesis,
+    // generalized to tuples of arbitrary length.
+    static boolean listInhabited(TypeCheckContext tc, SemType[] members, SemType rest, Conjunction neg) {
+        if (neg == null) {
+            return true;
+        }
+        int len = members.length;
+        ListAtomicType nt = tc.listAtomType(neg.atom);
+        int negLen = nt.members.length;
+        if (len < negLen) {
+            if (Core.isNever(rest)) {
+                return listInhabited(tc, members, rest, neg.next);
+            }
+            // A list shorter than the negated tuple is not in it.
+            for (int shortLen = len; shortLen < negLen; shortLen++) {
+                if (listInhabited(tc, withLength(members, shortLen, rest), PredefinedType.NEVER, neg.next)) {
+                    return true;
+                }
+            }
+            members = withLength(members, negLen, rest);
+            len = negLen;
+        } else if (negLen < len && Core.isNever(nt.rest)) {
+            return listInhabited(tc, members, rest, neg.next);
+        }
+        // now we have nt.members.length <= len
+
+        // This is the heart of the algorithm.
+        // For [v0, v1] not to be in [t0,t1], there are two possibilities
+        // (1) v0 is not in t0, or
+        // (2) v1 is not in t1
+        // Case (1)
+        // For v0 to be in s0 but not t0, d0 must not be empty.
+        // We must then find a [v0,v1] satisfying the remaining negated tuples,
+        // such that v0 is in d0.
+        // Case (2)
+        // For v1 to be in s1 but not t1, d1 must not be empty.
+        // We must then find a [v0,v1] satisfying the remaining negated tuples,
+        // such that v1 is in d1.
+        // We can generalize this to tuples of arbitrary length.
+        for (int i = 0; i < len; i++) {
+            SemType ntm = i < negLen ? nt.members[i] : nt.rest;
+            SemType d = Core.diff(members[i], ntm);
+            if (!Core.isEmpty(tc, d)) {
+                SemType[] s = members.clone();
+                s[i] = d;
+                if (listInhabited(tc, s, rest, neg.next)) {
+                    return true;
+                }
+            }
+        }
+        // A longer list with a member that is not in the rest of the negated tuple is not in it.
+        // The remaining negated tuples treat all the members past their longest member list alike, so such a member
+        // only needs to be tried at each position up to that length.
+        SemType d = Core.diff(rest, nt.rest);
+        if (Core.isEmpty(tc, d)) {
+            return false;
+        }
+        int maxLen = len;
+        for (Conjunction n = neg.next; n != null; n = n.next) {
+            maxLen = Math.max(maxLen, tc.listAtomType(n.atom).members.length);
+        }
+        for (int i = len; i <= maxLen; i++) {
+            SemType[] s = withLength(members, i + 1, rest);
+            s[i] = d;
+            if (listInhabited(tc, s, rest, neg.next)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static SemType[] withLength(SemType[] members, int length, SemType rest) {
+        SemType[] result = Arrays.copyOf(members, length);
+        if (length > members.length) {
+            Arrays.fill(result, members.length, length, rest);
+        }
+        return result;
+    }
+}
@@ -17,18 +17,18 @@
  */
 package io.ballerina.semtype.typeops;
 
+import io.ballerina.semtype.Bdd;
 import io.ballerina.semtype.SubtypeData;
 import io.ballerina.semtype.TypeCheckContext;
-import io.ballerina.semtype.UniformTypeOps;
 
 /**
  * List read/write specific methods operate on SubtypeData.
  *
  * @since 2.0.0
  */
-public class ListTypeRWOps extends CommonOps implements UniformTypeOps {
+public class ListTypeRWOps extends ListCommonOps {
     @Override
     public boolean isEmpty(TypeCheckContext tc, SubtypeData t) {
-        throw new AssertionError();
+        return listSubtypeIsEmpty(tc, (Bdd) t);
     }
 }
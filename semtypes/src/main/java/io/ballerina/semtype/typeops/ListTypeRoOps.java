@@ -17,18 +17,18 @@
  */
 package io.ballerina.semtype.typeops;
 
+import io.ballerina.semtype.Bdd;
 import io.ballerina.semtype.SubtypeData;
 import io.ballerina.semtype.TypeCheckContext;
-import io.ballerina.semtype.UniformTypeOps;
 
 /**
  * List readonly specific methods operate on SubtypeData.
  *
  * @since 2.0.0
  */
-public class ListTypeRoOps  extends CommonOps implements UniformTypeOps {
+public class ListTypeRoOps extends ListCommonOps {
     @Override
     public boolean isEmpty(TypeCheckContext tc, SubtypeData t) {
-        throw new AssertionError();
+        return listSubtypeIsEmpty(tc, BddCommonOps.bddFixReadOnly((Bdd) t));
     }
 }
@@ -17,9 +17,18 @@
  */
 package io.ballerina.semtype.typeops;
 
+import io.ballerina.semtype.Bdd;
+import io.ballerina.semtype.Core;
+import io.ballerina.semtype.MappingAtomicType;
+import io.ballerina.semtype.PredefinedType;
+import io.ballerina.semtype.SemType;
+import io.ballerina.semtype.TypeCheckContext;
 import io.ballerina.semtype.UniformTypeOps;
 
-// todo: use this to place common things between Ro and RW, if there are non; delete this.
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Common mapping related methods operate on SubtypeData.
  *
@@ -27,4 +36,149 @@ import io.ballerina.semtype.UniformTypeOps;
  */
 public abstract class MappingCommonOps extends CommonOps implements UniformTypeOps {
 
+    static boolean mappingSubtypeIsEmpty(TypeCheckContext tc, Bdd b) {
+        return BddCommonOps.memoSubtypeIsEmpty(tc, tc.mappingMemo,
+                (cx, bdd) -> BddCommonOps.bddEvery(cx, bdd, null, null, MappingCommonOps::mappingFormulaIsEmpty), b);
+    }
+
+    static boolean mappingFormulaIsEmpty(TypeCheckContext tc, Conjunction posList, Conjunction negList) {
+        MappingAtomicType combined;
+        if (posList == null) {
+            combined = new MappingAtomicType(new String[0], new SemType[0], PredefinedType.TOP);
+        } else {
+            // combine all the positive atoms using intersection
+            combined = tc.mappingAtomType(posList.atom);
+            Conjunction p = posList.next;
+            while (p != null) {
+                combined = intersectMapping(combined, tc.mappingAtomType(p.atom));
+                if (combined == null) {
+                    return true;
+                }
+                p = p.next;
+            }
+            for (SemType t : combined.types) {
+                if (Core.isEmpty(tc, t)) {
+                    return true;
+                }
+            }
+        }
+        return !mappingInhabited(tc, combined, negList);
+    }
+
+    private static boolean mappingInhabited(TypeCheckContext tc, MappingAtomicType pos, Conjunction negList) {
+        if (negList == null) {
+            return true;
+        }
+        MappingAtomicType neg = tc.mappingAtomType(negList.atom);
+        List<FieldPair> pairing = pairFields(pos, neg);
+        if (!Arrays.equals(pos.names, neg.names)) {
+            // If this negative type has required fields that the positive one does not allow
+            // or vice-versa, then this negative type has no effect,
+            // so we can move on to the next one
+
+            // Deal the easy case of two closed records fast.
+            if (Core.isNever(pos.rest) && Core.isNever(neg.rest)) {
+                return mappingInhabited(tc, pos, negList.next);
+            }
+            for (FieldPair fieldPair : pairing) {
+                if (Core.isNever(fieldPair.type1) || Core.isNever(fieldPair.type2)) {
+                    return mappingInhabited(tc, pos, negList.next);
+                }
+            }
+        }
+        if (!Core.isEmpty(tc, Core.diff(pos.rest, neg.rest))) {
+            return true;
+        }
+        for (FieldPair fieldPair : pairing) {
+            SemType d = Core.diff(fieldPair.type1, fieldPair.type2);
+            if (!Core.isEmpty(tc, d)) {
+                MappingAtomicType mt;
+                if (fieldPair.index1 < 0) {
+                    // the positive type did not have an individual field for this name
+                    mt = insertField(pos, fieldPair.name, d);
+                } else {
+                    SemType[] posTypes = pos.types.clone();
+                    posTypes[fieldPair.index1] = d;
+                    mt = new MappingAtomicType(pos.names, posTypes, pos.rest);
+                }
+                if (mappingInhabited(tc, mt, negList.next)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static MappingAtomicType intersectMapping(MappingAtomicType m1, MappingAtomicType m2) {
+        List<FieldPair> pairing = pairFields(m1, m2);
+        String[] names = new String[pairing.size()];
+        SemType[] types = new SemType[pairing.size()];
+        for (int i = 0; i < names.length; i++) {
+            FieldPair fieldPair = pairing.get(i);
+            SemType t = Core.intersect(fieldPair.type1, fieldPair.type2);
+            if (Core.isNever(t)) {
+                return null;
+            }
+            names[i] = fieldPair.name;
+            types[i] = t;
+        }
+        return new MappingAtomicType(names, types, Core.intersect(m1.rest, m2.rest));
+    }
+
+    private static MappingAtomicType insertField(MappingAtomicType m, String name, SemType t) {
+        int index = -Arrays.binarySearch(m.names, name) - 1;
+        String[] names = new String[m.names.length + 1];
+        SemType[] types = new SemType[m.types.length + 1];
+        System.arraycopy(m.names, 0, names, 0, index);
+        System.arraycopy(m.types, 0, types, 0, index);
+        names[index] = name;
+        types[index] = t;
+        System.arraycopy(m.names, index, names, index + 1, m.names.length - index);
+        System.arraycopy(m.types, index, types, index + 1, m.types.length - index);
+        return new MappingAtomicType(names, types, m.rest);
+    }
+
+    // Pairs the fields of two mapping types by name, using the rest type of a mapping that has no such field.
+    private static List<FieldPair> pairFields(MappingAtomicType m1, MappingAtomicType m2) {
+        List<FieldPair> pairs = new ArrayList<>(Math.max(m1.names.length, m2.names.length));
+        int i1 = 0;
+        int i2 = 0;
+        while (i1 < m1.names.length || i2 < m2.names.length) {
+            int cmp;
+            if (i1 == m1.names.length) {
+                cmp = 1;
+            } else if (i2 == m2.names.length) {
+                cmp = -1;
+            } else {
+                cmp = m1.names[i1].compareTo(m2.names[i2]);
+            }
+            if (cmp == 0) {
+                pairs.add(new FieldPair(m1.names[i1], m1.types[i1], m2.types[i2], i1));
+                i1++;
+                i2++;
+            } else if (cmp < 0) {
+                pairs.add(new FieldPair(m1.names[i1], m1.types[i1], m2.rest, i1));
+                i1++;
+            } else {
+                pairs.add(new FieldPair(m2.names[i2], m1.rest, m2.types[i2], -1));
+                i2++;
+            }
+        }
+        return pairs;
+    }
+
+    private static class FieldPair {
+        private final String name;
+        private final SemType type1;
+        private final SemType type2;
+        // index of the field in the first mapping, or -1 if it has no such field
+        private final int index1;
+
+        private FieldPair(String name, SemType type1, SemType type2, int index1) {
+            this.name = name;
+            this.type1 = type1;
+            this.type2 = type2;
+            this.index1 = index1;
+        }
+    }
 }
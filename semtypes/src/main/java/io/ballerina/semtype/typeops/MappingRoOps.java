@@ -17,6 +17,7 @@
  */
 package io.ballerina.semtype.typeops;
 
+import io.ballerina.semtype.Bdd;
 import io.ballerina.semtype.SubtypeData;
 import io.ballerina.semtype.TypeCheckContext;
 
@@ -28,6 +29,6 @@ import io.ballerina.semtype.TypeCheckContext;
 public class MappingRoOps extends MappingCommonOps {
     @Override
     public boolean isEmpty(TypeCheckContext tc, SubtypeData t) {
-        throw new AssertionError();
+        return mappingSubtypeIsEmpty(tc, BddCommonOps.bddFixReadOnly((Bdd) t));
     }
 }
@@ -1,3 +1,4 @@
 module io.ballerina.semtype {
-
+    exports io.ballerina.semtype;
+    exports io.ballerina.semtype.definition;
 }
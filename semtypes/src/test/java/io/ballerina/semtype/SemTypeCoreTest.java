@@ -0,0 +1,229 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype;
+
+import io.ballerina.semtype.definition.Field;
+import io.ballerina.semtype.definition.FunctionDefinition;
+import io.ballerina.semtype.definition.ListDefinition;
+import io.ballerina.semtype.definition.MappingDefinition;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests subtyping of list, mapping and function semtypes.
+ */
+public class SemTypeCoreTest {
+
+    private static final SemType INT_OR_STRING = Core.union(PredefinedType.INT, PredefinedType.STRING);
+
+    private Env env;
+    private TypeCheckContext tc;
+
+    @BeforeMethod
+    public void setUp() {
+        env = new Env();
+        tc = new TypeCheckContext(env);
+    }
+
+    @Test
+    public void testListSubtype() {
+        SemType intString = ListDefinition.tuple(env, PredefinedType.INT, PredefinedType.STRING);
+        SemType stringString = ListDefinition.tuple(env, PredefinedType.STRING, PredefinedType.STRING);
+        SemType intOrStringString = ListDefinition.tuple(env, INT_OR_STRING, PredefinedType.STRING);
+        Assert.assertTrue(Core.isSubtype(tc, intString, intOrStringString));
+        Assert.assertFalse(Core.isSubtype(tc, intOrStringString, intString));
+        Assert.assertTrue(Core.isSubtype(tc, intOrStringString, Core.union(intString, stringString)));
+
+        SemType intArray = new ListDefinition().define(env, new SemType[0], PredefinedType.INT);
+        SemType intOrStringArray = new ListDefinition().define(env, new SemType[0], INT_OR_STRING);
+        SemType atLeastTwoInts = new ListDefinition().define(env,
+                new SemType[]{PredefinedType.INT, PredefinedType.INT}, PredefinedType.INT);
+        Assert.assertTrue(Core.isSubtype(tc, intArray, intOrStringArray));
+        Assert.assertFalse(Core.isSubtype(tc, intOrStringArray, intArray));
+        Assert.assertTrue(Core.isSubtype(tc, atLeastTwoInts, intArray));
+        Assert.assertFalse(Core.isSubtype(tc, intArray, atLeastTwoInts));
+        Assert.assertTrue(Core.isSubtype(tc, Core.intersect(intString, PredefinedType.READONLY), intString));
+    }
+
+    @Test
+    public void testListCoveredBySeveralTuples() {
+        // [int, string...] is the union of [int] and [int, string, string...], but not a subtype of either
+        SemType intThenStrings = new ListDefinition().define(env, new SemType[]{PredefinedType.INT},
+                PredefinedType.STRING);
+        SemType singleInt = ListDefinition.tuple(env, PredefinedType.INT);
+        SemType intThenOneOrMoreStrings = new ListDefinition().define(env,
+                new SemType[]{PredefinedType.INT, PredefinedType.STRING}, PredefinedType.STRING);
+        Assert.assertTrue(Core.isSubtype(tc, intThenStrings, Core.union(singleInt, intThenOneOrMoreStrings)));
+        Assert.assertTrue(Core.isSubtype(tc, intThenStrings, Core.union(intThenOneOrMoreStrings, singleInt)));
+        Assert.assertFalse(Core.isSubtype(tc, intThenStrings, singleInt));
+        Assert.assertFalse(Core.isSubtype(tc, intThenStrings, intThenOneOrMoreStrings));
+
+        SemType intThenTwoOrMoreStrings = new ListDefinition().define(env,
+                new SemType[]{PredefinedType.INT, PredefinedType.STRING, PredefinedType.STRING},
+                PredefinedType.STRING);
+        SemType intString = ListDefinition.tuple(env, PredefinedType.INT, PredefinedType.STRING);
+        Assert.assertTrue(Core.isSubtype(tc, intThenStrings,
+                Core.union(singleInt, Core.union(intString, intThenTwoOrMoreStrings))));
+        Assert.assertFalse(Core.isSubtype(tc, intThenStrings, Core.union(singleInt, intThenTwoOrMoreStrings)));
+
+        // [1, "a"] is neither an int[] nor a list starting with a string
+        SemType intArray = new ListDefinition().define(env, new SemType[0], PredefinedType.INT);
+        SemType intOrStringArray = new ListDefinition().define(env, new SemType[0], INT_OR_STRING);
+        SemType stringFirst = new ListDefinition().define(env, new SemType[]{PredefinedType.STRING}, INT_OR_STRING);
+        Assert.assertFalse(Core.isSubtype(tc, intOrStringArray, Core.union(intArray, stringFirst)));
+        Assert.assertTrue(Core.isSubtype(tc, Core.union(intArray, stringFirst), intOrStringArray));
+    }
+
+    @Test
+    public void testRecursiveListSubtype() {
+        ListDefinition intListDefn = new ListDefinition();
+        SemType intList = Core.union(PredefinedType.NIL, intListDefn.getSemType(env));
+        intListDefn.define(env, new SemType[]{PredefinedType.INT, intList}, PredefinedType.NEVER);
+        ListDefinition intOrStringListDefn = new ListDefinition();
+        SemType intOrStringList = Core.union(PredefinedType.NIL, intOrStringListDefn.getSemType(env));
+        intOrStringListDefn.define(env, new SemType[]{INT_OR_STRING, intOrStringList}, PredefinedType.NEVER);
+        Assert.assertTrue(Core.isSubtype(tc, intList, intOrStringList));
+        Assert.assertFalse(Core.isSubtype(tc, intOrStringList, intList));
+
+        // A list that always has a next list has no finite value.
+        ListDefinition infiniteDefn = new ListDefinition();
+        SemType infinite = infiniteDefn.getSemType(env);
+        infiniteDefn.define(env, new SemType[]{PredefinedType.INT, infinite}, PredefinedType.NEVER);
+        Assert.assertTrue(Core.isEmpty(tc, infinite));
+        Assert.assertTrue(Core.isEmpty(new TypeCheckContext(env), infinite));
+    }
+
+    @Test
+    public void testMappingSubtype() {
+        SemType closedInt = mapping(PredefinedType.NEVER, new Field("a", PredefinedType.INT));
+        SemType closedString = mapping(PredefinedType.NEVER, new Field("a", PredefinedType.STRING));
+        SemType closedIntOrString = mapping(PredefinedType.NEVER, new Field("a", INT_OR_STRING));
+        SemType closedTwoFields = mapping(PredefinedType.NEVER, new Field("a", PredefinedType.INT),
+                new Field("b", PredefinedType.INT));
+        SemType openInt = mapping(PredefinedType.TOP, new Field("a", PredefinedType.INT));
+        Assert.assertTrue(Core.isSubtype(tc, closedInt, closedIntOrString));
+        Assert.assertFalse(Core.isSubtype(tc, closedIntOrString, closedInt));
+        Assert.assertTrue(Core.isSubtype(tc, closedIntOrString, Core.union(closedInt, closedString)));
+        Assert.assertFalse(Core.isSubtype(tc, closedTwoFields, closedInt));
+        Assert.assertTrue(Core.isSubtype(tc, closedTwoFields, openInt));
+        Assert.assertFalse(Core.isSubtype(tc, openInt, closedTwoFields));
+        Assert.assertFalse(Core.isSubtype(tc, closedInt, ListDefinition.tuple(env, PredefinedType.INT)));
+    }
+
+    @Test
+    public void testFunctionSubtype() {
+        SemType wider = new FunctionDefinition(env).define(env, INT_OR_STRING, PredefinedType.INT);
+        SemType narrower = new FunctionDefinition(env).define(env, PredefinedType.INT, INT_OR_STRING);
+        Assert.assertTrue(Core.isSubtype(tc, wider, narrower));
+        Assert.assertFalse(Core.isSubtype(tc, narrower, wider));
+        Assert.assertTrue(Core.isSubtype(tc, narrower, PredefinedType.FUNCTION));
+    }
+
+    @Test
+    public void testDeeplyNestedUnions() {
+        int depth = 12;
+        SemType[] types = nestedUnions(env, depth, 6);
+        Assert.assertTrue(Core.isSubtype(tc, types[0], types[1]));
+        // each level of the unions is checked for emptiness once, instead of once per path reaching it
+        Assert.assertTrue(tc.listMemo.size() <= 2 * depth);
+        Assert.assertTrue(tc.mappingMemo.size() <= 2 * depth);
+        Assert.assertFalse(Core.isSubtype(tc, types[1], types[0]));
+
+        // rebuilding the unions gives the same hash-consed BDDs, so checking them again reuses the memo tables
+        SemType[] rebuilt = nestedUnions(env, depth, 6);
+        assertSameSubtypeData(rebuilt[0], types[0]);
+        assertSameSubtypeData(rebuilt[1], types[1]);
+        int listMemoSize = tc.listMemo.size();
+        int mappingMemoSize = tc.mappingMemo.size();
+        Assert.assertTrue(Core.isSubtype(tc, rebuilt[0], rebuilt[1]));
+        Assert.assertEquals(tc.listMemo.size(), listMemoSize);
+        Assert.assertEquals(tc.mappingMemo.size(), mappingMemoSize);
+    }
+
+    @Test
+    public void testConcurrentTypeChecks() throws Exception {
+        SemType[] expected = nestedUnions(env, 8, 4);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<SemType[]>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> {
+                    TypeCheckContext context = new TypeCheckContext(env);
+                    SemType[] types = nestedUnions(env, 8, 4);
+                    Assert.assertTrue(Core.isSubtype(context, types[0], types[1]));
+                    Assert.assertFalse(Core.isSubtype(context, types[1], types[0]));
+                    return types;
+                }));
+            }
+            for (Future<SemType[]> future : futures) {
+                SemType[] types = future.get();
+                assertSameSubtypeData(types[0], expected[0]);
+                assertSameSubtypeData(types[1], expected[1]);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void assertSameSubtypeData(SemType actual, SemType expected) {
+        SubtypeData[] actualData = ((ComplexSemType) actual).subtypeDataList;
+        SubtypeData[] expectedData = ((ComplexSemType) expected).subtypeDataList;
+        Assert.assertEquals(actualData.length, expectedData.length);
+        for (int i = 0; i < actualData.length; i++) {
+            Assert.assertSame(actualData[i], expectedData[i]);
+        }
+    }
+
+    // Returns a pair of nested unions of tuples and records, where the first has int leaves and the second has
+    // int|string leaves.
+    private static SemType[] nestedUnions(Env env, int depth, int width) {
+        SemType narrow = PredefinedType.INT;
+        SemType wide = INT_OR_STRING;
+        for (int d = 0; d < depth; d++) {
+            SemType nextNarrow = PredefinedType.NIL;
+            SemType nextWide = PredefinedType.NIL;
+            for (int w = 0; w < width; w++) {
+                SemType[] narrowMembers = new SemType[w + 1];
+                SemType[] wideMembers = new SemType[w + 1];
+                Arrays.fill(narrowMembers, narrow);
+                Arrays.fill(wideMembers, wide);
+                nextNarrow = Core.union(nextNarrow, ListDefinition.tuple(env, narrowMembers));
+                nextWide = Core.union(nextWide, ListDefinition.tuple(env, wideMembers));
+                nextNarrow = Core.union(nextNarrow, new MappingDefinition().define(env,
+                        List.of(new Field("f" + w, narrow)), PredefinedType.NEVER));
+                nextWide = Core.union(nextWide, new MappingDefinition().define(env,
+                        List.of(new Field("f" + w, wide)), PredefinedType.NEVER));
+            }
+            narrow = nextNarrow;
+            wide = nextWide;
+        }
+        return new SemType[]{narrow, wide};
+    }
+
+    private SemType mapping(SemType rest, Field... fields) {
+        return new MappingDefinition().define(env, Arrays.asList(fields), rest);
+    }
+}
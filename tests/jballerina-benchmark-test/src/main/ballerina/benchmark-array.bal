@@ -0,0 +1,57 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.array;
+
+function populateShuffledIntArray(int size) returns int[] {
+    int[] arr = [];
+    int i = 0;
+    while (i < size) {
+        arr.push((i * 7919) % size);
+        i += 1;
+    }
+    return arr;
+}
+
+public function benchmarkArraySortInt(int warmupCount, int benchmarkCount) returns int {
+    int[] arr = populateShuffledIntArray(warmupCount);
+    int[] sorted = arr.sort();
+
+    arr = populateShuffledIntArray(benchmarkCount);
+    int startTime = nanoTime();
+    sorted = arr.sort(array:DESCENDING);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkArraySortString(int warmupCount, int benchmarkCount) returns int {
+    string[] arr = from int i in populateShuffledIntArray(warmupCount) select i.toString();
+    string[] sorted = arr.sort();
+
+    arr = from int i in populateShuffledIntArray(benchmarkCount) select i.toString();
+    int startTime = nanoTime();
+    sorted = arr.sort();
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkArraySortWithKey(int warmupCount, int benchmarkCount) returns int {
+    int[] arr = populateShuffledIntArray(warmupCount);
+    int[] sorted = arr.sort(array:ASCENDING, i => i % 100);
+
+    arr = populateShuffledIntArray(benchmarkCount);
+    int startTime = nanoTime();
+    sorted = arr.sort(array:ASCENDING, i => i % 100);
+    return (nanoTime() - startTime);
+}
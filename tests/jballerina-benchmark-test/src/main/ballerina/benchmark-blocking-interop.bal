@@ -0,0 +1,37 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+const int CONCURRENT_BLOCKING_CALLS = 256;
+
+public function benchmarkConcurrentBlockingInterop() {
+    future<error?>[] futures = [];
+    int i = 0;
+    while (i < CONCURRENT_BLOCKING_CALLS) {
+        futures.push(start blockingSleep(1));
+        i += 1;
+    }
+    foreach future<error?> f in futures {
+        error? result = wait f;
+    }
+}
+
+isolated function blockingSleep(int millis) returns error? = @java:Method {
+    name: "sleep",
+    'class: "java.lang.Thread",
+    paramTypes: ["long"]
+} external;
@@ -0,0 +1,77 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+const int KB = 1024;
+const int MB = 1048576;
+
+public function benchmarkJsonStreamParse1KB(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkJsonParse(KB, warmupCount, benchmarkCount, parseWithStreamParser);
+}
+
+public function benchmarkJsonStreamParse1MB(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkJsonParse(MB, warmupCount, benchmarkCount, parseWithStreamParser);
+}
+
+public function benchmarkJsonStreamParse100MB(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkJsonParse(100 * MB, warmupCount, benchmarkCount, parseWithStreamParser);
+}
+
+public function benchmarkJsonReaderParse1KB(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkJsonParse(KB, warmupCount, benchmarkCount, parseWithReaderParser);
+}
+
+public function benchmarkJsonReaderParse1MB(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkJsonParse(MB, warmupCount, benchmarkCount, parseWithReaderParser);
+}
+
+public function benchmarkJsonReaderParse100MB(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkJsonParse(100 * MB, warmupCount, benchmarkCount, parseWithReaderParser);
+}
+
+// The iteration counts are scaled down with the document size, so that each benchmark parses about
+// `benchmarkCount` KB of JSON.
+function benchmarkJsonParse(int size, int warmupCount, int benchmarkCount,
+                            function (handle doc) returns json parse) returns int {
+    handle doc = createJsonDocument(size);
+    int scale = size / KB;
+    int i = 0;
+    while (i < (warmupCount / scale) + 1) {
+        json result = parse(doc);
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    i = 0;
+    while (i < (benchmarkCount / scale) + 1) {
+        json result = parse(doc);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+function createJsonDocument(int size) returns handle = @java:Method {
+    'class: "org.ballerinalang.benchmark.nativeimpl.JsonDocuments"
+} external;
+
+function parseWithStreamParser(handle doc) returns json = @java:Method {
+    'class: "org.ballerinalang.benchmark.nativeimpl.JsonDocuments"
+} external;
+
+function parseWithReaderParser(handle doc) returns json = @java:Method {
+    'class: "org.ballerinalang.benchmark.nativeimpl.JsonDocuments"
+} external;
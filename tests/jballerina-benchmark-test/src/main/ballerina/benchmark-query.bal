@@ -0,0 +1,72 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function populateIntArray(int size) returns int[] {
+    int[] arr = [];
+    int i = 0;
+    while (i < size) {
+        arr.push(i);
+        i += 1;
+    }
+    return arr;
+}
+
+public function benchmarkQueryArrayWhereSelect(int warmupCount, int benchmarkCount) returns int {
+    int[] arr = populateIntArray(warmupCount);
+    int[] result = from int i in arr
+        let int doubled = i * 2
+        where doubled % 3 == 0
+        select doubled + 1;
+
+    arr = populateIntArray(benchmarkCount);
+    int startTime = nanoTime();
+    result = from int i in arr
+        let int doubled = i * 2
+        where doubled % 3 == 0
+        select doubled + 1;
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkQueryNestedFrom(int warmupCount, int benchmarkCount) returns int {
+    int[] inner = populateIntArray(10);
+    int[] outer = populateIntArray(warmupCount / 10);
+    int[] result = from int i in outer
+        from int j in inner
+        where j % 2 == 0
+        select i + j;
+
+    outer = populateIntArray(benchmarkCount / 10);
+    int startTime = nanoTime();
+    result = from int i in outer
+        from int j in inner
+        where j % 2 == 0
+        select i + j;
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkQueryTableWhereSelect(int warmupCount, int benchmarkCount) returns int {
+    EmployeeTable tbl = populateEmployeeTable(warmupCount);
+    string[] names = from var e in tbl
+        where e.id % 2 == 0
+        select e.name;
+
+    tbl = populateEmployeeTable(benchmarkCount);
+    int startTime = nanoTime();
+    names = from var e in tbl
+        where e.id % 2 == 0
+        select e.name;
+    return (nanoTime() - startTime);
+}
@@ -0,0 +1,109 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Point record {|
+    int x;
+    int y;
+    string label;
+|};
+
+type ImmutablePoint readonly & Point;
+
+type Coordinates record {
+    int x;
+    int y;
+};
+
+function createPoints(int count) returns int {
+    int sum = 0;
+    int i = 0;
+    while (i < count) {
+        Point p = {x: i, y: i + 1, label: "point"};
+        sum += p.y;
+        i += 1;
+    }
+    return sum;
+}
+
+function createImmutablePoints(int count) returns int {
+    int sum = 0;
+    int i = 0;
+    while (i < count) {
+        ImmutablePoint p = {x: i, y: i + 1, label: "point"};
+        sum += p.y;
+        i += 1;
+    }
+    return sum;
+}
+
+function updatePointFields(Point p, int count) returns int {
+    int i = 0;
+    while (i < count) {
+        p.x = p.y + i;
+        p.y = p.x - i;
+        i += 1;
+    }
+    return p.x;
+}
+
+function countCoordinates(anydata[] values, int count) returns int {
+    int matched = 0;
+    int i = 0;
+    while (i < count) {
+        anydata value = values[i % values.length()];
+        if (value is Coordinates) {
+            matched += 1;
+        }
+        i += 1;
+    }
+    return matched;
+}
+
+public function benchmarkRecordCreate(int warmupCount, int benchmarkCount) returns int {
+    int sum = createPoints(warmupCount);
+
+    int startTime = nanoTime();
+    sum = createPoints(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkReadOnlyRecordCreate(int warmupCount, int benchmarkCount) returns int {
+    int sum = createImmutablePoints(warmupCount);
+
+    int startTime = nanoTime();
+    sum = createImmutablePoints(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkRecordFieldAccess(int warmupCount, int benchmarkCount) returns int {
+    Point p = {x: 0, y: 1, label: "point"};
+    int result = updatePointFields(p, warmupCount);
+
+    int startTime = nanoTime();
+    result = updatePointFields(p, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkRecordTypeTest(int warmupCount, int benchmarkCount) returns int {
+    Point p = {x: 0, y: 1, label: "point"};
+    map<int> m = {x: 0, y: 1};
+    anydata[] values = [p, m, "point"];
+    int matched = countCoordinates(values, warmupCount);
+
+    int startTime = nanoTime();
+    matched = countCoordinates(values, benchmarkCount);
+    return (nanoTime() - startTime);
+}
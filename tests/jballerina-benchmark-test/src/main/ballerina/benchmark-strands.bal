@@ -0,0 +1,109 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const int FAN_OUT_COUNT = 16;
+const int CHANNEL_MESSAGE_COUNT = 1000;
+const int CALL_CHAIN_DEPTH = 8;
+const int YIELD_COUNT = 100;
+
+isolated function strandTask(int i) returns int {
+    return i + 1;
+}
+
+public function benchmarkStrandSpawn() {
+    future<int> f = start strandTask(1);
+    int result = wait f;
+}
+
+public function benchmarkStrandFanOut() {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < FAN_OUT_COUNT) {
+        futures.push(start strandTask(i));
+        i += 1;
+    }
+    foreach future<int> f in futures {
+        int result = wait f;
+    }
+}
+
+public function benchmarkStrandHandOff() {
+    worker sender {
+        1 -> receiver;
+        int reply = <- receiver;
+    }
+
+    worker receiver {
+        int value = <- sender;
+        (value + 1) -> sender;
+    }
+
+    wait {sender, receiver};
+}
+
+public function benchmarkWorkerChannelThroughput() {
+    worker producer {
+        int i = 0;
+        while (i < CHANNEL_MESSAGE_COUNT) {
+            i -> consumer;
+            i += 1;
+        }
+        error? result = flush consumer;
+    }
+
+    worker consumer {
+        int sum = 0;
+        int i = 0;
+        while (i < CHANNEL_MESSAGE_COUNT) {
+            int value = <- producer;
+            sum += value;
+            i += 1;
+        }
+    }
+
+    wait {producer, consumer};
+}
+
+public function benchmarkYieldResumeCallChain() {
+    int i = 0;
+    while (i < YIELD_COUNT) {
+        int result = yieldAtDepth(CALL_CHAIN_DEPTH, i);
+        i += 1;
+    }
+}
+
+public function benchmarkNonYieldingCallChain() {
+    int i = 0;
+    while (i < YIELD_COUNT) {
+        int result = sumToDepth(CALL_CHAIN_DEPTH);
+        i += 1;
+    }
+}
+
+function yieldAtDepth(int depth, int value) returns int {
+    if (depth == 0) {
+        future<int> f = start strandTask(value);
+        return wait f;
+    }
+    return yieldAtDepth(depth - 1, value) + 1;
+}
+
+function sumToDepth(int depth) returns int {
+    if (depth == 0) {
+        return 0;
+    }
+    return sumToDepth(depth - 1) + depth;
+}
@@ -0,0 +1,159 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Employee record {|
+    readonly int id;
+    string name;
+|};
+
+type EmployeeTable table<Employee> key(id);
+
+type Project record {|
+    readonly int id;
+    string name;
+|};
+
+type Assignment record {|
+    readonly int id;
+    readonly int projectId;
+|};
+
+type ProjectTable table<Project> key(id);
+
+type AssignmentTable table<Assignment> key(id);
+
+function populateEmployeeTable(int size) returns EmployeeTable {
+    EmployeeTable tbl = table [];
+    int i = 0;
+    while (i < size) {
+        tbl.put({id: i, name: "Name"});
+        i += 1;
+    }
+    return tbl;
+}
+
+function populateProjectTable(int size) returns ProjectTable {
+    ProjectTable tbl = table [];
+    int i = 0;
+    while (i < size) {
+        tbl.put({id: i, name: "Project"});
+        i += 1;
+    }
+    return tbl;
+}
+
+function populateAssignmentTable(int size, int projectCount) returns AssignmentTable {
+    AssignmentTable tbl = table [];
+    int i = 0;
+    while (i < size) {
+        tbl.put({id: i, projectId: i % projectCount});
+        i += 1;
+    }
+    return tbl;
+}
+
+public function benchmarkTablePut(int warmupCount, int benchmarkCount) returns int {
+    EmployeeTable tbl = populateEmployeeTable(warmupCount);
+
+    int startTime = nanoTime();
+    tbl = populateEmployeeTable(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkTableGet(int warmupCount, int benchmarkCount) returns int {
+    EmployeeTable tbl = populateEmployeeTable(warmupCount);
+    int i = 0;
+    while (i < warmupCount) {
+        Employee e = tbl.get(i);
+        i += 1;
+    }
+
+    tbl = populateEmployeeTable(benchmarkCount);
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        Employee e = tbl.get(i);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkTableIterate(int warmupCount, int benchmarkCount) returns int {
+    EmployeeTable tbl = populateEmployeeTable(warmupCount);
+    int sum = 0;
+    foreach Employee e in tbl {
+        sum += e.id;
+    }
+
+    tbl = populateEmployeeTable(benchmarkCount);
+    int startTime = nanoTime();
+    foreach Employee e in tbl {
+        sum += e.id;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkTableRemove(int warmupCount, int benchmarkCount) returns int {
+    EmployeeTable tbl = populateEmployeeTable(warmupCount);
+    int i = 0;
+    while (i < warmupCount) {
+        Employee e = tbl.remove(i);
+        i += 1;
+    }
+
+    tbl = populateEmployeeTable(benchmarkCount);
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        Employee e = tbl.remove(i);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkTableJoinOnIndexedField(int warmupCount, int benchmarkCount) returns int {
+    ProjectTable projects = populateProjectTable(warmupCount);
+    AssignmentTable assignments = populateAssignmentTable(warmupCount, warmupCount);
+    string[] names = from var p in projects
+        join var a in assignments on p.id equals a.projectId
+        select p.name;
+
+    projects = populateProjectTable(benchmarkCount);
+    assignments = populateAssignmentTable(benchmarkCount, benchmarkCount);
+    int startTime = nanoTime();
+    names = from var p in projects
+        join var a in assignments on p.id equals a.projectId
+        select p.name;
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkTableWhereOnIndexedField(int warmupCount, int benchmarkCount) returns int {
+    AssignmentTable assignments = populateAssignmentTable(warmupCount, 100);
+    int i = 0;
+    while (i < 100) {
+        int[] ids = from var a in assignments where a.projectId == 7 select a.id;
+        i += 1;
+    }
+
+    assignments = populateAssignmentTable(benchmarkCount, 100);
+    i = 0;
+    int startTime = nanoTime();
+    while (i < 100) {
+        int[] ids = from var a in assignments where a.projectId == 7 select a.id;
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
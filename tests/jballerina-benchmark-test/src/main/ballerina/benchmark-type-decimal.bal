@@ -0,0 +1,37 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+public function benchmarkDecimalAddition() {
+    decimal a = 12.50;
+    decimal b = 3.75;
+    decimal c = a + b;
+}
+
+public function benchmarkDecimalMultiplication() {
+    decimal price = 19.99;
+    decimal quantity = 3;
+    decimal total = price * quantity;
+}
+
+public function benchmarkDecimalSum() {
+    decimal total = 0;
+    decimal price = 0.25;
+    int i = 0;
+    while (i < 100) {
+        total = total + price * 1.08;
+        i += 1;
+    }
+}
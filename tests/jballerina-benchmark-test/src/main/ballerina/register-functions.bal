@@ -36,6 +36,28 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkTablePut", benchmarkTablePut);
+    addSingleExecFunction("benchmarkTableGet", benchmarkTableGet);
+    addSingleExecFunction("benchmarkTableIterate", benchmarkTableIterate);
+    addSingleExecFunction("benchmarkTableRemove", benchmarkTableRemove);
+    addSingleExecFunction("benchmarkTableJoinOnIndexedField", benchmarkTableJoinOnIndexedField);
+    addSingleExecFunction("benchmarkTableWhereOnIndexedField", benchmarkTableWhereOnIndexedField);
+    addSingleExecFunction("benchmarkRecordCreate", benchmarkRecordCreate);
+    addSingleExecFunction("benchmarkReadOnlyRecordCreate", benchmarkReadOnlyRecordCreate);
+    addSingleExecFunction("benchmarkRecordFieldAccess", benchmarkRecordFieldAccess);
+    addSingleExecFunction("benchmarkRecordTypeTest", benchmarkRecordTypeTest);
+    addSingleExecFunction("benchmarkJsonStreamParse1KB", benchmarkJsonStreamParse1KB);
+    addSingleExecFunction("benchmarkJsonStreamParse1MB", benchmarkJsonStreamParse1MB);
+    addSingleExecFunction("benchmarkJsonStreamParse100MB", benchmarkJsonStreamParse100MB);
+    addSingleExecFunction("benchmarkJsonReaderParse1KB", benchmarkJsonReaderParse1KB);
+    addSingleExecFunction("benchmarkJsonReaderParse1MB", benchmarkJsonReaderParse1MB);
+    addSingleExecFunction("benchmarkJsonReaderParse100MB", benchmarkJsonReaderParse100MB);
+    addSingleExecFunction("benchmarkQueryArrayWhereSelect", benchmarkQueryArrayWhereSelect);
+    addSingleExecFunction("benchmarkQueryNestedFrom", benchmarkQueryNestedFrom);
+    addSingleExecFunction("benchmarkQueryTableWhereSelect", benchmarkQueryTableWhereSelect);
+    addSingleExecFunction("benchmarkArraySortInt", benchmarkArraySortInt);
+    addSingleExecFunction("benchmarkArraySortString", benchmarkArraySortString);
+    addSingleExecFunction("benchmarkArraySortWithKey", benchmarkArraySortWithKey);
 }
 
 public function registerMultiExecFunctions() {
@@ -55,6 +77,7 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkStringIndexOf", benchmarkStringIndexOf);
     addMultiExecFunction("benchmarkStringEqualsIgnoreCase", benchmarkStringEqualsIgnoreCase);
     addMultiExecFunction("benchmarkStringConcat", benchmarkStringConcat);
+    addMultiExecFunction("benchmarkStringConcatInLoop", benchmarkStringConcatInLoop);
     addMultiExecFunction("benchmarkFloatAddition", benchmarkFloatAddition);
     addMultiExecFunction("benchmarkFloatAdditionWithReturn", benchmarkFloatAdditionWithReturn);
     addMultiExecFunction("benchmarkFloatMultiplication", benchmarkFloatMultiplication);
@@ -63,4 +86,14 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkFloatSubtractionWithReturn", benchmarkFloatSubtractionWithReturn);
     addMultiExecFunction("benchmarkFloatDivision", benchmarkFloatDivision);
     addMultiExecFunction("benchmarkFloatDivisionWithReturn", benchmarkFloatDivisionWithReturn);
+    addMultiExecFunction("benchmarkDecimalAddition", benchmarkDecimalAddition);
+    addMultiExecFunction("benchmarkDecimalMultiplication", benchmarkDecimalMultiplication);
+    addMultiExecFunction("benchmarkDecimalSum", benchmarkDecimalSum);
+    addMultiExecFunction("benchmarkStrandSpawn", benchmarkStrandSpawn);
+    addMultiExecFunction("benchmarkStrandFanOut", benchmarkStrandFanOut);
+    addMultiExecFunction("benchmarkStrandHandOff", benchmarkStrandHandOff);
+    addMultiExecFunction("benchmarkWorkerChannelThroughput", benchmarkWorkerChannelThroughput);
+    addMultiExecFunction("benchmarkYieldResumeCallChain", benchmarkYieldResumeCallChain);
+    addMultiExecFunction("benchmarkNonYieldingCallChain", benchmarkNonYieldingCallChain);
+    addMultiExecFunction("benchmarkConcurrentBlockingInterop", benchmarkConcurrentBlockingInterop);
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.ballerinalang.benchmark.nativeimpl;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class creates and parses the JSON documents used for benchmarking the JSON parsers.
+ *
+ * @since 2201.2.0
+ */
+public class JsonDocuments {
+
+    private JsonDocuments() {
+    }
+
+    /**
+     * Creates a UTF-8 encoded JSON array of records, of about the given size.
+     *
+     * @param size size of the document in bytes
+     * @return the encoded document
+     */
+    public static byte[] createJsonDocument(long size) {
+        StringBuilder doc = new StringBuilder((int) size + 256);
+        doc.append('[');
+        for (int i = 0; doc.length() < size; i++) {
+            if (i > 0) {
+                doc.append(",\n");
+            }
+            doc.append("{\"id\": ").append(i)
+                    .append(", \"name\": \"item-").append(i)
+                    .append("\", \"price\": ").append(i % 1000).append(".25")
+                    .append(", \"available\": ").append(i % 2 == 0)
+                    .append(", \"tags\": [\"new\", \"sale\", \"café\"]")
+                    .append(", \"description\": \"A \\\"quoted\\\" description of the item\"}");
+        }
+        doc.append(']');
+        return doc.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static Object parseWithStreamParser(byte[] doc) {
+        return JsonUtils.parse(new ByteArrayInputStream(doc), StandardCharsets.UTF_8.name());
+    }
+
+    public static Object parseWithReaderParser(byte[] doc) {
+        return JsonUtils.parse(new InputStreamReader(new ByteArrayInputStream(doc), StandardCharsets.UTF_8),
+                               JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+    }
+}
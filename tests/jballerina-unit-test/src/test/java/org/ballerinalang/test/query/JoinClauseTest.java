@@ -115,6 +115,24 @@ public class JoinClauseTest {
         Assert.assertTrue((Boolean) values);
     }
 
+    @Test(description = "Test join clause over a table having the join key as a readonly field")
+    public void testJoinClauseWithTableIndex() {
+        Object values = BRunUtil.invoke(result, "testJoinClauseWithTableIndex");
+        Assert.assertTrue((Boolean) values);
+    }
+
+    @Test(description = "Test outer join clause over a table having the join key as a readonly field")
+    public void testOuterJoinClauseWithTableIndex() {
+        Object values = BRunUtil.invoke(result, "testOuterJoinClauseWithTableIndex");
+        Assert.assertTrue((Boolean) values);
+    }
+
+    @Test(description = "Test join clause matching keys using value equality")
+    public void testJoinClauseWithValueEqualityOfKeys() {
+        Object values = BRunUtil.invoke(result, "testJoinClauseWithValueEqualityOfKeys");
+        Assert.assertTrue((Boolean) values);
+    }
+
     @Test(description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 32);
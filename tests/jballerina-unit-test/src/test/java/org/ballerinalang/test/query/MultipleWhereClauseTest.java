@@ -86,6 +86,12 @@ public class MultipleWhereClauseTest {
         Assert.assertEquals((person1.get(StringUtils.fromString("score"))), 90.6);
     }
 
+    @Test(description = "Test where clause over a table, comparing readonly fields")
+    public void testWhereClauseWithTableIndex() {
+        Object values = BRunUtil.invoke(result, "testWhereClauseWithTableIndex");
+        Assert.assertTrue((Boolean) values);
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.query;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.transactions.TransactionLocalContext;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test queries whose rows can be processed in parallel. These tests are run by the parallelQueryTest task, which
+ * enables parallel query execution for the whole JVM.
+ *
+ * @since 2201.2.0
+ */
+@Test(groups = "parallel-query")
+public class ParallelQueryTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/query/parallel-query.bal");
+    }
+
+    @Test(description = "Test where clause over a list large enough to be processed in parallel")
+    public void testWhereClauseOverLargeList() {
+        Object values = BRunUtil.invoke(result, "testWhereClauseOverLargeList");
+        Assert.assertTrue((Boolean) values);
+    }
+
+    @Test(description = "Test error in the select clause of a query over a list processed in parallel")
+    public void testWhereClauseOverLargeListWithError() {
+        Object values = BRunUtil.invoke(result, "testWhereClauseOverLargeListWithError");
+        Assert.assertTrue((Boolean) values);
+    }
+
+    @Test(description = "Test query passing a list from outside the query to a function in a list constructor")
+    public void testOuterListPassedInListConstructor() {
+        Object values = BRunUtil.invoke(result, "testOuterListPassedInListConstructor");
+        Assert.assertTrue((Boolean) values);
+    }
+
+    @Test(description = "Test query passing a list from outside the query to a function in a mapping constructor")
+    public void testOuterListPassedInMappingConstructor() {
+        Object values = BRunUtil.invoke(result, "testOuterListPassedInMappingConstructor");
+        Assert.assertTrue((Boolean) values);
+    }
+
+    @Test(description = "Test the strands processing the rows of a query in parallel get the strand locals")
+    public void testStrandLocalsInParallelQuery() {
+        Object values = BRunUtil.invoke(result, "testStrandLocalsInParallelQuery");
+        Assert.assertTrue((Boolean) values);
+    }
+
+    @Test(description = "Test the rows of a query are processed sequentially within a transaction")
+    public void testParallelQueryInTransaction() {
+        Object values = BRunUtil.invoke(result, "testParallelQueryInTransaction");
+        Assert.assertTrue((Boolean) values);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+
+    public static long getStrandId(Environment env) {
+        return env.getStrandId();
+    }
+
+    public static void setStrandLocal(Environment env, BString key, BString value) {
+        env.setStrandLocal(key.getValue(), value);
+    }
+
+    public static Object getStrandLocal(Environment env, BString key) {
+        return env.getStrandLocal(key.getValue());
+    }
+
+    public static void beginTransaction() {
+        TransactionResourceManager.getInstance().setCurrentTransactionContext(
+                TransactionLocalContext.create("parallel-query-test", "", "2pc"));
+    }
+
+    public static void endTransaction() {
+        TransactionResourceManager.getInstance().cleanupTransactionContext();
+    }
+
+    public static boolean isInTransaction() {
+        return TransactionResourceManager.getInstance().isInTransaction();
+    }
+}
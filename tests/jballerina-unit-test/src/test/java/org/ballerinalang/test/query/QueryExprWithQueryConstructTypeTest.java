@@ -137,6 +137,22 @@ public class QueryExprWithQueryConstructTypeTest {
         Assert.assertTrue((Boolean) returnValues);
     }
 
+    @Test(description = "Test query expr returning a table with many rows")
+    public void testLargeTableFromQuery() {
+        Object returnValues = BRunUtil.invoke(result, "testLargeTableFromQuery");
+        Assert.assertTrue((Boolean) returnValues);
+    }
+
+    @Test(description = "Test query expr returning table with a key conflict before a failing check")
+    public void testKeyConflictBeforeLaterError() {
+        BRunUtil.invoke(result, "testKeyConflictBeforeLaterError");
+    }
+
+    @Test(description = "Test query expr returning table stops evaluating rows at a key conflict")
+    public void testKeyConflictStopsQuery() {
+        BRunUtil.invoke(result, "testKeyConflictStopsQuery");
+    }
+
     @Test(description = "Test negative scenarios for query expr with query construct type")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 5);
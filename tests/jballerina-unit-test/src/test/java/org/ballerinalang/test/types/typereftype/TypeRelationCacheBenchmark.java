@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.types.typereftype;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.CompileResult;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeDefinitionSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.tree.BLangFunction;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.tree.BLangSimpleVariable;
+import org.wso2.ballerinalang.compiler.tree.BLangTypeDefinition;
+import org.wso2.ballerinalang.compiler.tree.BLangVariable;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures the cost of the isAssignable checks between the named types of the existing test sources, with and
+ * without the type relation cache of {@link Types}.
+ * <p>
+ * Each single file source in the given directories of {@code src/test/resources/test-src} is compiled, and
+ * isAssignable is called for every pair of the named types its module defines or uses. For each file, the time
+ * per check is reported
+ * - when the type relation cache is cleared before each check, so that no result is reused, and
+ * - when the results are already in the cache.
+ * <p>
+ * Run with {@code ./gradlew :jballerina-unit-test:typeRelationCacheBenchmark [-PbenchmarkSources=record,query]}.
+ *
+ * @since 2201.2.0
+ */
+public class TypeRelationCacheBenchmark {
+
+    private static final PrintStream OUT = System.out;
+    private static final Path TEST_RESOURCES = Paths.get("src/test/resources");
+    private static final Path TEST_SOURCES = TEST_RESOURCES.resolve("test-src");
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int BENCHMARK_ROUNDS = 20;
+
+    public static void main(String[] args) throws IOException {
+        OUT.println("Source,Named types,Checks,Uncached (ns/check),Cached (ns/check)");
+        for (String directory : args) {
+            for (Path source : getSourceFiles(TEST_SOURCES.resolve(directory))) {
+                benchmark(TEST_RESOURCES.relativize(source).toString());
+            }
+        }
+    }
+
+    // Returns the single file sources in the directory, skipping the ones that belong to a project.
+    private static List<Path> getSourceFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(file -> file.toString().endsWith(".bal") && !isInProject(file, directory))
+                    .sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static boolean isInProject(Path file, Path directory) {
+        for (Path parent = file.getParent(); parent != null && parent.startsWith(directory);
+             parent = parent.getParent()) {
+            if (Files.exists(parent.resolve("Ballerina.toml"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void benchmark(String source) {
+        CompileResult result;
+        try {
+            result = BCompileUtil.compileWithoutInitInvocation(source);
+        } catch (RuntimeException e) {
+            return;
+        }
+        if (result.getErrorCount() > 0) {
+            return;
+        }
+        Types types = Types.getInstance(result.project().projectEnvironmentContext().getService(CompilerContext.class));
+        List<BType> namedTypes = getNamedTypes((BLangPackage) result.getAST());
+        if (namedTypes.isEmpty()) {
+            return;
+        }
+        long checks = (long) namedTypes.size() * namedTypes.size();
+
+        // clearing the cache before each check also drops the isSameType results reused by the following checks
+        long uncached = measure(() -> checkAllPairs(types, namedTypes, true));
+        long cached = measure(() -> checkAllPairs(types, namedTypes, false));
+        OUT.printf("%s,%d,%d,%.1f,%.1f%n", source, namedTypes.size(), checks, (double) uncached / checks,
+                (double) cached / checks);
+    }
+
+    private static List<BType> getNamedTypes(BLangPackage pkg) {
+        Set<BType> namedTypes = new LinkedHashSet<>();
+        for (BLangTypeDefinition typeDefinition : pkg.typeDefinitions) {
+            if (typeDefinition.symbol instanceof BTypeDefinitionSymbol) {
+                addNamedType(namedTypes, ((BTypeDefinitionSymbol) typeDefinition.symbol).referenceType);
+            }
+        }
+        for (BLangVariable variable : pkg.globalVars) {
+            addNamedType(namedTypes, variable.getBType());
+        }
+        for (BLangFunction function : pkg.functions) {
+            for (BLangSimpleVariable param : function.requiredParams) {
+                addNamedType(namedTypes, param.getBType());
+            }
+        }
+        return new ArrayList<>(namedTypes);
+    }
+
+    private static void addNamedType(Set<BType> namedTypes, BType type) {
+        if (type != null && type.tag == TypeTags.TYPEREFDESC) {
+            namedTypes.add(type);
+        }
+    }
+
+    private static void checkAllPairs(Types types, List<BType> namedTypes, boolean clearCache) {
+        for (BType source : namedTypes) {
+            for (BType target : namedTypes) {
+                if (clearCache) {
+                    types.clearTypeRelationCache();
+                }
+                types.isAssignable(source, target);
+            }
+        }
+    }
+
+    // Returns the average time taken by a round, in nanoseconds.
+    private static long measure(Runnable round) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.run();
+        }
+        long startTime = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ROUNDS; i++) {
+            round.run();
+        }
+        return (System.nanoTime() - startTime) / BENCHMARK_ROUNDS;
+    }
+}
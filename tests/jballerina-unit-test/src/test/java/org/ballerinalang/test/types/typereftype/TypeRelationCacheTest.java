@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.types.typereftype;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.tree.BLangSimpleVariable;
+import org.wso2.ballerinalang.compiler.tree.BLangVariable;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.ballerinalang.test.BAssertUtil.validateError;
+
+/**
+ * Test the cached results of the type relation checks between named types.
+ *
+ * @since 2201.2.0
+ */
+public class TypeRelationCacheTest {
+
+    private CompileResult result;
+    private Types types;
+    private Map<String, BType> namedTypes;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/types/typereftype/type_relation_cache.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+        types = Types.getInstance(result.project().projectEnvironmentContext().getService(CompilerContext.class));
+        namedTypes = new LinkedHashMap<>();
+        for (BLangVariable variable : ((BLangPackage) result.getAST()).globalVars) {
+            // the desugared package also has generated variables, which are not of named types
+            BType type = variable.getBType();
+            if (type.tag == TypeTags.TYPEREFDESC) {
+                namedTypes.put(((BLangSimpleVariable) variable).name.value, type);
+            }
+        }
+        Assert.assertEquals(namedTypes.size(), 9);
+    }
+
+    @Test
+    public void testCachedAssignability() {
+        Assert.assertTrue(isAssignable("intFields", "intOrBooleanFields"));
+        Assert.assertTrue(isAssignable("intFields", "fields"));
+        Assert.assertTrue(isAssignable("immutableIntFields", "intFields"));
+        Assert.assertTrue(isAssignable("intList", "intOrStringList"));
+        Assert.assertTrue(isAssignable("laterDefinedFields", "laterDefinedFields"));
+        Assert.assertFalse(isAssignable("intOrBooleanFields", "intOrStringFields"));
+        Assert.assertFalse(isAssignable("intOrStringList", "intList"));
+        Assert.assertFalse(isAssignable("fields", "intFields"));
+        Assert.assertFalse(isAssignable("wrapper", "laterDefinedFields"));
+    }
+
+    @Test
+    public void testCachedResultsMatchUncachedResults() {
+        for (int i = 0; i < 2; i++) {
+            for (BType source : namedTypes.values()) {
+                for (BType target : namedTypes.values()) {
+                    // checks that ignore object type ids are never cached
+                    boolean expected = types.isAssignableIgnoreObjectTypeIds(source, target);
+                    Assert.assertEquals(types.isAssignable(source, target), expected);
+                    Assert.assertEquals(types.isAssignable(source, target), expected);
+                }
+            }
+            types.clearTypeRelationCache();
+        }
+    }
+
+    @Test
+    public void testCachedSameType() {
+        Assert.assertTrue(isSameType("intFields", "intFields"));
+        Assert.assertTrue(isSameType("intList", "intList"));
+        Assert.assertFalse(isSameType("intOrBooleanFields", "intOrStringFields"));
+        Assert.assertFalse(isSameType("intList", "intOrStringList"));
+    }
+
+    @Test
+    public void testRepeatedNamedTypeAssignability() {
+        BRunUtil.invoke(result, "testRepeatedNamedTypeAssignability");
+    }
+
+    @Test
+    public void testRepeatedNamedTypeAssignabilityNegative() {
+        CompileResult negativeResult =
+                BCompileUtil.compile("test-src/types/typereftype/type_relation_cache_negative.bal");
+        int i = 0;
+        validateError(negativeResult, i++, "incompatible types: expected 'IntOrStringFields', " +
+                "found 'IntOrBooleanFields'", 29, 28);
+        validateError(negativeResult, i++, "incompatible types: expected 'IntOrStringFields', " +
+                "found 'IntOrBooleanFields'", 30, 27);
+        validateError(negativeResult, i++, "incompatible types: expected 'IntOrBooleanFields', " +
+                "found 'IntOrStringFields'", 33, 28);
+        validateError(negativeResult, i++, "incompatible types: expected 'IntOrBooleanFields', " +
+                "found 'IntOrStringFields'", 34, 28);
+        Assert.assertEquals(negativeResult.getErrorCount(), i);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+        types = null;
+        namedTypes = null;
+    }
+
+    private boolean isAssignable(String source, String target) {
+        // the second check is answered from the cache
+        boolean assignable = types.isAssignable(namedTypes.get(source), namedTypes.get(target));
+        Assert.assertEquals(types.isAssignable(namedTypes.get(source), namedTypes.get(target)), assignable);
+        return assignable;
+    }
+
+    private boolean isSameType(String source, String target) {
+        boolean sameType = types.isSameType(namedTypes.get(source), namedTypes.get(target));
+        Assert.assertEquals(types.isSameType(namedTypes.get(source), namedTypes.get(target)), sameType);
+        return sameType;
+    }
+}
@@ -455,3 +455,88 @@ function getDeptName(int id) returns string {
         return "Operations";
     }
 }
+
+type Employee record {|
+    readonly int id;
+    readonly int deptId;
+    string name;
+|};
+
+function testJoinClauseWithTableIndex() returns boolean {
+    table<Department> deptTable = table [
+        {id: 1, name: "HR"},
+        {id: 2, name: "Operations"}
+    ];
+    table<Employee> key(id) empTable = table [
+        {id: 1, deptId: 2, name: "Alex"},
+        {id: 2, deptId: 1, name: "Ranjan"},
+        {id: 3, deptId: 2, name: "John"}
+    ];
+
+    string[] empDepts =
+       from var dept in deptTable
+       join var emp in empTable
+       on dept.id equals emp.deptId
+       select emp.name + ":" + dept.name;
+
+    boolean testPassed = empDepts == ["Ranjan:HR", "Alex:Operations", "John:Operations"];
+
+    // the index is updated along with the table
+    _ = empTable.remove(1);
+    empTable.put({id: 1, deptId: 1, name: "Alex"});
+    empTable.add({id: 4, deptId: 3, name: "Mike"});
+    empDepts =
+       from var dept in deptTable
+       join var emp in empTable
+       on dept.id equals emp.deptId
+       select emp.name + ":" + dept.name;
+
+    return testPassed && empDepts == ["Ranjan:HR", "Alex:HR", "John:Operations"];
+}
+
+function testOuterJoinClauseWithTableIndex() returns boolean {
+    table<Department> deptTable = table [
+        {id: 1, name: "HR"},
+        {id: 2, name: "Operations"},
+        {id: 3, name: "Finance"}
+    ];
+    table<Employee> key(id) empTable = table [
+        {id: 1, deptId: 2, name: "Alex"},
+        {id: 2, deptId: 1, name: "Ranjan"}
+    ];
+
+    string[] deptEmps =
+       from var dept in deptTable
+       outer join var emp in empTable
+       on dept.id equals emp.deptId
+       select dept.name + ":" + (emp?.name ?: "-");
+
+    return deptEmps == ["HR:Ranjan", "Operations:Alex", "Finance:-"];
+}
+
+function testJoinClauseWithValueEqualityOfKeys() returns boolean {
+    (int|string)[] ids = [1, "1", 2];
+    (int|string)[] otherIds = ["1", 2, "2"];
+    string[] matchedIds =
+       from var id in ids
+       join var otherId in otherIds
+       on id equals otherId
+       select id.toString();
+
+    decimal[] amounts = [1.0, 2.50];
+    decimal[] otherAmounts = [1.00, 2.5, 3];
+    decimal[] matchedAmounts =
+       from var amount in amounts
+       join var otherAmount in otherAmounts
+       on amount equals otherAmount
+       select otherAmount;
+
+    float[] values = [0.0, 1.5];
+    float[] otherValues = [-0.0, 1.5];
+    int matchedValueCount = (from var value in values
+       join var otherValue in otherValues
+       on value equals otherValue
+       select value).length();
+
+    return matchedIds == ["1", "2"] && matchedAmounts == [1.00d, 2.5d] && matchedValueCount == 2;
+}
@@ -100,3 +100,34 @@ function testLogicalOperandsWithWhere() returns Student[]{
 
     return  outputStudentList;
 }
+
+type Employee record {|
+    readonly int id;
+    readonly string dept;
+    readonly int grade;
+|};
+
+const HR = "HR";
+
+function testWhereClauseWithTableIndex() returns boolean {
+    table<Employee> key(id) empTable = table [
+        {id: 1, dept: "HR", grade: 3},
+        {id: 2, dept: "Operations", grade: 1},
+        {id: 3, dept: "HR", grade: 2},
+        {id: 4, dept: "Finance", grade: 5}
+    ];
+    final int minGrade = 2;
+
+    int[] hrIds = from var emp in empTable where emp.dept == HR select emp.id;
+    int[] seniorIds = from var emp in empTable where minGrade < emp.grade select emp.id;
+    int[] seniorHrIds = from var emp in empTable
+        where emp.grade >= minGrade && emp.dept == "HR"
+        where emp.id > 1
+        select emp.id;
+
+    empTable.put({id: 2, dept: "HR", grade: 4});
+    int[] hrIdsAfterPut = from var emp in empTable where emp.dept == HR select emp.id;
+
+    return hrIds == [1, 3] && seniorIds == [1, 4] && seniorHrIds == [3] && hrIdsAfterPut == [1, 2, 3];
+}
+
@@ -385,6 +385,36 @@ function testQueryExprWithOrderByClauseHavingNaNNilValues() returns boolean {
     return testPassed;
 }
 
+function testQueryExprWithOrderByAndLimitClauses() returns boolean {
+    record {|string name; int? score;|}[] scores = [
+        {name: "A", score: 5},
+        {name: "B", score: ()},
+        {name: "C", score: 9},
+        {name: "D", score: 5},
+        {name: "E", score: 1},
+        {name: "F", score: 9},
+        {name: "G", score: 5}
+    ];
+
+    string[] topNames = from var s in scores
+        order by s.score descending
+        limit 4
+        select s.name;
+
+    string[] bottomNames = from var s in scores
+        order by s.score ascending, s.name descending
+        limit 3
+        select s.name;
+
+    string[] allNames = from var s in scores
+        order by s.score descending
+        limit 10
+        select s.name;
+
+    return topNames == ["C", "F", "A", "D"] && bottomNames == ["E", "G", "D"] &&
+        allNames == ["C", "F", "A", "D", "G", "E", "B"];
+}
+
 function testQueryExprWithOrderByClauseReturnString() returns string {
     Person p1 = {firstName: "Amy", lastName: "Melina", age: 34};
     Person p2 = {firstName: "Frank", lastName: "James", age: 30};
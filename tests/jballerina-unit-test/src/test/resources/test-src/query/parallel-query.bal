@@ -0,0 +1,140 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+type IntList record {|
+    int[] values;
+|};
+
+isolated function isMultipleOf(int n, int divisor) returns boolean => n % divisor == 0;
+
+isolated function addToFirstList(int[][] lists, int n) returns int {
+    lists[0].push(n);
+    return n;
+}
+
+isolated function addToList(IntList list, int n) returns int {
+    list.values.push(n);
+    return n;
+}
+
+function createNumbers(int count) returns int[] {
+    int[] numbers = [];
+    foreach int i in 0 ..< count {
+        numbers.push(i);
+    }
+    return numbers;
+}
+
+function testWhereClauseOverLargeList() returns boolean {
+    int[] numbers = createNumbers(20000);
+    int[] expected = [];
+    foreach int n in numbers {
+        if isMultipleOf(n, 3) {
+            expected.push(n * 2);
+        }
+    }
+
+    int[] result = from int n in numbers
+        let int doubled = n * 2
+        where isMultipleOf(n, 3)
+        select doubled;
+    return result == expected;
+}
+
+function testWhereClauseOverLargeListWithError() returns boolean {
+    string[] values = [];
+    foreach int i in 0 ..< 20000 {
+        values.push(i == 15000 ? "invalid" : i.toString());
+    }
+
+    int[]|error result = from string s in values
+        where s.length() > 0
+        select check int:fromString(s);
+    return result is error && result.message() == "{ballerina/lang.int}NumberParsingError";
+}
+
+function testOuterListPassedInListConstructor() returns boolean {
+    int[] numbers = createNumbers(20000);
+    int[] collected = [];
+    int[] result = from int n in numbers
+        select addToFirstList([collected], n);
+    return result == numbers && collected == numbers;
+}
+
+function testOuterListPassedInMappingConstructor() returns boolean {
+    int[] numbers = createNumbers(20000);
+    int[] collected = [];
+    int[] result = from int n in numbers
+        select addToList({values: collected}, n);
+    return result == numbers && collected == numbers;
+}
+
+function testStrandLocalsInParallelQuery() returns boolean {
+    int[] numbers = createNumbers(20000);
+    int queryStrandId = getStrandId();
+    setStrandLocal("traceId", "parallel-query-trace");
+    int[] strandIds = from int n in numbers
+        where n >= 0
+        select getStrandId();
+    string?[] traceIds = from int n in numbers
+        where n >= 0
+        select getStrandLocal("traceId");
+    return strandIds.some(id => id != queryStrandId) && traceIds.every(id => id == "parallel-query-trace");
+}
+
+function testParallelQueryInTransaction() returns boolean {
+    int[] numbers = createNumbers(20000);
+    int queryStrandId = getStrandId();
+    beginTransaction();
+    int[] strandIds = from int n in numbers
+        where n >= 0
+        select getStrandId();
+    boolean[] inTransaction = from int n in numbers
+        where n >= 0
+        select isInTransaction();
+    endTransaction();
+    boolean[] afterTransaction = from int n in numbers
+        where n >= 0
+        select isInTransaction();
+    return strandIds.every(id => id == queryStrandId) && inTransaction.every(b => b) &&
+        afterTransaction.every(b => !b);
+}
+
+isolated function getStrandId() returns int = @java:Method {
+    'class: "org.ballerinalang.test.query.ParallelQueryTest"
+} external;
+
+isolated function setStrandLocal(string key, string value) = @java:Method {
+    'class: "org.ballerinalang.test.query.ParallelQueryTest"
+} external;
+
+isolated function getStrandLocal(string key) returns string? = @java:Method {
+    'class: "org.ballerinalang.test.query.ParallelQueryTest"
+} external;
+
+isolated function beginTransaction() = @java:Method {
+    'class: "org.ballerinalang.test.query.ParallelQueryTest"
+} external;
+
+isolated function endTransaction() = @java:Method {
+    'class: "org.ballerinalang.test.query.ParallelQueryTest"
+} external;
+
+isolated function isInTransaction() returns boolean = @java:Method {
+    'class: "org.ballerinalang.test.query.ParallelQueryTest"
+} external;
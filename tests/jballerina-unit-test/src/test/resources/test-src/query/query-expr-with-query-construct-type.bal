@@ -473,6 +473,59 @@ function testKeyLessTableWithReturnTable() returns boolean {
     return testPassed;
 }
 
+function testLargeTableFromQuery() returns boolean {
+    int[] ids = [];
+    foreach int i in 0 ..< 100000 {
+        ids.push(i);
+    }
+
+    CustomerTable|error customerTable = table key(id, name) from int id in ids
+        select {
+            id: id,
+            name: "Customer " + id.toString(),
+            noOfItems: id % 10
+        };
+
+    if (customerTable is error) {
+        return false;
+    }
+    Customer? customer = customerTable[54321, "Customer 54321"];
+    return customerTable.length() == 100000 && customer is Customer && customer.noOfItems == 1
+        && customerTable.toArray()[99999].id == 99999;
+}
+
+function testKeyConflictBeforeLaterError() {
+    error onConflictError = error("Key Conflict", message = "cannot insert.");
+    string[] counts = ["12", "5", "12", "twenty"];
+
+    CustomerTable|error customerTable = table key(id, name) from string count in counts
+        let int noOfItems = check int:fromString(count)
+        select {
+            id: noOfItems,
+            name: "Melina",
+            noOfItems: noOfItems
+        }
+        on conflict onConflictError;
+
+    validateKeyConflictError(customerTable);
+}
+
+function testKeyConflictStopsQuery() {
+    error onConflictError = error("Key Conflict", message = "cannot insert.");
+    string[] counts = ["12", "12", "twenty"];
+
+    CustomerTable|error customerTable = table key(id, name) from string count in counts
+        let int noOfItems = checkpanic int:fromString(count)
+        select {
+            id: noOfItems,
+            name: "Melina",
+            noOfItems: noOfItems
+        }
+        on conflict onConflictError;
+
+    validateKeyConflictError(customerTable);
+}
+
 type User record {
     readonly int id;
     string firstName;
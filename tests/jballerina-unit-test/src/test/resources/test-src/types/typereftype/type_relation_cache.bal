@@ -0,0 +1,88 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type IntOrBooleanFields record {|
+    int|string|boolean a;
+    int|boolean b;
+|};
+
+type IntOrStringFields record {|
+    int|string|boolean a;
+    int|string b;
+|};
+
+type IntFields record {|
+    int a;
+    int b;
+|};
+
+type Fields IntOrBooleanFields|IntOrStringFields;
+
+type ImmutableIntFields readonly & IntFields;
+
+type IntList record {|
+    int value;
+    IntList? next;
+|};
+
+type IntOrStringList record {|
+    int|string value;
+    IntOrStringList? next;
+|};
+
+// defined after the types that refer to it
+type Wrapper record {|
+    LaterDefinedFields fields;
+|};
+
+type LaterDefinedFields record {|
+    int a;
+|};
+
+IntOrBooleanFields intOrBooleanFields = {a: 1, b: true};
+IntOrStringFields intOrStringFields = {a: 1, b: "b"};
+IntFields intFields = {a: 1, b: 2};
+Fields fields = intFields;
+ImmutableIntFields immutableIntFields = {a: 1, b: 2};
+IntList intList = {value: 1, next: ()};
+IntOrStringList intOrStringList = {value: 1, next: ()};
+Wrapper wrapper = {fields: {a: 1}};
+LaterDefinedFields laterDefinedFields = {a: 1};
+
+function testRepeatedNamedTypeAssignability() {
+    foreach int i in 0 ..< 3 {
+        IntOrBooleanFields r1 = intFields;
+        IntOrStringFields r2 = intFields;
+        Fields r3 = r1;
+        Fields r4 = r2;
+        IntFields r5 = immutableIntFields;
+        IntOrStringList l1 = intList;
+        any a1 = r3;
+        any a2 = r4;
+        any a3 = l1;
+        assertTrue(r5 == intFields);
+        assertTrue(a1 is IntOrBooleanFields);
+        assertTrue(a2 is IntOrStringFields);
+        assertTrue(a3 is IntList);
+    }
+}
+
+function assertTrue(boolean actual) {
+    if actual {
+        return;
+    }
+    panic error("expected true");
+}
@@ -0,0 +1,35 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type IntOrBooleanFields record {|
+    int|string|boolean a;
+    int|boolean b;
+|};
+
+type IntOrStringFields record {|
+    int|string|boolean a;
+    int|string b;
+|};
+
+function testRepeatedNamedTypeAssignabilityNegative() {
+    IntOrBooleanFields r1 = {a: 1, b: true};
+    IntOrStringFields r2 = r1;
+    IntOrStringFields _ = r1;
+    record {|int|string|boolean a; int|string|boolean b;|} _ = r1;
+    IntOrBooleanFields _ = r1;
+    IntOrBooleanFields _ = r2;
+    IntOrBooleanFields _ = r2;
+}